@@ -11,15 +11,25 @@
 
 package org.kitodo.api.dataformat;
 
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.GregorianCalendar;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.kitodo.api.Metadata;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+
 /**
  * The administrative structure of the product of an element that passes through
  * a Production workflow.
@@ -51,6 +61,22 @@ public class Workpiece {
      */
     private IncludedStructuralElement rootElement = new IncludedStructuralElement();
 
+    /**
+     * The pages in the order of the media tree, and their order numbers, at
+     * the time the sorted pages were cached. The cached pages stay valid as
+     * long as the media tree yields the same pages with the same order
+     * numbers.
+     */
+    private MediaUnit[] pagesInTreeOrder;
+    private int[] ordersInTreeOrder;
+
+    /**
+     * The cached pages sorted by their order, and the position of each page
+     * in this list.
+     */
+    private List<MediaUnit> sortedPages;
+    private Map<MediaUnit, Integer> positionsOfPages;
+
     /**
      * Returns the creation date of the workpiece.
      *
@@ -124,6 +150,7 @@ public class Workpiece {
      */
     public void setMediaUnit(MediaUnit mediaUnit) {
         this.mediaUnit = mediaUnit;
+        this.sortedPages = null;
     }
 
     /**
@@ -185,13 +212,72 @@ public class Workpiece {
      * means that insertions and deletions in the list would not change the
      * media units. Therefore a list that cannot be modified is returned.
      *
+     * <p>
+     * The list is cached. As long as no pages are added, removed, moved or
+     * renumbered, the same list is returned again. Checking this takes a walk
+     * over the media tree, but no sorting.
+     *
      * @return all media units with type "page", sorted by their {@code order}
      */
     public List<MediaUnit> getAllMediaUnitChildrenFilteredByTypePageAndSorted() {
-        List<MediaUnit> mediaUnits = mediaUnit.getChildren().stream().flatMap(Workpiece::treeStream)
-                .filter(mediaUnitToCheck -> Objects.equals(mediaUnitToCheck.getType(), MediaUnit.TYPE_PAGE))
-                .sorted(Comparator.comparing(MediaUnit::getOrder)).collect(Collectors.toList());
-        return Collections.unmodifiableList(mediaUnits);
+        if (Objects.isNull(sortedPages) || matchPagesRecursive(mediaUnit.getChildren(), 0) != pagesInTreeOrder.length) {
+            List<MediaUnit> pages = mediaUnit.getChildren().stream().flatMap(Workpiece::treeStream)
+                    .filter(mediaUnitToCheck -> Objects.equals(mediaUnitToCheck.getType(), MediaUnit.TYPE_PAGE))
+                    .collect(Collectors.toList());
+            pagesInTreeOrder = pages.toArray(new MediaUnit[0]);
+            ordersInTreeOrder = pages.stream().mapToInt(MediaUnit::getOrder).toArray();
+            pages.sort(Comparator.comparing(MediaUnit::getOrder));
+            Map<MediaUnit, Integer> positions = new IdentityHashMap<>();
+            for (int position = 0; position < pages.size(); position++) {
+                positions.putIfAbsent(pages.get(position), position);
+            }
+            positionsOfPages = Collections.unmodifiableMap(positions);
+            sortedPages = Collections.unmodifiableList(pages);
+        }
+        return sortedPages;
+    }
+
+    /**
+     * Returns the positions of all pages in the list of pages sorted by their
+     * {@code order}, as returned by
+     * {@link #getAllMediaUnitChildrenFilteredByTypePageAndSorted()}. The pages
+     * are looked up by identity, so that looking up a position takes constant
+     * time. The map cannot be modified and isn’t updated if the media tree
+     * changes.
+     *
+     * @return the positions of the pages
+     */
+    public Map<MediaUnit, Integer> getPositionsOfPages() {
+        getAllMediaUnitChildrenFilteredByTypePageAndSorted();
+        return positionsOfPages;
+    }
+
+    /**
+     * Compares the pages of the media tree in tree order with the pages the
+     * cache was built from.
+     *
+     * @param mediaUnits
+     *            media units to compare, with their descendants
+     * @param index
+     *            index of the next cached page to compare
+     * @return the index after the last compared page, -1 if a page differs
+     */
+    private int matchPagesRecursive(List<MediaUnit> mediaUnits, int index) {
+        int next = index;
+        for (MediaUnit child : mediaUnits) {
+            if (Objects.equals(child.getType(), MediaUnit.TYPE_PAGE)) {
+                if (next >= pagesInTreeOrder.length || pagesInTreeOrder[next] != child
+                        || ordersInTreeOrder[next] != child.getOrder()) {
+                    return -1;
+                }
+                next++;
+            }
+            next = matchPagesRecursive(child.getChildren(), next);
+            if (next < 0) {
+                return -1;
+            }
+        }
+        return next;
     }
 
     /**
@@ -206,6 +292,109 @@ public class Workpiece {
         return Collections.unmodifiableList(treeStream(mediaUnit).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns a deep copy of this workpiece. The copy shares no mutable objects
+     * with this workpiece, so it can be kept as the original state to detect
+     * changes, without reading the METS file again. Views of the copied
+     * included structural elements refer to the copied media units.
+     *
+     * @return a deep copy of this workpiece
+     */
+    public Workpiece deepCopy() {
+        Workpiece copy = new Workpiece();
+        copy.setCreationDate((GregorianCalendar) creationDate.clone());
+        for (ProcessingNote processingNote : editHistory) {
+            ProcessingNote noteCopy = new ProcessingNote();
+            noteCopy.setName(processingNote.getName());
+            noteCopy.setNote(processingNote.getNote());
+            noteCopy.setRole(processingNote.getRole());
+            noteCopy.setType(processingNote.getType());
+            copy.getEditHistory().add(noteCopy);
+        }
+        copy.setId(id);
+        Map<MediaUnit, MediaUnit> mediaUnitCopies = new IdentityHashMap<>();
+        copy.setMediaUnit(copyMediaUnit(mediaUnit, mediaUnitCopies));
+        Map<IncludedStructuralElement, IncludedStructuralElement> elementCopies = new IdentityHashMap<>();
+        copy.setRootElement(copyIncludedStructuralElement(rootElement, mediaUnitCopies, elementCopies));
+        for (Entry<MediaUnit, MediaUnit> entry : mediaUnitCopies.entrySet()) {
+            for (IncludedStructuralElement includedStructuralElement : entry.getKey()
+                    .getIncludedStructuralElements()) {
+                entry.getValue().getIncludedStructuralElements()
+                        .add(elementCopies.getOrDefault(includedStructuralElement, includedStructuralElement));
+            }
+        }
+        return copy;
+    }
+
+    private static MediaUnit copyMediaUnit(MediaUnit mediaUnit, Map<MediaUnit, MediaUnit> copies) {
+        MediaUnit copy = new MediaUnit();
+        copyDivision(mediaUnit, copy);
+        for (Entry<MediaVariant, URI> entry : mediaUnit.getMediaFiles().entrySet()) {
+            MediaVariant mediaVariant = new MediaVariant();
+            mediaVariant.setMimeType(entry.getKey().getMimeType());
+            mediaVariant.setUse(entry.getKey().getUse());
+            copy.getMediaFiles().put(mediaVariant, entry.getValue());
+        }
+        copy.setDivId(mediaUnit.getDivId());
+        copies.put(mediaUnit, copy);
+        for (MediaUnit child : mediaUnit.getChildren()) {
+            copy.getChildren().add(copyMediaUnit(child, copies));
+        }
+        return copy;
+    }
+
+    private static IncludedStructuralElement copyIncludedStructuralElement(
+            IncludedStructuralElement includedStructuralElement, Map<MediaUnit, MediaUnit> mediaUnitCopies,
+            Map<IncludedStructuralElement, IncludedStructuralElement> copies) {
+        IncludedStructuralElement copy = new IncludedStructuralElement();
+        copyDivision(includedStructuralElement, copy);
+        LinkedMetsResource link = includedStructuralElement.getLink();
+        if (Objects.nonNull(link)) {
+            LinkedMetsResource linkCopy = new LinkedMetsResource();
+            linkCopy.setLoctype(link.getLoctype());
+            linkCopy.setUri(link.getUri());
+            copy.setLink(linkCopy);
+        }
+        for (View view : includedStructuralElement.getViews()) {
+            MediaUnit mediaUnit = view.getMediaUnit();
+            copy.getViews().add(View.of(mediaUnitCopies.getOrDefault(mediaUnit, mediaUnit)));
+        }
+        copies.put(includedStructuralElement, copy);
+        for (IncludedStructuralElement child : includedStructuralElement.getChildren()) {
+            copy.getChildren().add(copyIncludedStructuralElement(child, mediaUnitCopies, copies));
+        }
+        return copy;
+    }
+
+    private static void copyDivision(Division<?> division, Division<?> copy) {
+        copy.getContentIds().addAll(division.getContentIds());
+        copy.setLabel(division.getLabel());
+        copyMetadata(division.getMetadata(), copy.getMetadata());
+        copy.setOrder(division.getOrder());
+        copy.setOrderlabel(division.getOrderlabel());
+        copy.setType(division.getType());
+    }
+
+    private static void copyMetadata(Collection<Metadata> metadata, Collection<Metadata> copies) {
+        for (Metadata metadataEntry : metadata) {
+            Metadata copy;
+            if (metadataEntry instanceof MetadataGroup) {
+                MetadataGroup metadataGroup = new MetadataGroup();
+                copyMetadata(((MetadataGroup) metadataEntry).getGroup(), metadataGroup.getGroup());
+                copy = metadataGroup;
+            } else if (metadataEntry instanceof MetadataEntry) {
+                MetadataEntry entry = new MetadataEntry();
+                entry.setValue(((MetadataEntry) metadataEntry).getValue());
+                copy = entry;
+            } else {
+                copy = new Metadata();
+            }
+            copy.setKey(metadataEntry.getKey());
+            copy.setDomain(metadataEntry.getDomain());
+            copies.add(copy);
+        }
+    }
+
     /**
      * Generates a stream of nodes from structure tree.
      *
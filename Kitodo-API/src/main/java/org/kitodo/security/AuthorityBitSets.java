@@ -0,0 +1,135 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.security;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Granted authorities of one authentication compiled to bit sets. Every
+ * authority title gets an id from a table shared by all users, so checking an
+ * authority is a map lookup of the title and a bit test afterwards.
+ */
+public final class AuthorityBitSets {
+
+    /**
+     * Compiled authorities of an anonymous user.
+     */
+    public static final AuthorityBitSets EMPTY = new AuthorityBitSets();
+
+    private static final String GLOBAL_SUFFIX = "_GLOBAL";
+    private static final String CLIENT_INFIX = "_CLIENT_";
+
+    private static final Map<String, Integer> authorityIds = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextAuthorityId = new AtomicInteger();
+
+    private final BitSet global = new BitSet();
+    private BitSet[] clients = new BitSet[0];
+
+    private AuthorityBitSets() {
+    }
+
+    /**
+     * Compile the given granted authorities. Authorities ending with "_GLOBAL"
+     * and "_CLIENT_" followed by a client id are taken over, all others are
+     * ignored.
+     *
+     * @param grantedAuthorities
+     *            authorities of authentication
+     * @return compiled authorities
+     */
+    public static AuthorityBitSets compile(Collection<? extends GrantedAuthority> grantedAuthorities) {
+        AuthorityBitSets authorityBitSets = new AuthorityBitSets();
+        for (GrantedAuthority grantedAuthority : grantedAuthorities) {
+            String authority = grantedAuthority.getAuthority();
+            if (Objects.isNull(authority)) {
+                continue;
+            }
+            if (authority.endsWith(GLOBAL_SUFFIX)) {
+                String title = authority.substring(0, authority.length() - GLOBAL_SUFFIX.length());
+                authorityBitSets.global.set(getAuthorityId(title));
+                continue;
+            }
+            int clientInfix = authority.lastIndexOf(CLIENT_INFIX);
+            if (clientInfix > 0) {
+                try {
+                    int clientId = Integer.parseInt(authority.substring(clientInfix + CLIENT_INFIX.length()));
+                    if (clientId >= 0) {
+                        authorityBitSets.getOrCreateClient(clientId)
+                                .set(getAuthorityId(authority.substring(0, clientInfix)));
+                    }
+                } catch (NumberFormatException e) {
+                    // "_CLIENT_ANY" is not relevant for checks of a concrete client
+                }
+            }
+        }
+        return authorityBitSets;
+    }
+
+    /**
+     * Get the id of the authority with the given title. Unknown titles get a
+     * new id.
+     *
+     * @param authorityTitle
+     *            title of authority without suffix
+     * @return id of authority
+     */
+    public static int getAuthorityId(String authorityTitle) {
+        Integer authorityId = authorityIds.get(authorityTitle);
+        if (Objects.isNull(authorityId)) {
+            authorityId = authorityIds.computeIfAbsent(authorityTitle, title -> nextAuthorityId.getAndIncrement());
+        }
+        return authorityId;
+    }
+
+    /**
+     * Check if the authority is granted globally.
+     *
+     * @param authorityId
+     *            id of authority
+     * @return true if the authority is granted globally
+     */
+    public boolean hasGlobal(int authorityId) {
+        return global.get(authorityId);
+    }
+
+    /**
+     * Check if the authority is granted for the client.
+     *
+     * @param authorityId
+     *            id of authority
+     * @param clientId
+     *            id of client
+     * @return true if the authority is granted for the client
+     */
+    public boolean hasForClient(int authorityId, int clientId) {
+        return clientId >= 0 && clientId < clients.length && Objects.nonNull(clients[clientId])
+                && clients[clientId].get(authorityId);
+    }
+
+    private BitSet getOrCreateClient(int clientId) {
+        if (clientId >= clients.length) {
+            clients = Arrays.copyOf(clients, clientId + 1);
+        }
+        if (Objects.isNull(clients[clientId])) {
+            clients[clientId] = new BitSet();
+        }
+        return clients[clientId];
+    }
+}
@@ -11,13 +11,11 @@
 
 package org.kitodo.security;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
@@ -26,17 +24,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
  */
 public abstract class SecurityAccess {
 
-    private static final String GLOBAL_IDENTIFIER = "GLOBAL";
-    private static final String CLIENT_IDENTIFIER = "CLIENT";
-
-    private Collection<? extends GrantedAuthority> getAuthoritiesOfCurrentAuthentication() {
-        Authentication authentication = getCurrentAuthentication();
-        if (Objects.nonNull(authentication)) {
-            return authentication.getAuthorities();
-        } else {
-            return new ArrayList<>();
-        }
-    }
+    private static final Map<String, int[]> authorityIdLists = new ConcurrentHashMap<>();
 
     /**
      * Get client id for current session.
@@ -54,7 +42,7 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAuthorityGlobal(String authorityTitle) {
-        return hasAuthority(authorityTitle + "_" + GLOBAL_IDENTIFIER);
+        return getAuthorityBitSets().hasGlobal(AuthorityBitSets.getAuthorityId(authorityTitle));
     }
 
     /**
@@ -65,8 +53,7 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAuthorityForClient(String authorityTitle) {
-        String clientAuthority = authorityTitle + "_" + CLIENT_IDENTIFIER + "_" + getClientId();
-        return hasAuthority(clientAuthority);
+        return getAuthorityBitSets().hasForClient(AuthorityBitSets.getAuthorityId(authorityTitle), getClientId());
     }
 
     /**
@@ -77,7 +64,9 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAuthorityGlobalOrForClient(String authorityTitle) {
-        return hasAuthorityGlobal(authorityTitle) || hasAuthorityForClient(authorityTitle);
+        int authorityId = AuthorityBitSets.getAuthorityId(authorityTitle);
+        AuthorityBitSets authorityBitSets = getAuthorityBitSets();
+        return authorityBitSets.hasGlobal(authorityId) || authorityBitSets.hasForClient(authorityId, getClientId());
     }
 
     /**
@@ -90,9 +79,9 @@ public abstract class SecurityAccess {
      *         globally
      */
     public boolean hasAnyAuthorityGlobal(String authorityTitles) {
-        String[] authorityTitlesArray = getStringArray(authorityTitles);
-        for (String authorityTitle : authorityTitlesArray) {
-            if (hasAuthorityGlobal(authorityTitle)) {
+        AuthorityBitSets authorityBitSets = getAuthorityBitSets();
+        for (int authorityId : getAuthorityIds(authorityTitles)) {
+            if (authorityBitSets.hasGlobal(authorityId)) {
                 return true;
             }
         }
@@ -107,9 +96,10 @@ public abstract class SecurityAccess {
      * @return true if the current user has the specified authority
      */
     public boolean hasAnyAuthorityForClient(String authorityTitles) {
-        String[] authorityTitlesArray = getStringArray(authorityTitles);
-        for (String authorityTitle : authorityTitlesArray) {
-            if (hasAuthorityForClient(authorityTitle)) {
+        AuthorityBitSets authorityBitSets = getAuthorityBitSets();
+        int clientId = getClientId();
+        for (int authorityId : getAuthorityIds(authorityTitles)) {
+            if (authorityBitSets.hasForClient(authorityId, clientId)) {
                 return true;
             }
         }
@@ -139,14 +129,33 @@ public abstract class SecurityAccess {
         return SecurityContextHolder.getContext().getAuthentication();
     }
 
-    private boolean hasAuthority(String authorityTitle) {
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(authorityTitle);
-        Collection<? extends GrantedAuthority> authorities = getAuthoritiesOfCurrentAuthentication();
-        return authorities.contains(authority);
+    /**
+     * Get the compiled authorities of the current authentication. They are
+     * compiled on every call here, implementations should override this and
+     * keep them with the authenticated user.
+     *
+     * @return compiled authorities of current authentication
+     */
+    protected AuthorityBitSets getAuthorityBitSets() {
+        Authentication authentication = getCurrentAuthentication();
+        if (Objects.nonNull(authentication)) {
+            return AuthorityBitSets.compile(authentication.getAuthorities());
+        } else {
+            return AuthorityBitSets.EMPTY;
+        }
     }
 
-    private String[] getStringArray(String values) {
-        // remove white spaces and split values
-        return values.replaceAll("\\s+", "").split(",");
+    private int[] getAuthorityIds(String authorityTitles) {
+        int[] authorityIds = authorityIdLists.get(authorityTitles);
+        if (Objects.isNull(authorityIds)) {
+            // remove white spaces and split values
+            String[] authorityTitlesArray = authorityTitles.replaceAll("\\s+", "").split(",");
+            authorityIds = new int[authorityTitlesArray.length];
+            for (int i = 0; i < authorityTitlesArray.length; i++) {
+                authorityIds[i] = AuthorityBitSets.getAuthorityId(authorityTitlesArray[i]);
+            }
+            authorityIdLists.putIfAbsent(authorityTitles, authorityIds);
+        }
+        return authorityIds;
     }
 }
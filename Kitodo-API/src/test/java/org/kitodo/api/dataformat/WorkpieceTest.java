@@ -0,0 +1,180 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.dataformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+
+public class WorkpieceTest {
+    private static final Logger logger = LogManager.getLogger(WorkpieceTest.class);
+
+    /**
+     * Tests the method {@code Workpiece.deepCopy()}.
+     */
+    @Test
+    public void deepCopyTest() {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("1");
+        MediaUnit page = new MediaUnit();
+        page.setType(MediaUnit.TYPE_PAGE);
+        page.setOrder(1);
+        MediaVariant mediaVariant = new MediaVariant();
+        mediaVariant.setUse("LOCAL");
+        mediaVariant.setMimeType("image/tiff");
+        page.getMediaFiles().put(mediaVariant, URI.create("images/00000001.tif"));
+        workpiece.getMediaUnit().getChildren().add(page);
+
+        IncludedStructuralElement chapter = new IncludedStructuralElement();
+        chapter.setType("Chapter");
+        MetadataEntry title = new MetadataEntry();
+        title.setKey("TitleDocMain");
+        title.setDomain(MdSec.DMD_SEC);
+        title.setValue("Title");
+        MetadataGroup group = new MetadataGroup();
+        group.setKey("Person");
+        MetadataEntry name = new MetadataEntry();
+        name.setKey("Name");
+        name.setValue("Name");
+        group.getGroup().add(name);
+        chapter.getMetadata().add(title);
+        chapter.getMetadata().add(group);
+        chapter.getViews().add(View.of(page));
+        workpiece.getRootElement().getChildren().add(chapter);
+
+        Workpiece copy = workpiece.deepCopy();
+        assertEquals("Copy differs from workpiece!", workpiece, copy);
+
+        IncludedStructuralElement chapterCopy = copy.getRootElement().getChildren().get(0);
+        MediaUnit pageCopy = copy.getMediaUnit().getChildren().get(0);
+        assertNotSame(chapter, chapterCopy);
+        assertNotSame(page, pageCopy);
+        assertSame("View doesn't refer to copied media unit!", pageCopy, chapterCopy.getViews().get(0).getMediaUnit());
+
+        title.setValue("Changed title");
+        assertNotEquals("Copy was changed with workpiece!", workpiece, copy);
+        title.setValue("Title");
+        page.setOrderlabel("1");
+        assertNotEquals("Copy was changed with workpiece!", workpiece, copy);
+    }
+
+    /**
+     * Tests that the sorted pages are cached and rebuilt after changes to the
+     * media tree.
+     */
+    @Test
+    public void getAllMediaUnitChildrenFilteredByTypePageAndSortedTest() {
+        Workpiece workpiece = new Workpiece();
+        MediaUnit second = addPage(workpiece.getMediaUnit(), 2);
+        MediaUnit first = addPage(workpiece.getMediaUnit(), 1);
+        List<MediaUnit> pages = workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted();
+        assertSame(first, pages.get(0));
+        assertSame(second, pages.get(1));
+        assertSame("Pages were not cached!", pages, workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted());
+        assertEquals(Integer.valueOf(1), workpiece.getPositionsOfPages().get(second));
+
+        MediaUnit third = addPage(workpiece.getMediaUnit(), 3);
+        assertEquals("Added page is missing!", 3, workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted().size());
+        assertEquals(Integer.valueOf(2), workpiece.getPositionsOfPages().get(third));
+
+        first.setOrder(4);
+        assertSame("Renumbered page is not sorted!", first,
+            workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted().get(2));
+
+        third.setType("other");
+        assertFalse("Page of other type is still listed!", workpiece.getPositionsOfPages().containsKey(third));
+
+        workpiece.getMediaUnit().getChildren().remove(second);
+        assertFalse("Removed page is still listed!", workpiece.getPositionsOfPages().containsKey(second));
+        assertEquals(Integer.valueOf(0), workpiece.getPositionsOfPages().get(first));
+        assertFalse(workpiece.getPositionsOfPages().containsKey(new MediaUnit()));
+    }
+
+    /**
+     * Compares the cached pages with sorting the pages on every call, as it
+     * was done before, on a workpiece with 5000 pages: first for repeated
+     * calls, then for looking up the positions of all pages, as done when all
+     * pages are selected for pagination.
+     */
+    @Test
+    public void getAllMediaUnitChildrenFilteredByTypePageAndSortedBenchmark() {
+        final int numberOfPages = 5000;
+        final int numberOfCalls = 100;
+        Workpiece workpiece = new Workpiece();
+        for (int order = 1; order <= numberOfPages; order++) {
+            addPage(workpiece.getMediaUnit(), order);
+        }
+
+        long begin = System.nanoTime();
+        for (int call = 0; call < numberOfCalls; call++) {
+            sortPagesUncached(workpiece);
+        }
+        long uncached = System.nanoTime() - begin;
+        begin = System.nanoTime();
+        for (int call = 0; call < numberOfCalls; call++) {
+            workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted();
+        }
+        long cached = System.nanoTime() - begin;
+        logger.info("{} calls for {} pages took {} ms uncached and {} ms cached", numberOfCalls, numberOfPages,
+            TimeUnit.NANOSECONDS.toMillis(uncached), TimeUnit.NANOSECONDS.toMillis(cached));
+
+        begin = System.nanoTime();
+        List<MediaUnit> sortedPages = sortPagesUncached(workpiece);
+        for (MediaUnit page : workpiece.getMediaUnit().getChildren()) {
+            for (int i = 0; i < sortedPages.size(); i++) {
+                if (sortedPages.get(i).equals(page)) {
+                    break;
+                }
+            }
+        }
+        uncached = System.nanoTime() - begin;
+        begin = System.nanoTime();
+        Map<MediaUnit, Integer> positionsOfPages = workpiece.getPositionsOfPages();
+        for (MediaUnit page : workpiece.getMediaUnit().getChildren()) {
+            assertEquals(page.getOrder() - 1, (int) positionsOfPages.get(page));
+        }
+        cached = System.nanoTime() - begin;
+        logger.info("Looking up the positions of {} pages took {} ms by searching and {} ms cached", numberOfPages,
+            TimeUnit.NANOSECONDS.toMillis(uncached), TimeUnit.NANOSECONDS.toMillis(cached));
+    }
+
+    private static List<MediaUnit> sortPagesUncached(Workpiece workpiece) {
+        return workpiece.getMediaUnit().getChildren().stream().flatMap(Workpiece::treeStream)
+                .filter(mediaUnit -> Objects.equals(mediaUnit.getType(), MediaUnit.TYPE_PAGE))
+                .sorted(Comparator.comparing(MediaUnit::getOrder)).collect(Collectors.toList());
+    }
+
+    private static MediaUnit addPage(MediaUnit parent, int order) {
+        MediaUnit page = new MediaUnit();
+        page.setType(MediaUnit.TYPE_PAGE);
+        page.setOrder(order);
+        parent.getChildren().add(page);
+        return page;
+    }
+}
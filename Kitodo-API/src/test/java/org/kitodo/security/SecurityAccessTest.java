@@ -0,0 +1,80 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.security;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class SecurityAccessTest {
+
+    private static final int CLIENT_ID = 2;
+
+    private final SecurityAccess securityAccess = new TestSecurityAccess();
+
+    @Before
+    public void setUp() {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            authorities.add(new SimpleGrantedAuthority("authority" + i + "_CLIENT_ANY"));
+            authorities.add(new SimpleGrantedAuthority("authority" + i + "_CLIENT_1"));
+        }
+        authorities.add(new SimpleGrantedAuthority("viewAllProcesses_GLOBAL"));
+        authorities.add(new SimpleGrantedAuthority("editProcess_CLIENT_" + CLIENT_ID));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("user", null, authorities));
+    }
+
+    @After
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void shouldCheckAuthorities() {
+        assertTrue(securityAccess.hasAuthorityGlobal("viewAllProcesses"));
+        assertFalse(securityAccess.hasAuthorityForClient("viewAllProcesses"));
+        assertTrue(securityAccess.hasAuthorityForClient("editProcess"));
+        assertFalse(securityAccess.hasAuthorityGlobal("editProcess"));
+        assertTrue(securityAccess.hasAuthorityGlobalOrForClient("editProcess"));
+        assertFalse(securityAccess.hasAuthorityForClient("authority1"));
+        assertFalse(securityAccess.hasAuthorityGlobalOrForClient("notExisting"));
+        assertTrue(securityAccess.hasAnyAuthorityGlobal("notExisting, viewAllProcesses"));
+        assertFalse(securityAccess.hasAnyAuthorityGlobal("notExisting, editProcess"));
+        assertTrue(securityAccess.hasAnyAuthorityForClient("viewAllProcesses,editProcess"));
+        assertTrue(securityAccess.hasAnyAuthorityGlobalOrForClient("notExisting, editProcess"));
+    }
+
+    @Test
+    public void shouldNotGrantAuthoritiesWithoutAuthentication() {
+        SecurityContextHolder.clearContext();
+        assertFalse(securityAccess.hasAuthorityGlobal("viewAllProcesses"));
+        assertFalse(securityAccess.hasAnyAuthorityForClient("viewAllProcesses, editProcess"));
+    }
+
+    private static class TestSecurityAccess extends SecurityAccess {
+        @Override
+        public int getClientId() {
+            return CLIENT_ID;
+        }
+    }
+}
@@ -81,6 +81,12 @@ import org.kitodo.dataformat.metskitodo.StructMapType;
  * @see "https://www.zvdd.de/fileadmin/AGSDD-Redaktion/METS_Anwendungsprofil_2.0.pdf"
  */
 public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
+    /**
+     * The JAXB context for METS. It is thread-safe and expensive to create, so
+     * it is created once and shared.
+     */
+    private static volatile JAXBContext metsContext;
+
     /**
      * The data object of this mets XML element access.
      */
@@ -194,8 +200,7 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public Workpiece read(InputStream in) throws IOException {
         try {
-            JAXBContext jc = JAXBContext.newInstance(Mets.class);
-            Unmarshaller unmarshaller = jc.createUnmarshaller();
+            Unmarshaller unmarshaller = getMetsContext().createUnmarshaller();
             Mets mets = (Mets) unmarshaller.unmarshal(in);
             return new MetsXmlElementAccess(mets).workpiece;
         } catch (JAXBException e) {
@@ -207,6 +212,20 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
         }
     }
 
+    private static JAXBContext getMetsContext() throws JAXBException {
+        JAXBContext localReference = metsContext;
+        if (Objects.isNull(localReference)) {
+            synchronized (MetsXmlElementAccess.class) {
+                localReference = metsContext;
+                if (Objects.isNull(localReference)) {
+                    localReference = JAXBContext.newInstance(Mets.class);
+                    metsContext = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
     /**
      * Writes the contents of this workpiece as a METS file into an output
      * stream.
@@ -219,8 +238,7 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public void save(Workpiece workpiece, OutputStream out) throws IOException {
         try {
-            JAXBContext context = JAXBContext.newInstance(Mets.class);
-            Marshaller marshal = context.createMarshaller();
+            Marshaller marshal = getMetsContext().createMarshaller();
             marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             marshal.marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
         } catch (JAXBException e) {
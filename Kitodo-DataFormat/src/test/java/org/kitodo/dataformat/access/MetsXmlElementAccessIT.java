@@ -92,6 +92,22 @@ public class MetsXmlElementAccessIT {
                     .collect(Collectors.toList()));
     }
 
+    /**
+     * Tests that a deep copy of a loaded workpiece equals the workpiece loaded
+     * a second time.
+     */
+    @Test
+    public void testDeepCopyOfReadWorkpiece() throws Exception {
+        Workpiece workpiece = new MetsXmlElementAccess()
+                .read(new FileInputStream(new File("src/test/resources/meta.xml")));
+        Workpiece reread = new MetsXmlElementAccess()
+                .read(new FileInputStream(new File("src/test/resources/meta.xml")));
+        Workpiece copy = workpiece.deepCopy();
+
+        assertEquals(reread, copy);
+        assertEquals(workpiece, copy);
+    }
+
     @Test
     public void testSave() throws Exception {
         Workpiece workpiece = new Workpiece();
@@ -0,0 +1,137 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.beans;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+/**
+ * State of a folder of a process at the time its contents were last listed.
+ * If the folder hasn't been modified since, it doesn't need to be listed
+ * again.
+ */
+@Entity(name = "FolderFingerprint")
+@Table(name = "folder_fingerprint")
+public class FolderFingerprint extends BaseBean {
+
+    @Column(name = "process_id", nullable = false)
+    private int processId;
+
+    @Column(name = "folder_id", nullable = false)
+    private int folderId;
+
+    @Column(name = "lastModified", nullable = false)
+    private long lastModified;
+
+    @Column(name = "entryCount", nullable = false)
+    private int entryCount;
+
+    @Column(name = "listingHash", nullable = false)
+    private String listingHash;
+
+    /**
+     * Constructor.
+     */
+    public FolderFingerprint() {
+    }
+
+    /**
+     * Get processId.
+     *
+     * @return value of processId
+     */
+    public int getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Set processId.
+     *
+     * @param processId as int
+     */
+    public void setProcessId(int processId) {
+        this.processId = processId;
+    }
+
+    /**
+     * Get folderId.
+     *
+     * @return value of folderId
+     */
+    public int getFolderId() {
+        return folderId;
+    }
+
+    /**
+     * Set folderId.
+     *
+     * @param folderId as int
+     */
+    public void setFolderId(int folderId) {
+        this.folderId = folderId;
+    }
+
+    /**
+     * Get the modification time of the folder when it was listed.
+     *
+     * @return value of lastModified
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set the modification time of the folder when it was listed.
+     *
+     * @param lastModified as long
+     */
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Get the number of files listed.
+     *
+     * @return value of entryCount
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Set the number of files listed.
+     *
+     * @param entryCount as int
+     */
+    public void setEntryCount(int entryCount) {
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Get the hash of the canonical names of the files listed.
+     *
+     * @return value of listingHash
+     */
+    public String getListingHash() {
+        return listingHash;
+    }
+
+    /**
+     * Set the hash of the canonical names of the files listed.
+     *
+     * @param listingHash as String
+     */
+    public void setListingHash(String listingHash) {
+        this.listingHash = listingHash;
+    }
+}
@@ -70,6 +70,12 @@ public class LdapServer extends BaseBean {
     @Column(name = "keystorePassword")
     private String keystorePassword;
 
+    @Column(name = "useConnectionPool")
+    private boolean useConnectionPool = false;
+
+    @Column(name = "attributeCacheTtl")
+    private int attributeCacheTtl = 0;
+
     /**
      * Gets title.
      *
@@ -321,6 +327,49 @@ public class LdapServer extends BaseBean {
         this.keystorePassword = keystorePassword;
     }
 
+    /**
+     * Returns whether the connections authenticated with the manager login are
+     * taken from the JNDI connection pool. Connections using SSL are only
+     * pooled if the system property
+     * {@code com.sun.jndi.ldap.connect.pool.protocol} contains {@code ssl}.
+     *
+     * @return whether the connection pool is used
+     */
+    public boolean isUseConnectionPool() {
+        return useConnectionPool;
+    }
+
+    /**
+     * Sets whether the connection pool is used.
+     *
+     * @param useConnectionPool
+     *            whether the connection pool is used
+     */
+    public void setUseConnectionPool(boolean useConnectionPool) {
+        this.useConnectionPool = useConnectionPool;
+    }
+
+    /**
+     * Returns the number of seconds attributes read from the LDAP server, such
+     * as the home directory of a user, are cached. 0 disables the cache.
+     *
+     * @return the time to live of cached attributes in seconds
+     */
+    public int getAttributeCacheTtl() {
+        return attributeCacheTtl;
+    }
+
+    /**
+     * Sets the number of seconds attributes read from the LDAP server are
+     * cached.
+     *
+     * @param attributeCacheTtl
+     *            the time to live of cached attributes in seconds
+     */
+    public void setAttributeCacheTtl(int attributeCacheTtl) {
+        this.attributeCacheTtl = attributeCacheTtl;
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this == object) {
@@ -0,0 +1,96 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.beans;
+
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+/**
+ * Lock of the metadata of a process opened in the metadata editor. The lock
+ * is a lease, it is held until it expires unless it is renewed.
+ */
+@Entity(name = "MetadataEditorLock")
+@Table(name = "metadataeditor_lock")
+public class MetadataEditorLock extends BaseBean {
+
+    @Column(name = "process_id", unique = true, nullable = false)
+    private int processId;
+
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    @Column(name = "expires", nullable = false)
+    private Date expires;
+
+    /**
+     * Constructor.
+     */
+    public MetadataEditorLock() {
+    }
+
+    /**
+     * Get processId.
+     *
+     * @return value of processId
+     */
+    public int getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Set processId.
+     *
+     * @param processId as int
+     */
+    public void setProcessId(int processId) {
+        this.processId = processId;
+    }
+
+    /**
+     * Get userId.
+     *
+     * @return value of userId
+     */
+    public int getUserId() {
+        return userId;
+    }
+
+    /**
+     * Set userId.
+     *
+     * @param userId as int
+     */
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Get expires.
+     *
+     * @return value of expires
+     */
+    public Date getExpires() {
+        return expires;
+    }
+
+    /**
+     * Set expires.
+     *
+     * @param expires as Date
+     */
+    public void setExpires(Date expires) {
+        this.expires = expires;
+    }
+}
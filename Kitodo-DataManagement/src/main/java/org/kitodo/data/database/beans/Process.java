@@ -20,6 +20,7 @@ import java.util.Objects;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.ForeignKey;
 import javax.persistence.JoinColumn;
@@ -30,6 +31,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.kitodo.data.database.converter.SummaryConverter;
 import org.kitodo.data.database.persistence.ProcessDAO;
 
 @Entity
@@ -111,6 +113,9 @@ public class Process extends BaseTemplateBean {
     @Column(name = "exported")
     private boolean exported;
 
+    @Column(name = "hasImages")
+    private Boolean hasImages;
+
     @Column(name = "inChoiceListShown")
     Boolean inChoiceListShown;
 
@@ -120,9 +125,13 @@ public class Process extends BaseTemplateBean {
     @Transient
     private List<Map<String, Object>> metadata;
 
-    @Transient
+    @Column(name = "baseType")
     private String baseType;
 
+    @Column(name = "summary", columnDefinition = "longtext")
+    @Convert(converter = SummaryConverter.class)
+    private Map<String, String> summary;
+
     /**
      * Constructor.
      */
@@ -467,6 +476,25 @@ public class Process extends BaseTemplateBean {
         this.properties = properties;
     }
 
+    /**
+     * Get whether the generator source folder contains images.
+     *
+     * @return whether the generator source folder contains images, null if
+     *         this has not been checked yet
+     */
+    public Boolean getHasImages() {
+        return hasImages;
+    }
+
+    /**
+     * Set whether the generator source folder contains images.
+     *
+     * @param hasImages as java.lang.Boolean
+     */
+    public void setHasImages(Boolean hasImages) {
+        this.hasImages = hasImages;
+    }
+
     /**
      * Get exported.
      *
@@ -540,6 +568,24 @@ public class Process extends BaseTemplateBean {
         this.baseType = baseType;
     }
 
+    /**
+     * Get the summary metadata of the workpiece, by metadata key.
+     *
+     * @return value of summary, null if not determined yet
+     */
+    public Map<String, String> getSummary() {
+        return summary;
+    }
+
+    /**
+     * Set the summary metadata of the workpiece, by metadata key.
+     *
+     * @param summary as java.util.Map
+     */
+    public void setSummary(Map<String, String> summary) {
+        this.summary = summary;
+    }
+
     /**
      * Get inChoiceListShown.
      *
@@ -0,0 +1,61 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.converter;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Stores the summary metadata of a process, keys and values in their order,
+ * as JSON object.
+ */
+@Converter
+public class SummaryConverter implements AttributeConverter<Map<String, String>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, String> summary) {
+        if (Objects.isNull(summary)) {
+            return null;
+        }
+        JsonObjectBuilder jsonObjectBuilder = Json.createObjectBuilder();
+        for (Entry<String, String> entry : summary.entrySet()) {
+            jsonObjectBuilder.add(entry.getKey(), entry.getValue());
+        }
+        return jsonObjectBuilder.build().toString();
+    }
+
+    @Override
+    public Map<String, String> convertToEntityAttribute(String json) {
+        if (Objects.isNull(json)) {
+            return null;
+        }
+        Map<String, String> summary = new LinkedHashMap<>();
+        try (JsonReader jsonReader = Json.createReader(new StringReader(json))) {
+            JsonObject jsonObject = jsonReader.readObject();
+            for (Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+                summary.put(entry.getKey(), jsonObject.getString(entry.getKey()));
+            }
+        }
+        return summary;
+    }
+}
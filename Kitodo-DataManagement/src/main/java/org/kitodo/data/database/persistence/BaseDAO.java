@@ -12,20 +12,24 @@
 package org.kitodo.data.database.persistence;
 
 import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import javax.persistence.PersistenceException;
 
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
 import org.hibernate.exception.SQLGrammarException;
 import org.hibernate.query.Query;
 import org.kitodo.data.database.beans.BaseBean;
+import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.exceptions.DAOException;
 
 /**
@@ -34,6 +38,10 @@ import org.kitodo.data.database.exceptions.DAOException;
 public abstract class BaseDAO<T extends BaseBean> implements Serializable {
 
     private static final Object lockObject = new Object();
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final String NOT_INDEXED = "indexAction = 'INDEX' OR indexAction IS NULL";
+
+    private Class<T> entityClass;
 
     /**
      * Retrieves a BaseBean identified by the given id from the database.
@@ -88,6 +96,20 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         storeObject(baseBean);
     }
 
+    /**
+     * Saves a list of BaseBean objects to the database in one transaction.
+     * Statements are sent to the database in JDBC batches.
+     *
+     * @param baseBeans
+     *            objects to persist
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    public void saveList(List<T> baseBeans) throws DAOException {
+        storeList(baseBeans);
+    }
+
     /**
      * Removes BaseBean object specified by the given id from the database.
      *
@@ -206,6 +228,102 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieves the BaseBean objects following the given id, ordered by id.
+     * Unlike {@link #getAll(int, int)}, the database seeks to the first row by
+     * the primary key, so deep pages are as fast as the first one. Pass the id
+     * of the last object of a page to get the next page.
+     *
+     * @param lastId
+     *            id of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public List<T> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM " + getEntityName() + " WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    /**
+     * Retrieves the not indexed BaseBean objects following the given id,
+     * ordered by id. As objects leave this set when they are indexed, paging
+     * by id does not skip any of them, paging by offset would.
+     *
+     * @param lastId
+     *            id of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public List<T> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        if (!BaseIndexedBean.class.isAssignableFrom(getEntityClass())) {
+            return Collections.emptyList();
+        }
+        return retrieveObjectsAfter("FROM " + getEntityName() + " WHERE id > :lastId AND (" + NOT_INDEXED
+                + ") ORDER BY id ASC", lastId, size);
+    }
+
+    /**
+     * Returns the id to pass to {@link #getAllAfter(int, int)} or
+     * {@link #getAllNotIndexedAfter(int, int)} to start at the given offset.
+     * Only the index of the primary key is read to find it.
+     *
+     * @param offset
+     *            number of objects to skip
+     * @param notIndexed
+     *            whether only not indexed objects are counted
+     * @return the id of the last object skipped, 0 if none is skipped
+     */
+    public int getIdBeforeOffset(int offset, boolean notIndexed) throws DAOException {
+        if (offset <= 0) {
+            return 0;
+        }
+        String query = "SELECT id FROM " + getEntityName() + (notIndexed ? " WHERE " + NOT_INDEXED : "")
+                + " ORDER BY id ASC";
+        try (Session session = HibernateUtil.getSession()) {
+            Query<?> sessionQuery = session.createQuery(query);
+            sessionQuery.setFirstResult(offset - 1);
+            sessionQuery.setMaxResults(1);
+            Object id = sessionQuery.uniqueResult();
+            return Objects.nonNull(id) ? (Integer) id : Integer.MAX_VALUE;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Streams the BaseBean objects found by the given query from a read-only,
+     * stateless session. The rows are fetched from the database in portions
+     * of the given size while the stream is consumed, and the objects are not
+     * kept in a session cache, so the memory needed does not grow with the
+     * number of rows. The objects are detached: lazy associations cannot be
+     * loaded. The stream must be closed to release the database connection.
+     *
+     * @param query
+     *            as String
+     * @param parameters
+     *            for query
+     * @param fetchSize
+     *            number of rows fetched from the database at once
+     * @return stream of bean objects
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<T> streamByQuery(String query, Map<String, Object> parameters, int fetchSize) {
+        StatelessSession session = HibernateUtil.openStatelessSession();
+        try {
+            Query<T> sessionQuery = session.createQuery(query);
+            addParameters(sessionQuery, parameters);
+            sessionQuery.setFetchSize(fetchSize);
+            sessionQuery.setReadOnly(true);
+            return sessionQuery.stream().onClose(session::close);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
     /**
      * Count all rows in database.
      *
@@ -321,6 +439,29 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieve objects by given keyset query for maximum number of objects.
+     *
+     * @param query
+     *            string with parameter {@code lastId}
+     * @param lastId
+     *            id to continue after
+     * @param max
+     *            amount of results
+     * @return constrained list of results
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> retrieveObjectsAfter(String query, int lastId, int max) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Query<T> sessionQuery = session.createQuery(query);
+            sessionQuery.setParameter("lastId", lastId);
+            sessionQuery.setMaxResults(max);
+            return sessionQuery.list();
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Retrieve all objects fro given class.
      *
@@ -355,6 +496,28 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Execute given update or delete query in its own transaction.
+     *
+     * @param query
+     *            update or delete query
+     * @param parameters
+     *            for query
+     * @return amount of updated or deleted objects
+     */
+    int executeUpdate(String query, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            Query<?> sessionQuery = session.createQuery(query);
+            addParameters(sessionQuery, parameters);
+            int updated = sessionQuery.executeUpdate();
+            transaction.commit();
+            return updated;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Store given list of objects.
      *
@@ -363,6 +526,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     void storeList(List<T> list) throws DAOException {
         try (Session session = HibernateUtil.getSession()) {
+            session.setJdbcBatchSize(JDBC_BATCH_SIZE);
             Transaction transaction = session.beginTransaction();
             for (Object obj : list) {
                 session.saveOrUpdate(obj);
@@ -410,6 +574,19 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Class<T> getEntityClass() {
+        if (Objects.isNull(entityClass)) {
+            entityClass = (Class<T>) ((ParameterizedType) getClass().getGenericSuperclass())
+                    .getActualTypeArguments()[0];
+        }
+        return entityClass;
+    }
+
+    private String getEntityName() {
+        return getEntityClass().getSimpleName();
+    }
+
     private void addParameters(Query<?> query, Map<String, Object> parameters) {
         if (Objects.nonNull(parameters)) {
             for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
@@ -0,0 +1,75 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.kitodo.data.database.beans.FolderFingerprint;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class FolderFingerprintDAO extends BaseDAO<FolderFingerprint> {
+
+    private static final String PROCESS_ID = "processId";
+
+    @Override
+    public FolderFingerprint getById(Integer folderFingerprintId) throws DAOException {
+        FolderFingerprint folderFingerprint = retrieveObject(FolderFingerprint.class, folderFingerprintId);
+        if (folderFingerprint == null) {
+            throw new DAOException("Object cannot be found in database");
+        }
+        return folderFingerprint;
+    }
+
+    @Override
+    public List<FolderFingerprint> getAll() throws DAOException {
+        return retrieveAllObjects(FolderFingerprint.class);
+    }
+
+    @Override
+    public List<FolderFingerprint> getAll(int offset, int size) throws DAOException {
+        return retrieveObjects("FROM FolderFingerprint ORDER BY id ASC", offset, size);
+    }
+
+    @Override
+    public List<FolderFingerprint> getAllNotIndexed(int offset, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(Integer folderFingerprintId) throws DAOException {
+        removeObject(FolderFingerprint.class, folderFingerprintId);
+    }
+
+    /**
+     * Get the fingerprints of the folders of a process.
+     *
+     * @param processId
+     *            id of process
+     * @return fingerprints of the folders listed before
+     */
+    public List<FolderFingerprint> getByProcess(int processId) {
+        return getByQuery("FROM FolderFingerprint WHERE processId = :processId",
+            Collections.singletonMap(PROCESS_ID, processId));
+    }
+
+    /**
+     * Remove the fingerprints of the folders of a process.
+     *
+     * @param processId
+     *            id of process
+     */
+    public void removeByProcess(int processId) throws DAOException {
+        executeUpdate("DELETE FROM FolderFingerprint WHERE processId = :processId",
+            Collections.singletonMap(PROCESS_ID, processId));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.persistence.PersistenceException;
+
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.kitodo.data.database.beans.MetadataEditorLock;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class MetadataEditorLockDAO extends BaseDAO<MetadataEditorLock> {
+
+    private static final String PROCESS_ID = "processId";
+    private static final String USER_ID = "userId";
+    private static final String EXPIRES = "expires";
+
+    @Override
+    public MetadataEditorLock getById(Integer metadataEditorLockId) throws DAOException {
+        MetadataEditorLock metadataEditorLock = retrieveObject(MetadataEditorLock.class, metadataEditorLockId);
+        if (metadataEditorLock == null) {
+            throw new DAOException("Object cannot be found in database");
+        }
+        return metadataEditorLock;
+    }
+
+    @Override
+    public List<MetadataEditorLock> getAll() throws DAOException {
+        return retrieveAllObjects(MetadataEditorLock.class);
+    }
+
+    @Override
+    public List<MetadataEditorLock> getAll(int offset, int size) throws DAOException {
+        return retrieveObjects("FROM MetadataEditorLock ORDER BY id ASC", offset, size);
+    }
+
+    @Override
+    public List<MetadataEditorLock> getAllNotIndexed(int offset, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(Integer metadataEditorLockId) throws DAOException {
+        removeObject(MetadataEditorLock.class, metadataEditorLockId);
+    }
+
+    /**
+     * Acquire the lock of a process for a user. This succeeds if the process
+     * is not locked, the lock has expired or it is already held by the user.
+     *
+     * @param processId
+     *            id of process
+     * @param userId
+     *            id of user
+     * @param now
+     *            current time
+     * @param expires
+     *            time the lock expires if it isn't renewed
+     * @return true if the user holds the lock now
+     */
+    public boolean tryLock(int processId, int userId, Date now, Date expires) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(PROCESS_ID, processId);
+        parameters.put(USER_ID, userId);
+        parameters.put(EXPIRES, expires);
+        parameters.put("now", now);
+        if (executeUpdate("UPDATE MetadataEditorLock SET userId = :userId, expires = :expires "
+                + "WHERE processId = :processId AND (userId = :userId OR expires < :now)", parameters) > 0) {
+            return true;
+        }
+        if (count("SELECT COUNT(*) FROM MetadataEditorLock WHERE processId = :processId",
+            Collections.singletonMap(PROCESS_ID, processId)) > 0) {
+            return false;
+        }
+        MetadataEditorLock metadataEditorLock = new MetadataEditorLock();
+        metadataEditorLock.setProcessId(processId);
+        metadataEditorLock.setUserId(userId);
+        metadataEditorLock.setExpires(expires);
+        try {
+            save(metadataEditorLock);
+            return true;
+        } catch (DAOException e) {
+            if (isConstraintViolation(e)) {
+                // another node acquired the lock in the meantime
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether an exception was caused by a constraint violation. The
+     * violation is wrapped by Hibernate, and then again by the DAO.
+     *
+     * @param exception
+     *            exception to check
+     * @return whether a constraint violation is among the causes
+     */
+    static boolean isConstraintViolation(Throwable exception) {
+        for (Throwable cause = exception; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the current time of the database. All nodes sharing the database
+     * compare the expiry of locks against it, not against their own clocks.
+     *
+     * @return current time of the database
+     */
+    public Date getDatabaseTime() throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Object now = session.createNativeQuery("SELECT LOCALTIMESTAMP").uniqueResult();
+            if (now instanceof LocalDateTime) {
+                return Timestamp.valueOf((LocalDateTime) now);
+            }
+            return (Date) now;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Extend the lease of a lock held by a user.
+     *
+     * @param processId
+     *            id of process
+     * @param userId
+     *            id of user
+     * @param expires
+     *            new time the lock expires
+     * @return false if the user doesn't hold the lock any more
+     */
+    public boolean renew(int processId, int userId, Date expires) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(PROCESS_ID, processId);
+        parameters.put(USER_ID, userId);
+        parameters.put(EXPIRES, expires);
+        return executeUpdate("UPDATE MetadataEditorLock SET expires = :expires "
+                + "WHERE processId = :processId AND userId = :userId", parameters) > 0;
+    }
+
+    /**
+     * Release the lock of a process.
+     *
+     * @param processId
+     *            id of process
+     */
+    public void release(int processId) throws DAOException {
+        executeUpdate("DELETE FROM MetadataEditorLock WHERE processId = :processId",
+            Collections.singletonMap(PROCESS_ID, processId));
+    }
+
+    /**
+     * Release all locks held by a user.
+     *
+     * @param userId
+     *            id of user
+     */
+    public void releaseAll(int userId) throws DAOException {
+        executeUpdate("DELETE FROM MetadataEditorLock WHERE userId = :userId",
+            Collections.singletonMap(USER_ID, userId));
+    }
+
+    /**
+     * Get the id of the user holding the lock of a process.
+     *
+     * @param processId
+     *            id of process
+     * @param now
+     *            current time
+     * @return id of user or null if the process isn't locked
+     */
+    public Integer getLockingUserId(int processId, Date now) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(PROCESS_ID, processId);
+        parameters.put("now", now);
+        List<MetadataEditorLock> locks = getByQuery(
+            "FROM MetadataEditorLock WHERE processId = :processId AND expires >= :now", parameters);
+        return locks.isEmpty() ? null : locks.get(0).getUserId();
+    }
+}
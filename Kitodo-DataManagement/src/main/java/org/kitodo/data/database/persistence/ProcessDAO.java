@@ -11,7 +11,10 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -60,16 +63,48 @@ public class ProcessDAO extends BaseDAO<Process> {
     }
 
     /**
-     * Save list of processes.
+     * Write only the image information of the process to the database. The
+     * process itself is not attached to the session, so this can be used with
+     * processes loaded in earlier requests.
      *
-     * @param list
-     *            of processes
-     * @throws DAOException
-     *             an exception that can be thrown from the underlying saveList()
-     *             procedure failure.
+     * @param process
+     *            object with image information to write
+     */
+    public void saveImageInformation(Process process) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", process.getId());
+        parameters.put("sortHelperImages", process.getSortHelperImages());
+        parameters.put("hasImages", process.getHasImages());
+        executeUpdate("UPDATE Process SET sortHelperImages = :sortHelperImages, hasImages = :hasImages"
+                + " WHERE id = :id", parameters);
+    }
+
+    /**
+     * Forget whether the processes of a project have images. This is needed
+     * when the generator source folder of the project changed.
+     *
+     * @param projectId
+     *            id of the project whose processes are reset
+     */
+    public void resetHasImages(int projectId) throws DAOException {
+        executeUpdate("UPDATE Process SET hasImages = NULL WHERE project.id = :projectId",
+            Collections.singletonMap("projectId", projectId));
+    }
+
+    /**
+     * Write only the base type and the summary metadata of the process to the
+     * database. The process itself is not attached to the session, so this can
+     * be used with processes loaded in earlier requests.
+     *
+     * @param process
+     *            object with base type and summary to write
      */
-    public void saveList(List<Process> list) throws DAOException {
-        storeList(list);
+    public void saveBaseTypeAndSummary(Process process) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", process.getId());
+        parameters.put("baseType", process.getBaseType());
+        parameters.put("summary", process.getSummary());
+        executeUpdate("UPDATE Process SET baseType = :baseType, summary = :summary WHERE id = :id", parameters);
     }
 
     @Override
@@ -45,19 +45,6 @@ public class TemplateDAO extends BaseDAO<Template> {
             offset, size);
     }
 
-    /**
-     * Save list of templates.
-     *
-     * @param list
-     *            of templates
-     * @throws DAOException
-     *             an exception that can be thrown from the underlying saveList()
-     *             procedure failure.
-     */
-    public void saveList(List<Template> list) throws DAOException {
-        storeList(list);
-    }
-
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Template.class, id);
@@ -21,14 +21,19 @@ import javax.ws.rs.HttpMethod;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.rest.RestStatus;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -92,6 +97,68 @@ public class IndexRestClient extends KitodoRestClient {
         processStatusCode(indexResponse.status());
     }
 
+    /**
+     * Update some fields of a document in the index. The other fields of the
+     * document are kept.
+     *
+     * @param type
+     *            for which request is performed
+     * @param fields
+     *            fields to update with their new values
+     * @param id
+     *            of document - equal to the id from table in database
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            object is right after that available for display
+     * @return false if the document is not in the index
+     */
+    boolean updateDocument(String type, Map<String, Object> fields, Integer id, boolean forceRefresh)
+            throws IOException, CustomResponseException {
+        UpdateRequest updateRequest = new UpdateRequest(this.index, type, String.valueOf(id)).doc(fields);
+        if (forceRefresh) {
+            updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        }
+
+        try {
+            UpdateResponse updateResponse = highLevelClient.update(updateRequest);
+            processStatusCode(updateResponse.status());
+            return true;
+        } catch (ElasticsearchStatusException e) {
+            if (e.status() == RestStatus.NOT_FOUND) {
+                return false;
+            }
+            throw new CustomResponseException(e);
+        }
+    }
+
+    /**
+     * Update some fields of many documents in the index in one synchronous
+     * bulk request. Documents which are not in the index are skipped.
+     *
+     * @param type
+     *            for which request is performed
+     * @param fieldsToUpdate
+     *            fields to update with their new values by id of document
+     */
+    void updateDocuments(String type, Map<Integer, Map<String, Object>> fieldsToUpdate)
+            throws CustomResponseException {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (Map.Entry<Integer, Map<String, Object>> entry : fieldsToUpdate.entrySet()) {
+            bulkRequest.add(new UpdateRequest(this.index, type, String.valueOf(entry.getKey())).doc(entry.getValue()));
+        }
+
+        try {
+            BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest);
+            for (BulkItemResponse item : bulkResponse.getItems()) {
+                if (item.isFailed() && item.getFailure().getStatus() != RestStatus.NOT_FOUND) {
+                    throw new CustomResponseException(item.getFailureMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new CustomResponseException(e);
+        }
+    }
+
     /**
      * Add list of documents to the index. This method will be used for add whole
      * table to the index. It performs asynchronous request.
@@ -102,7 +169,27 @@ public class IndexRestClient extends KitodoRestClient {
      *            list of json documents to the index
      */
     void addTypeSync(String type, Map<Integer, Map<String, Object>> documentsToIndex) throws CustomResponseException {
+        addTypeSync(type, documentsToIndex, false);
+    }
+
+    /**
+     * Add list of documents to the index in one synchronous bulk request. This
+     * method will be used for documents which were modified together.
+     *
+     * @param type
+     *            for which request is performed
+     * @param documentsToIndex
+     *            list of json documents to the index
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            objects are right after that available for display
+     */
+    void addTypeSync(String type, Map<Integer, Map<String, Object>> documentsToIndex, boolean forceRefresh)
+            throws CustomResponseException {
         BulkRequest bulkRequest = prepareBulkRequest(type, documentsToIndex);
+        if (forceRefresh) {
+            bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        }
 
         try {
             BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest);
@@ -121,6 +121,63 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
         }
     }
 
+    /**
+     * Perform one synchronous bulk request for the list of beans. It is used
+     * when many objects were modified together and should be indexed at once.
+     *
+     * @param baseIndexedBeans
+     *            list of bean objects which will be added to index
+     * @param baseType
+     *            type on which will be called method createDocument()
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            objects are right after that available for display
+     */
+    @SuppressWarnings("unchecked")
+    public void performBulkRequest(List<T> baseIndexedBeans, S baseType, boolean forceRefresh)
+            throws CustomResponseException {
+        IndexRestClient restClient = initiateRestClient();
+
+        if (method.equals(HttpMethod.PUT)) {
+            Map<Integer, Map<String, Object>> documents = baseType.createDocuments(baseIndexedBeans);
+            restClient.addTypeSync(this.type, documents, forceRefresh);
+        } else {
+            throw new CustomResponseException(INCORRECT_HTTP);
+        }
+    }
+
+    /**
+     * Update some fields of the document of a bean. The other fields of the
+     * document are kept, so the bean doesn't need to be converted as a whole.
+     *
+     * @param beanId
+     *            id of the bean whose document is updated
+     * @param fields
+     *            fields to update with their new values
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            object is right after that available for display
+     * @return false if the bean has no document in the index yet
+     */
+    public boolean performUpdateRequest(Integer beanId, Map<String, Object> fields, boolean forceRefresh)
+            throws CustomResponseException, IOException {
+        return initiateRestClient().updateDocument(this.type, fields, beanId, forceRefresh);
+    }
+
+    /**
+     * Update some fields of the documents of many beans in one synchronous
+     * bulk request. Beans without document in the index are skipped.
+     *
+     * @param fieldsToUpdate
+     *            fields to update with their new values by id of bean
+     */
+    public void performBulkUpdateRequest(Map<Integer, Map<String, Object>> fieldsToUpdate)
+            throws CustomResponseException {
+        if (!fieldsToUpdate.isEmpty()) {
+            initiateRestClient().updateDocuments(this.type, fieldsToUpdate);
+        }
+    }
+
     private IndexRestClient initiateRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndex(index);
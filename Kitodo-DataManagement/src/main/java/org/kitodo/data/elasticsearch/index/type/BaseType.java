@@ -27,7 +27,9 @@ import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Client;
 import org.kitodo.data.database.beans.Comment;
 import org.kitodo.data.database.beans.Filter;
+import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.Property;
 import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
@@ -47,6 +49,9 @@ import org.kitodo.data.elasticsearch.index.type.enums.UserTypeField;
  */
 public abstract class BaseType<T extends BaseIndexedBean> implements TypeInterface<T> {
 
+    static final String TITLE_FIELD_KEY = "title";
+    static final String VALUE_FIELD_KEY = "value";
+
     @Override
     public Map<String, Object> createDocument(T baseIndexedBean) {
         return getJsonObject(baseIndexedBean);
@@ -176,4 +181,38 @@ public abstract class BaseType<T extends BaseIndexedBean> implements TypeInterfa
         }
         return "";
     }
+
+    /**
+     * Returns the properties, templates and workpieces of a process as title
+     * and value pairs for the index.
+     *
+     * @param process
+     *            process whose properties are indexed
+     * @return list of title and value pairs
+     */
+    List<Map<String, String>> getProperties(Process process) {
+        List<Property> properties = process.getProperties();
+        List<Map<String, String>> propertiesForIndex = new ArrayList<>();
+        for (Property property : properties) {
+            HashMap<String, String> propertyMap = new HashMap<>();
+            propertyMap.put(TITLE_FIELD_KEY, property.getTitle());
+            propertyMap.put(VALUE_FIELD_KEY, property.getValue());
+            propertiesForIndex.add(propertyMap);
+        }
+        properties = process.getTemplates();
+        for (Property property : properties) {
+            HashMap<String, String> propertyMap = new HashMap<>();
+            propertyMap.put(TITLE_FIELD_KEY, property.getTitle());
+            propertyMap.put(VALUE_FIELD_KEY, property.getValue());
+            propertiesForIndex.add(propertyMap);
+        }
+        properties = process.getWorkpieces();
+        for (Property property : properties) {
+            HashMap<String, String> propertyMap = new HashMap<>();
+            propertyMap.put(TITLE_FIELD_KEY, property.getTitle());
+            propertyMap.put(VALUE_FIELD_KEY, property.getValue());
+            propertiesForIndex.add(propertyMap);
+        }
+        return propertiesForIndex;
+    }
 }
@@ -19,17 +19,15 @@ import java.util.Objects;
 
 import org.kitodo.data.database.beans.Comment;
 import org.kitodo.data.database.beans.Process;
-import org.kitodo.data.database.beans.Property;
+import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
+import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 
 /**
  * Implementation of Process Type.
  */
 public class ProcessType extends BaseType<Process> {
 
-    private static final String TITLE_FIELD_KEY = "title";
-    private static final String VALUE_FIELD_KEY = "value";
-
     @Override
     Map<String, Object> getJsonObject(Process process) {
         String processBaseUri = process.getProcessBaseUri() != null ? process.getProcessBaseUri().getRawPath() : "";
@@ -45,7 +43,6 @@ public class ProcessType extends BaseType<Process> {
         jsonObject.put(ProcessTypeField.SORT_HELPER_ARTICLES.getKey(), process.getSortHelperArticles());
         jsonObject.put(ProcessTypeField.SORT_HELPER_DOCSTRUCTS.getKey(), process.getSortHelperDocstructs());
         jsonObject.put(ProcessTypeField.SORT_HELPER_STATUS.getKey(), preventNull(process.getSortHelperStatus()));
-        jsonObject.put(ProcessTypeField.SORT_HELPER_IMAGES.getKey(), process.getSortHelperImages());
         jsonObject.put(ProcessTypeField.SORT_HELPER_METADATA.getKey(), process.getSortHelperMetadata());
         jsonObject.put(ProcessTypeField.PROCESS_BASE_URI.getKey(), processBaseUri);
         jsonObject.put(ProcessTypeField.TEMPLATE_ID.getKey(), getId(process.getTemplate()));
@@ -60,38 +57,79 @@ public class ProcessType extends BaseType<Process> {
         jsonObject.put(ProcessTypeField.COMMENTS.getKey(), addObjectRelation(process.getComments()));
         jsonObject.put(ProcessTypeField.COMMENTS_MESSAGE.getKey(), getProcessComments(process));
         jsonObject.put(ProcessTypeField.HAS_CHILDREN.getKey(), process.getChildren().size() > 0);
+        jsonObject.putAll(getImageInformation(process));
         jsonObject.put(ProcessTypeField.PARENT_ID.getKey(), processParentId);
-        jsonObject.put(ProcessTypeField.TASKS.getKey(), addObjectRelation(process.getTasks(), true));
+        jsonObject.put(ProcessTypeField.TASKS.getKey(), getTasks(process));
         jsonObject.put(ProcessTypeField.METADATA.getKey(), process.getMetadata());
         jsonObject.put(ProcessTypeField.PROPERTIES.getKey(), getProperties(process));
         jsonObject.put(ProcessTypeField.BASE_TYPE.getKey(), process.getBaseType());
+        jsonObject.put(ProcessTypeField.SUMMARY.getKey(), getSummary(process));
         return jsonObject;
     }
 
-    private List<Map<String, String>> getProperties(Process process) {
-        List<Property> properties = process.getProperties();
-        List<Map<String, String>> propertiesForIndex = new ArrayList<>();
-        for (Property property : properties) {
-            HashMap<String, String> propertyMap = new HashMap<>();
-            propertyMap.put(TITLE_FIELD_KEY, property.getTitle());
-            propertyMap.put(VALUE_FIELD_KEY, property.getValue());
-            propertiesForIndex.add(propertyMap);
+    /**
+     * Get the fields of the document which depend on the images of the
+     * process. They can be updated on their own when the images have been
+     * counted again.
+     *
+     * @param process
+     *            process to get the fields for
+     * @return fields with image information
+     */
+    public static Map<String, Object> getImageInformation(Process process) {
+        Map<String, Object> imageInformation = new HashMap<>();
+        imageInformation.put(ProcessTypeField.SORT_HELPER_IMAGES.getKey(), process.getSortHelperImages());
+        imageInformation.put(ProcessTypeField.HAS_IMAGES.getKey(), process.getHasImages());
+        imageInformation.put(ProcessTypeField.EXPORTABLE.getKey(), isExportable(process));
+        return imageInformation;
+    }
+
+    /**
+     * Superordinate processes and processes of projects without generator
+     * source are always exportable, all others only if their generator source
+     * contains images. Returns null if this has not been checked yet.
+     */
+    private static Boolean isExportable(Process process) {
+        if (!process.getChildren().isEmpty() || Objects.isNull(process.getProject())
+                || Objects.isNull(process.getProject().getGeneratorSource())) {
+            return true;
         }
-        properties = process.getTemplates();
-        for (Property property : properties) {
-            HashMap<String, String> propertyMap = new HashMap<>();
-            propertyMap.put(TITLE_FIELD_KEY, property.getTitle());
-            propertyMap.put(VALUE_FIELD_KEY, property.getValue());
-            propertiesForIndex.add(propertyMap);
+        return process.getHasImages();
+    }
+
+    /**
+     * Get the tasks of the process with the fields the task filters on
+     * processes search for. They are indexed as nested objects, so that a
+     * filter finds processes by title and status of the same task with a
+     * single search.
+     */
+    private List<Map<String, Object>> getTasks(Process process) {
+        List<Map<String, Object>> tasksForIndex = new ArrayList<>();
+        for (Task task : process.getTasks()) {
+            int processingStatus = Objects.nonNull(task.getProcessingStatus()) ? task.getProcessingStatus().getValue()
+                    : 0;
+            Map<String, Object> taskMap = new HashMap<>();
+            taskMap.put(TaskTypeField.ID.getKey(), task.getId());
+            taskMap.put(TaskTypeField.TITLE.getKey(), preventNull(task.getTitle()));
+            taskMap.put(TaskTypeField.PROCESSING_STATUS.getKey(), processingStatus);
+            taskMap.put(TaskTypeField.ORDERING.getKey(), task.getOrdering());
+            taskMap.put(TaskTypeField.TYPE_AUTOMATIC.getKey(), task.isTypeAutomatic());
+            tasksForIndex.add(taskMap);
         }
-        properties = process.getWorkpieces();
-        for (Property property : properties) {
-            HashMap<String, String> propertyMap = new HashMap<>();
-            propertyMap.put(TITLE_FIELD_KEY, property.getTitle());
-            propertyMap.put(VALUE_FIELD_KEY, property.getValue());
-            propertiesForIndex.add(propertyMap);
+        return tasksForIndex;
+    }
+
+    private List<Map<String, String>> getSummary(Process process) {
+        List<Map<String, String>> summaryForIndex = new ArrayList<>();
+        if (Objects.nonNull(process.getSummary())) {
+            for (Map.Entry<String, String> entry : process.getSummary().entrySet()) {
+                HashMap<String, String> summaryMap = new HashMap<>();
+                summaryMap.put(TITLE_FIELD_KEY, entry.getKey());
+                summaryMap.put(VALUE_FIELD_KEY, entry.getValue());
+                summaryForIndex.add(summaryMap);
+            }
         }
-        return propertiesForIndex;
+        return summaryForIndex;
     }
 
     private String getProcessComments(Process process) {
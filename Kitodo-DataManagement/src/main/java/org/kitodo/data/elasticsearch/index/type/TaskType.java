@@ -12,11 +12,13 @@
 package org.kitodo.data.elasticsearch.index.type;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
@@ -61,6 +63,7 @@ public class TaskType extends BaseType<Task> {
         }
         jsonObject.put(TaskTypeField.PROCESS_ID.getKey(), getId(task.getProcess()));
         jsonObject.put(TaskTypeField.PROCESS_TITLE.getKey(), getTitle(task.getProcess()));
+        addProcessFieldsForFilters(jsonObject, task.getProcess());
         jsonObject.put(TaskTypeField.CLIENT_ID.getKey(), getClientId(task));
         jsonObject.put(TaskTypeField.PROJECT_ID.getKey(), getProjectIds(task));
         jsonObject.put(TaskTypeField.TEMPLATE_ID.getKey(), getId(task.getTemplate()));
@@ -69,6 +72,23 @@ public class TaskType extends BaseType<Task> {
         return jsonObject;
     }
 
+    /**
+     * Adds the batches, the project title and the properties of the process
+     * of the task, so that tasks can be filtered by them with one search
+     * instead of searching the matching processes first.
+     */
+    private void addProcessFieldsForFilters(Map<String, Object> jsonObject, Process process) {
+        if (Objects.nonNull(process)) {
+            jsonObject.put(TaskTypeField.PROCESS_BATCHES.getKey(), addObjectRelation(process.getBatches()));
+            jsonObject.put(TaskTypeField.PROCESS_PROJECT_TITLE.getKey(), getTitle(process.getProject()));
+            jsonObject.put(TaskTypeField.PROCESS_PROPERTIES.getKey(), getProperties(process));
+        } else {
+            jsonObject.put(TaskTypeField.PROCESS_BATCHES.getKey(), Collections.emptyList());
+            jsonObject.put(TaskTypeField.PROCESS_PROJECT_TITLE.getKey(), "");
+            jsonObject.put(TaskTypeField.PROCESS_PROPERTIES.getKey(), Collections.emptyList());
+        }
+    }
+
     private List<Integer> getProjectIds(Task task) {
         ArrayList<Integer> projectIds = new ArrayList<>();
 
@@ -35,13 +35,16 @@ public enum ProcessTypeField implements TypeInterface {
     COMMENTS("comments"),
     COMMENTS_MESSAGE("comments.message"),
     HAS_CHILDREN("hasChildren"),
+    HAS_IMAGES("hasImages"),
+    EXPORTABLE("exportable"),
     PARENT_ID("parent.id"),
     TASKS("tasks"),
     PROPERTIES("properties"),
     TEMPLATES("templates"),
     WORKPIECES("workpieces"),
     METADATA("meta"),
-    BASE_TYPE("baseType");
+    BASE_TYPE("baseType"),
+    SUMMARY("summary");
 
     private String name;
 
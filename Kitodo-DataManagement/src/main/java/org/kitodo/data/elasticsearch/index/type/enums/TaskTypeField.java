@@ -34,6 +34,9 @@ public enum TaskTypeField implements TypeInterface {
     BATCH_STEP("batchStep"),
     PROCESS_ID("processForTask.id"),
     PROCESS_TITLE("processForTask.title"),
+    PROCESS_BATCHES("processForTask.batches"),
+    PROCESS_PROJECT_TITLE("processForTask.project.title"),
+    PROCESS_PROPERTIES("processForTask.properties"),
     CLIENT_ID("clientForTask"),
     PROJECT_ID("projectForTask"),
     TEMPLATE_ID("templateForTask.id"),
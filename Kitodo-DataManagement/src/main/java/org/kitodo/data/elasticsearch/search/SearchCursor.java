@@ -0,0 +1,43 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.search;
+
+/**
+ * Position in a sorted result set, used to read all documents matching a query
+ * page by page. Unlike offset and size, the cursor is not limited by the
+ * maximal result window of the index and every page costs the same, no matter
+ * how far into the result set it is.
+ */
+public class SearchCursor {
+
+    private Object[] sortValues;
+
+    /**
+     * Get sort values of the last document read, or null if nothing has been
+     * read yet.
+     *
+     * @return sort values of the last document read
+     */
+    Object[] getSortValues() {
+        return sortValues;
+    }
+
+    /**
+     * Set sort values of the last document read.
+     *
+     * @param sortValues
+     *            sort values of the last document read
+     */
+    void setSortValues(Object[] sortValues) {
+        this.sortValues = sortValues;
+    }
+}
@@ -29,12 +29,15 @@ import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.index.mapper.UidFieldMapper;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.Aggregations;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -192,6 +195,52 @@ public class SearchRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Get page of documents by query, following the given sort values. The
+     * documents are additionally sorted by their unique id, so the order is
+     * total and no document is skipped or repeated between pages.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find documents
+     * @param sort
+     *            sort condition, may be null
+     * @param searchAfter
+     *            sort values of last document of previous page, null for first
+     *            page
+     * @param size
+     *            size of page
+     * @return found hits
+     */
+    SearchHits getDocumentsAfter(String type, QueryBuilder query, SortBuilder sort, Object[] searchAfter, int size)
+            throws CustomResponseException, DataException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(query);
+        if (Objects.nonNull(sort)) {
+            sourceBuilder.sort(sort);
+        }
+        sourceBuilder.sort(SortBuilders.fieldSort(UidFieldMapper.NAME).order(SortOrder.ASC));
+        if (Objects.nonNull(searchAfter)) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+        sourceBuilder.size(size);
+
+        SearchRequest searchRequest = new SearchRequest(this.index);
+        searchRequest.types(type);
+        searchRequest.source(sourceBuilder);
+
+        try {
+            SearchResponse response = highLevelClient.search(searchRequest);
+            return response.getHits();
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return SearchHits.empty();
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
     private String performRequest(String type, HttpEntity entity, String httpMethod, String urlRequest)
             throws CustomResponseException, DataException {
         String output = "";
@@ -210,6 +210,36 @@ public class Searcher extends Index {
         return searchResults;
     }
 
+    /**
+     * Find next page of documents by query and sort condition. The cursor is
+     * moved behind the last document found, so repeated calls with the same
+     * cursor read the whole result set. An empty list marks the end.
+     *
+     * @param query
+     *            as QueryBuilder
+     * @param sort
+     *            as SortBuilder, may be null
+     * @param cursor
+     *            position in result set
+     * @param size
+     *            size of page
+     * @return list of JSON objects
+     */
+    public List<Map<String, Object>> findDocumentsAfter(QueryBuilder query, SortBuilder sort, SearchCursor cursor,
+            int size) throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        List<Map<String, Object>> searchResults = new ArrayList<>();
+
+        SearchHits hits = restClient.getDocumentsAfter(this.type, query, sort, cursor.getSortValues(), size);
+        for (SearchHit hit : hits.getHits()) {
+            Map<String, Object> result = hit.getSourceAsMap();
+            result.put("id", hit.getId());
+            searchResults.add(result);
+            cursor.setSortValues(hit.getSortValues());
+        }
+        return searchResults;
+    }
+
     private SearchRestClient initiateRestClient() {
         SearchRestClient restClient = SearchRestClient.getInstance();
         restClient.setIndex(index);
@@ -0,0 +1,29 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Create table for metadata editor locks shared by all nodes.
+--
+-- 1. Add table
+--
+
+CREATE TABLE IF NOT EXISTS metadataeditor_lock(
+    id INT(11) NOT NULL AUTO_INCREMENT,
+    process_id INT(11) NOT NULL,
+    user_id INT(11) NOT NULL,
+    expires DATETIME NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY UK_metadataeditorlock_process_id (process_id),
+    KEY FK_metadataeditorlock_user_id (user_id),
+    CONSTRAINT FK_metadataeditorlock_user_id
+        FOREIGN KEY (user_id) REFERENCES user (id)
+) DEFAULT CHARACTER SET = utf8mb4
+  COLLATE utf8mb4_unicode_ci;
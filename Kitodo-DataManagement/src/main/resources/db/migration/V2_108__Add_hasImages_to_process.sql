@@ -0,0 +1,16 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Add column telling whether the generator source folder of a
+-- process contains images. NULL means it has not been checked yet.
+--
+ALTER TABLE process ADD COLUMN hasImages TINYINT(1) DEFAULT NULL;
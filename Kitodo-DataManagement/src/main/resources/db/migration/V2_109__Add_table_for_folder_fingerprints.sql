@@ -0,0 +1,29 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Create table for the state of process folders when they were
+--            last searched for media.
+--
+-- 1. Add table
+--
+
+CREATE TABLE IF NOT EXISTS folder_fingerprint(
+    id INT(11) NOT NULL AUTO_INCREMENT,
+    process_id INT(11) NOT NULL,
+    folder_id INT(11) NOT NULL,
+    lastModified BIGINT NOT NULL,
+    entryCount INT(11) NOT NULL,
+    listingHash VARCHAR(64) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY UK_folderfingerprint_process_id_folder_id (process_id, folder_id)
+) DEFAULT CHARACTER SET = utf8mb4
+  COLLATE utf8mb4_unicode_ci;
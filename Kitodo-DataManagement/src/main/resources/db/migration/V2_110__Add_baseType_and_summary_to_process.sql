@@ -0,0 +1,18 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Add columns for the type of the root element of the workpiece
+-- of a process and its summary metadata, so that they can be shown without
+-- reading the METS file. NULL means they have not been determined yet.
+--
+ALTER TABLE process ADD COLUMN baseType VARCHAR(255) DEFAULT NULL;
+ALTER TABLE process ADD COLUMN summary LONGTEXT DEFAULT NULL;
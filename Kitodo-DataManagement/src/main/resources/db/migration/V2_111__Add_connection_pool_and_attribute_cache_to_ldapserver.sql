@@ -0,0 +1,18 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Add columns to enable pooling of the manager connections to an
+-- LDAP server and to set how many seconds attributes read from it, such as
+-- the home directory, may be cached. 0 disables the cache.
+--
+ALTER TABLE ldapserver ADD COLUMN useConnectionPool TINYINT(1) NOT NULL DEFAULT 0;
+ALTER TABLE ldapserver ADD COLUMN attributeCacheTtl INT(11) NOT NULL DEFAULT 0;
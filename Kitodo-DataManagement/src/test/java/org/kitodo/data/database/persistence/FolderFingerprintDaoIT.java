@@ -0,0 +1,49 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.kitodo.data.database.beans.FolderFingerprint;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class FolderFingerprintDaoIT {
+
+    @Test
+    public void shouldFindAndRemoveFingerprintsByProcess() throws DAOException {
+        FolderFingerprintDAO folderFingerprintDAO = new FolderFingerprintDAO();
+        folderFingerprintDAO.save(createFolderFingerprint(1, 1));
+        folderFingerprintDAO.save(createFolderFingerprint(1, 2));
+        folderFingerprintDAO.save(createFolderFingerprint(2, 1));
+
+        List<FolderFingerprint> fingerprints = folderFingerprintDAO.getByProcess(1);
+        assertEquals("Fingerprints of process were not found!", 2, fingerprints.size());
+        assertEquals("Fingerprint was not saved correctly!", 1000L, fingerprints.get(0).getLastModified());
+
+        folderFingerprintDAO.removeByProcess(1);
+        assertEquals("Fingerprints of process were not removed!", 0, folderFingerprintDAO.getByProcess(1).size());
+        assertEquals("Fingerprints of other process were removed!", 1, folderFingerprintDAO.getAll().size());
+    }
+
+    private static FolderFingerprint createFolderFingerprint(int processId, int folderId) {
+        FolderFingerprint folderFingerprint = new FolderFingerprint();
+        folderFingerprint.setProcessId(processId);
+        folderFingerprint.setFolderId(folderId);
+        folderFingerprint.setLastModified(1000L);
+        folderFingerprint.setEntryCount(3);
+        folderFingerprint.setListingHash("hash");
+        return folderFingerprint;
+    }
+}
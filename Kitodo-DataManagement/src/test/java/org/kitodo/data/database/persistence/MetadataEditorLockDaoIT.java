@@ -0,0 +1,79 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Date;
+
+import javax.persistence.PersistenceException;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Test;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class MetadataEditorLockDaoIT {
+
+    private static final long MINUTE = 60_000;
+
+    @Test
+    public void shouldLockUntilExpiry() throws DAOException {
+        MetadataEditorLockDAO metadataEditorLockDAO = new MetadataEditorLockDAO();
+        Date now = new Date();
+        Date later = new Date(now.getTime() + MINUTE);
+
+        assertTrue("Process could not be locked!", metadataEditorLockDAO.tryLock(1, 1, now, later));
+        assertTrue("Lock could not be acquired again!", metadataEditorLockDAO.tryLock(1, 1, now, later));
+        assertFalse("Process was locked twice!", metadataEditorLockDAO.tryLock(1, 2, now, later));
+        assertEquals(Integer.valueOf(1), metadataEditorLockDAO.getLockingUserId(1, now));
+
+        assertTrue("Lock could not be renewed!", metadataEditorLockDAO.renew(1, 1, later));
+        assertFalse("Lock of other user was renewed!", metadataEditorLockDAO.renew(1, 2, later));
+
+        Date afterExpiry = new Date(later.getTime() + MINUTE);
+        assertNull("Lock didn't expire!", metadataEditorLockDAO.getLockingUserId(1, afterExpiry));
+        assertTrue("Expired lock could not be taken over!",
+            metadataEditorLockDAO.tryLock(1, 2, afterExpiry, new Date(afterExpiry.getTime() + MINUTE)));
+        assertEquals(Integer.valueOf(2), metadataEditorLockDAO.getLockingUserId(1, afterExpiry));
+
+        metadataEditorLockDAO.release(1);
+        assertNull("Lock wasn't released!", metadataEditorLockDAO.getLockingUserId(1, now));
+
+        metadataEditorLockDAO.tryLock(2, 1, now, later);
+        metadataEditorLockDAO.tryLock(3, 1, now, later);
+        metadataEditorLockDAO.releaseAll(1);
+        assertEquals("Locks of user weren't released!", 0, metadataEditorLockDAO.getAll().size());
+    }
+
+    @Test
+    public void shouldGetDatabaseTime() throws DAOException {
+        Date databaseTime = new MetadataEditorLockDAO().getDatabaseTime();
+        assertTrue("Database time is far from the current time!",
+            Math.abs(databaseTime.getTime() - System.currentTimeMillis()) < MINUTE);
+    }
+
+    @Test
+    public void shouldRecognizeWrappedConstraintViolation() {
+        ConstraintViolationException constraintViolation = new ConstraintViolationException("Duplicate entry",
+                new SQLException(), "UK_metadataeditorlock_process_id");
+        DAOException daoException = new DAOException(new PersistenceException(constraintViolation));
+
+        assertTrue("Wrapped constraint violation not recognized!",
+            MetadataEditorLockDAO.isConstraintViolation(daoException));
+        assertFalse("Other exception taken for a constraint violation!",
+            MetadataEditorLockDAO.isConstraintViolation(new DAOException(new PersistenceException())));
+    }
+}
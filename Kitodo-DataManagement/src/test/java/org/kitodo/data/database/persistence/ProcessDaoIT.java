@@ -0,0 +1,163 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.junit.Test;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class ProcessDaoIT {
+
+    private static final Logger logger = LogManager.getLogger(ProcessDaoIT.class);
+
+    @Test
+    public void shouldSaveOnlyImageInformation() throws DAOException {
+        ProcessDAO processDAO = new ProcessDAO();
+        Process process = new Process();
+        process.setTitle("Images");
+        process.setSortHelperImages(0);
+        processDAO.save(process);
+        assertNull("Images should not have been checked!", processDAO.getById(process.getId()).getHasImages());
+
+        process.setTitle("Changed");
+        process.setSortHelperImages(42);
+        process.setHasImages(true);
+        processDAO.saveImageInformation(process);
+
+        Process saved = processDAO.getById(process.getId());
+        assertEquals("Number of images was not saved!", 42, (int) saved.getSortHelperImages());
+        assertTrue("Image information was not saved!", saved.getHasImages());
+        assertEquals("Title should not have been saved!", "Images", saved.getTitle());
+    }
+
+    @Test
+    public void shouldResetHasImagesOfProject() throws DAOException {
+        Project project = new Project();
+        project.setTitle("Generator source changed");
+        new ProjectDAO().save(project);
+        ProcessDAO processDAO = new ProcessDAO();
+        Process process = new Process();
+        process.setTitle("Checked");
+        process.setProject(project);
+        process.setHasImages(true);
+        processDAO.save(process);
+        Process otherProcess = new Process();
+        otherProcess.setTitle("Other project");
+        otherProcess.setHasImages(false);
+        processDAO.save(otherProcess);
+
+        processDAO.resetHasImages(project.getId());
+
+        assertNull("Images should have to be checked again!", processDAO.getById(process.getId()).getHasImages());
+        assertFalse("Process of other project should not have been reset!",
+            processDAO.getById(otherProcess.getId()).getHasImages());
+    }
+
+    @Test
+    public void shouldSaveOnlyBaseTypeAndSummary() throws DAOException {
+        ProcessDAO processDAO = new ProcessDAO();
+        Process process = new Process();
+        process.setTitle("Summary");
+        processDAO.save(process);
+        assertNull("Base type should not have been determined!", processDAO.getById(process.getId()).getBaseType());
+        assertNull("Summary should not have been determined!", processDAO.getById(process.getId()).getSummary());
+
+        process.setTitle("Changed");
+        process.setBaseType("Monograph");
+        Map<String, String> summary = new LinkedHashMap<>();
+        summary.put("TitleDocMain", "A \"quoted\" title");
+        summary.put("PublicationYear", "1871");
+        process.setSummary(summary);
+        processDAO.saveBaseTypeAndSummary(process);
+
+        Process saved = processDAO.getById(process.getId());
+        assertEquals("Base type was not saved!", "Monograph", saved.getBaseType());
+        assertEquals("Summary was not saved!", summary, saved.getSummary());
+        assertEquals("Order of summary was not kept!", "TitleDocMain", saved.getSummary().keySet().iterator().next());
+        assertEquals("Title should not have been saved!", "Summary", saved.getTitle());
+    }
+
+    @Test
+    public void shouldReadAllPagesById() throws DAOException {
+        final int numberOfProcesses = 20_000;
+        final int pageSize = 100;
+        List<Integer> insertedIds = new ArrayList<>();
+        try (StatelessSession session = HibernateUtil.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 1; i <= numberOfProcesses; i++) {
+                Process process = new Process();
+                process.setTitle("Page " + i);
+                insertedIds.add((Integer) session.insert(process));
+            }
+            transaction.commit();
+        }
+        ProcessDAO processDAO = new ProcessDAO();
+        try {
+            long begin = System.nanoTime();
+            List<Integer> idsByOffset = new ArrayList<>();
+            List<Process> page;
+            int offset = 0;
+            do {
+                page = processDAO.getAll(offset, pageSize);
+                page.forEach(process -> idsByOffset.add(process.getId()));
+                offset += pageSize;
+            } while (!page.isEmpty());
+            long byOffset = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            List<Integer> idsById = new ArrayList<>();
+            int lastId = 0;
+            do {
+                page = processDAO.getAllAfter(lastId, pageSize);
+                page.forEach(process -> idsById.add(process.getId()));
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1).getId();
+                }
+            } while (!page.isEmpty());
+            long byId = System.nanoTime() - begin;
+            logger.info("Reading {} processes in pages of {} took {} ms by offset and {} ms by id",
+                idsByOffset.size(), pageSize, TimeUnit.NANOSECONDS.toMillis(byOffset),
+                TimeUnit.NANOSECONDS.toMillis(byId));
+
+            assertTrue("Inserted processes were not read!", idsById.containsAll(insertedIds));
+            assertEquals("Pages by id differ from pages by offset!", idsByOffset, idsById);
+            assertEquals("Wrong id to continue after!", (int) idsById.get(pageSize - 1),
+                processDAO.getIdBeforeOffset(pageSize, false));
+        } finally {
+            try (StatelessSession session = HibernateUtil.openStatelessSession()) {
+                Transaction transaction = session.beginTransaction();
+                for (Integer id : insertedIds) {
+                    Process process = new Process();
+                    process.setId(id);
+                    session.delete(process);
+                }
+                transaction.commit();
+            }
+        }
+    }
+}
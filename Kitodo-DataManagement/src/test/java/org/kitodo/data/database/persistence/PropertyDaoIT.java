@@ -14,7 +14,10 @@ package org.kitodo.data.database.persistence;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -40,6 +43,14 @@ public class PropertyDaoIT {
 
         assertEquals("Objects were not saved or not found!", 3, propertyDAO.getAll().size());
         assertEquals("Objects were not saved or not found!", 2, propertyDAO.getAll(1,2).size());
+        assertEquals("Objects were not found by id!", propertyDAO.getAll(1, 2), propertyDAO.getAllAfter(1, 2));
+        assertEquals("Wrong id to continue after!", 1, propertyDAO.getIdBeforeOffset(1, false));
+        assertEquals("Not indexed objects were not found by id!", 2, propertyDAO.getAllNotIndexedAfter(0, 3).size());
+        assertEquals("Not indexed objects were not found by id!", 1, propertyDAO.getAllNotIndexedAfter(2, 3).size());
+        try (Stream<Property> stream = propertyDAO.streamByQuery("FROM Property ORDER BY id ASC", null, 2)) {
+            assertEquals("Objects were not streamed!", Arrays.asList("first_property", "second_property",
+                "third_property"), stream.map(Property::getTitle).collect(Collectors.toList()));
+        }
 
         Property foundProperty = propertyDAO.getById(1);
         assertEquals("Object was not saved or not found!", "first_property", foundProperty.getTitle());
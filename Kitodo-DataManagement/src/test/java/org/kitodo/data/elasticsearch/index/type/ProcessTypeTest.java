@@ -13,6 +13,7 @@ package org.kitodo.data.elasticsearch.index.type;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.text.DateFormat;
@@ -28,11 +29,13 @@ import org.junit.Test;
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Client;
 import org.kitodo.data.database.beans.Docket;
+import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Property;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.elasticsearch.index.type.enums.BatchTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
@@ -79,6 +82,9 @@ public class ProcessTypeTest {
         Task firstTask = new Task();
         firstTask.setId(1);
         firstTask.setTitle("Task one");
+        firstTask.setOrdering(1);
+        firstTask.setProcessingStatus(TaskStatus.DONE);
+        firstTask.setTypeAutomatic(true);
         tasks.add(firstTask);
 
         Task secondTask = new Task();
@@ -173,6 +179,11 @@ public class ProcessTypeTest {
         assertEquals("Key tasks.id doesn't match to given value!", 1, TaskTypeField.ID.getIntValue(task));
         assertEquals("Key tasks.title doesn't match to given value!", "Task one",
             TaskTypeField.TITLE.getStringValue(task));
+        assertEquals("Key tasks.processingStatus doesn't match to given value!", 3,
+            TaskTypeField.PROCESSING_STATUS.getIntValue(task));
+        assertEquals("Key tasks.ordering doesn't match to given value!", 1, TaskTypeField.ORDERING.getIntValue(task));
+        assertTrue("Key tasks.typeAutomatic doesn't match to given value!",
+            TaskTypeField.TYPE_AUTOMATIC.getBooleanValue(task));
 
         task = tasks.get(1);
         assertEquals("Key tasks.id doesn't match to given value!", 2, TaskTypeField.ID.getIntValue(task));
@@ -277,6 +288,49 @@ public class ProcessTypeTest {
         assertEquals("Size properties doesn't match to given value!", 0, properties.size());
     }
 
+    @Test
+    public void shouldCreateDocumentWithExportability() throws Exception {
+        ProcessType processType = new ProcessType();
+
+        Process process = prepareData().get(0);
+        Map<String, Object> actual = processType.createDocument(process);
+        assertTrue("Process without generator source should be exportable!",
+            ProcessTypeField.EXPORTABLE.getBooleanValue(actual));
+        assertNull("Key hasImages should not be set!", actual.get(ProcessTypeField.HAS_IMAGES.getKey()));
+
+        process.getProject().setGeneratorSource(new Folder());
+        actual = processType.createDocument(process);
+        assertNull("Exportability of unchecked process should not be set!",
+            actual.get(ProcessTypeField.EXPORTABLE.getKey()));
+
+        process.setHasImages(false);
+        actual = processType.createDocument(process);
+        assertFalse("Process without images should not be exportable!",
+            ProcessTypeField.EXPORTABLE.getBooleanValue(actual));
+        assertFalse("Key hasImages doesn't match to given value!",
+            ProcessTypeField.HAS_IMAGES.getBooleanValue(actual));
+
+        process.setHasImages(true);
+        actual = processType.createDocument(process);
+        assertTrue("Process with images should be exportable!",
+            ProcessTypeField.EXPORTABLE.getBooleanValue(actual));
+    }
+
+    @Test
+    public void shouldGetImageInformationAsInDocument() throws Exception {
+        Process process = prepareData().get(0);
+        process.getProject().setGeneratorSource(new Folder());
+        process.setHasImages(true);
+
+        Map<String, Object> imageInformation = ProcessType.getImageInformation(process);
+        Map<String, Object> document = new ProcessType().createDocument(process);
+        assertEquals("Amount of keys is incorrect!", 3, imageInformation.size());
+        for (Map.Entry<String, Object> entry : imageInformation.entrySet()) {
+            assertEquals("Key " + entry.getKey() + " differs from document!", document.get(entry.getKey()),
+                entry.getValue());
+        }
+    }
+
     @Test
     public void shouldCreateDocumentWithCorrectAmountOfKeys() throws Exception {
         ProcessType processType = new ProcessType();
@@ -284,7 +338,7 @@ public class ProcessTypeTest {
         Process process = prepareData().get(0);
         Map<String, Object> actual = processType.createDocument(process);
 
-        assertEquals("Amount of keys is incorrect!", 27, actual.keySet().size());
+        assertEquals("Amount of keys is incorrect!", 30, actual.keySet().size());
 
         List<Map<String, Object>> batches = ProcessTypeField.BATCHES.getJsonArray(actual);
         Map<String, Object> batch = batches.get(0);
@@ -292,7 +346,7 @@ public class ProcessTypeTest {
 
         List<Map<String, Object>> tasks = ProcessTypeField.TASKS.getJsonArray(actual);
         Map<String, Object> task = tasks.get(0);
-        assertEquals("Amount of keys in tasks is incorrect!", 2, task.keySet().size());
+        assertEquals("Amount of keys in tasks is incorrect!", 5, task.keySet().size());
     }
 
     @Test
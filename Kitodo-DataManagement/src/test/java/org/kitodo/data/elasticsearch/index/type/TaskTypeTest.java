@@ -23,12 +23,16 @@ import java.util.List;
 import java.util.Map;
 
 import org.junit.Test;
+import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.Property;
 import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.enums.TaskEditType;
 import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.elasticsearch.index.type.enums.BatchTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.RoleTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 
@@ -47,6 +51,20 @@ public class TaskTypeTest {
         process.setTitle("First");
         process.setId(1);
 
+        Batch batch = new Batch();
+        batch.setId(1);
+        process.getBatches().add(batch);
+
+        Project project = new Project();
+        project.setId(1);
+        project.setTitle("Project");
+        process.setProject(project);
+
+        Property property = new Property();
+        property.setTitle("Signature");
+        property.setValue("Ms 1");
+        process.getProperties().add(property);
+
         User firstUser = new User();
         firstUser.setId(1);
         firstUser.setLogin("testOne");
@@ -155,6 +173,20 @@ public class TaskTypeTest {
             TaskTypeField.PROCESS_ID.getIntValue(actual));
         assertEquals("Key processForTask.title doesn't match to given value!", "First",
             TaskTypeField.PROCESS_TITLE.getStringValue(actual));
+        assertEquals("Key processForTask.project.title doesn't match to given value!", "Project",
+            TaskTypeField.PROCESS_PROJECT_TITLE.getStringValue(actual));
+
+        List<Map<String, Object>> batches = TaskTypeField.PROCESS_BATCHES.getJsonArray(actual);
+        assertEquals("Size processForTask.batches doesn't match to given value!", 1, batches.size());
+        assertEquals("Key processForTask.batches.id doesn't match to given value!", 1,
+            BatchTypeField.ID.getIntValue(batches.get(0)));
+
+        List<Map<String, Object>> properties = TaskTypeField.PROCESS_PROPERTIES.getJsonArray(actual);
+        assertEquals("Size processForTask.properties doesn't match to given value!", 1, properties.size());
+        assertEquals("Key processForTask.properties.title doesn't match to given value!", "Signature",
+            properties.get(0).get("title"));
+        assertEquals("Key processForTask.properties.value doesn't match to given value!", "Ms 1",
+            properties.get(0).get("value"));
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         assertEquals("Size roles doesn't match to given value!", 2, roles.size());
@@ -271,7 +303,7 @@ public class TaskTypeTest {
         Task task = prepareData().get(0);
         Map<String, Object> actual = taskType.createDocument(task);
 
-        assertEquals("Amount of keys is incorrect!", 25, actual.keySet().size());
+        assertEquals("Amount of keys is incorrect!", 28, actual.keySet().size());
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         Map<String, Object> role = roles.get(0);
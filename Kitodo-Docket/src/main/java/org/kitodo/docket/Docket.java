@@ -11,9 +11,11 @@
 
 package org.kitodo.docket;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
 
@@ -28,7 +30,7 @@ public class Docket implements DocketInterface {
 
         File file = File.createTempFile("docket.pdf", ".tmp");
 
-        try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
+        try (OutputStream fileOutputStream = new BufferedOutputStream(new FileOutputStream(file))) {
             exportDocket.startExport(docketData, fileOutputStream, new File(xslFileUri));
         }
 
@@ -41,7 +43,7 @@ public class Docket implements DocketInterface {
 
         File file = File.createTempFile("docket_multipage.pdf", ".tmp");
 
-        try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
+        try (OutputStream fileOutputStream = new BufferedOutputStream(new FileOutputStream(file))) {
             exportDocket.startExport(docketData, fileOutputStream, new File(xslFileUri));
         }
 
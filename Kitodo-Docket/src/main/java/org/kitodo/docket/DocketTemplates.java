@@ -0,0 +1,119 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.docket;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.fop.apps.FOPException;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.FopFactoryBuilder;
+import org.apache.fop.apps.MimeConstants;
+
+/**
+ * Holds the FOP factory and the compiled docket stylesheets for reuse. A
+ * stylesheet is compiled again when its file was modified since it was
+ * compiled last time.
+ */
+class DocketTemplates {
+
+    private static final FopFactory fopFactory;
+    private static final SAXTransformerFactory transformerFactory;
+    private static final Map<File, CompiledStylesheet> stylesheets = new ConcurrentHashMap<>();
+
+    static {
+        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
+        builder.setStrictFOValidation(false);
+        fopFactory = builder.build();
+        transformerFactory = (SAXTransformerFactory) TransformerFactory.newInstance();
+    }
+
+    private static class CompiledStylesheet {
+        private final Templates templates;
+        private final long lastModified;
+        private final long length;
+
+        CompiledStylesheet(Templates templates, long lastModified, long length) {
+            this.templates = templates;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
+    private DocketTemplates() {
+    }
+
+    /**
+     * Returns the compiled stylesheet for the given file. The stylesheet is
+     * compiled on first use and again after the file has changed.
+     *
+     * @param xsltFile
+     *            stylesheet file
+     * @return compiled stylesheet
+     * @throws TransformerConfigurationException
+     *             if the stylesheet cannot be compiled
+     */
+    static Templates getTemplates(File xsltFile) throws TransformerConfigurationException {
+        File key = xsltFile.getAbsoluteFile();
+        long lastModified = key.lastModified();
+        long length = key.length();
+        CompiledStylesheet compiled = stylesheets.get(key);
+        if (Objects.isNull(compiled) || compiled.lastModified != lastModified || compiled.length != length) {
+            Templates templates;
+            synchronized (transformerFactory) {
+                templates = transformerFactory.newTemplates(new StreamSource(key));
+            }
+            compiled = new CompiledStylesheet(templates, lastModified, length);
+            stylesheets.put(key, compiled);
+        }
+        return compiled.templates;
+    }
+
+    /**
+     * Creates a handler which transforms the SAX events it receives with the
+     * given stylesheet into XSL-FO and renders them as PDF to the output
+     * stream.
+     *
+     * @param xsltFile
+     *            stylesheet file
+     * @param outputStream
+     *            stream to write the PDF to
+     * @return handler to send the docket XML to
+     * @throws TransformerConfigurationException
+     *             if the stylesheet cannot be compiled
+     * @throws FOPException
+     *             if the PDF renderer cannot be created
+     */
+    static TransformerHandler newPdfHandler(File xsltFile, OutputStream outputStream)
+            throws TransformerConfigurationException, FOPException {
+        Templates templates = getTemplates(xsltFile);
+        TransformerHandler transformerHandler;
+        synchronized (transformerFactory) {
+            transformerHandler = transformerFactory.newTransformerHandler(templates);
+        }
+        Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, outputStream);
+        transformerHandler.setResult(new SAXResult(fop.getDefaultHandler()));
+        return transformerHandler;
+    }
+}
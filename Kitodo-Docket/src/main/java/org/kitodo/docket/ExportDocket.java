@@ -11,24 +11,14 @@
 
 package org.kitodo.docket;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 
-import javax.xml.transform.Result;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.sax.SAXResult;
-import javax.xml.transform.stream.StreamSource;
+import javax.xml.transform.sax.TransformerHandler;
 
 import org.apache.fop.apps.FOPException;
-import org.apache.fop.apps.Fop;
-import org.apache.fop.apps.FopFactory;
-import org.apache.fop.apps.FopFactoryBuilder;
-import org.apache.fop.apps.MimeConstants;
 import org.kitodo.api.docket.DocketData;
 
 /**
@@ -48,20 +38,16 @@ public class ExportDocket {
      *             Throws IOException, when pdfGeneration fails
      */
     void startExport(DocketData docketData, OutputStream outputStream, File xsltFile) throws IOException {
-        ExportXmlLog exl = new ExportXmlLog();
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        exl.startExport(docketData, out);
-
-        byte[] pdfBytes = generatePdfBytes(out, xsltFile);
-
-        outputStream.write(pdfBytes);
+        new ExportXmlLog().startExport(docketData, createPdfHandler(outputStream, xsltFile));
         outputStream.flush();
         outputStream.close();
     }
 
     /**
      * This method exports the production metadata as run note to a given
-     * stream. the docket.xsl has to be in the config-folder.
+     * stream. the docket.xsl has to be in the config-folder. The dockets are
+     * transformed one after another while the PDF is written, so neither the
+     * XML nor the PDF of all processes is collected in memory.
      *
      * @param docketDataList
      *            the docketData to export for several processes
@@ -69,37 +55,18 @@ public class ExportDocket {
      *             Throws IOException, when pdfGeneration fails.
      */
     void startExport(Iterable<DocketData> docketDataList, OutputStream os, File xsltFile) throws IOException {
-        ExportXmlLog exl = new ExportXmlLog();
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        exl.startMultipleExport(docketDataList, out);
-
-        byte[] pdfBytes = generatePdfBytes(out, xsltFile);
-
-        os.write(pdfBytes);
+        new ExportXmlLog().startMultipleExport(docketDataList, createPdfHandler(os, xsltFile));
+        os.flush();
     }
 
-    private byte[] generatePdfBytes(ByteArrayOutputStream out, File xsltFile) throws IOException {
-        // generate pdf file
-        StreamSource source = new StreamSource(new ByteArrayInputStream(out.toByteArray()));
-        StreamSource transformSource = new StreamSource(xsltFile);
-        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
-        builder.setStrictFOValidation(false);
-        FopFactory fopFactory = builder.build();
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        // transform xml
+    private TransformerHandler createPdfHandler(OutputStream outputStream, File xsltFile) throws IOException {
         try {
-            Transformer xslTransformer = TransformerFactory.newInstance().newTransformer(transformSource);
-            Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, outStream);
-            Result res = new SAXResult(fop.getDefaultHandler());
-            xslTransformer.transform(source, res);
+            return DocketTemplates.newPdfHandler(xsltFile, outputStream);
         } catch (FOPException e) {
             throw new IOException("FOPException occurred", e);
         } catch (TransformerException e) {
             throw new IOException("TransformerException occurred", e);
         }
-
-        // write the content to output stream
-        return outStream.toByteArray();
     }
 
 }
@@ -11,19 +11,33 @@
 
 package org.kitodo.docket;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import javax.xml.transform.Templates;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ExportDocketTest {
     private DocketDataGenerator docketDataGenerator;
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void initialize() {
         this.docketDataGenerator = new DocketDataGenerator();
@@ -48,4 +62,16 @@ public class ExportDocketTest {
         assertTrue(file.exists());
     }
 
+    @Test
+    public void shouldRecompileChangedStylesheetOnly() throws Exception {
+        File xslFile = temporaryFolder.newFile("docket.xsl");
+        Files.copy(Paths.get("src/test/resources/docket.xsl"), xslFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        Templates templates = DocketTemplates.getTemplates(xslFile);
+        assertSame("Unchanged stylesheet was compiled again!", templates, DocketTemplates.getTemplates(xslFile));
+
+        Files.write(xslFile.toPath(), "<!-- changed -->".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertNotSame("Changed stylesheet was not compiled again!", templates, DocketTemplates.getTemplates(xslFile));
+    }
+
 }
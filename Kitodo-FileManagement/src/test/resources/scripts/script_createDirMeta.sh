@@ -13,7 +13,8 @@
 #
 # Note: Ensure that Tomcat has permission to execute the given commands.
 #
+# Several directories may be given at once. They are created in the given
+# order, so parent directories must be listed before their subdirectories.
+#
 
-Directory="$1"
-
-/bin/mkdir -vm 0775 "$Directory"
+/bin/mkdir -vm 0775 "$@"
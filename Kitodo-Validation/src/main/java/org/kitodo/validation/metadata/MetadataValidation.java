@@ -22,15 +22,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentHashMap.KeySetView;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -116,17 +115,28 @@ public class MetadataValidation implements MetadataValidationInterface {
 
         Collection<ValidationResult> results = new ArrayList<>();
 
-        results.add(checkForStructuresWithoutMedia(workpiece, translations));
-        results.add(checkForUnlinkedMedia(workpiece, translations));
+        List<IncludedStructuralElement> includedStructuralElements = workpiece.getAllIncludedStructuralElements();
+        List<MediaUnit> mediaUnits = workpiece.getAllMediaUnits();
+        Set<MediaUnit> linkedMediaUnits = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IncludedStructuralElement includedStructuralElement : includedStructuralElements) {
+            for (View view : includedStructuralElement.getViews()) {
+                linkedMediaUnits.add(view.getMediaUnit());
+            }
+        }
 
-        for (IncludedStructuralElement includedStructuralElement : workpiece.getAllIncludedStructuralElements()) {
+        results.add(checkForStructuresWithoutMedia(includedStructuralElements, mediaUnits, linkedMediaUnits,
+            translations));
+        results.add(checkForUnlinkedMedia(mediaUnits, linkedMediaUnits, translations));
+
+        Map<String, StructuralElementViewInterface> divisionViews = new HashMap<>();
+        for (IncludedStructuralElement includedStructuralElement : includedStructuralElements) {
             results.addAll(checkMetadataRules(includedStructuralElement.toString(), includedStructuralElement.getType(),
-                getMetadata(includedStructuralElement), ruleset, metadataLanguage, translations));
+                getMetadata(includedStructuralElement), ruleset, metadataLanguage, translations, divisionViews));
         }
 
-        for (MediaUnit mediaUnit : workpiece.getAllMediaUnits()) {
+        for (MediaUnit mediaUnit : mediaUnits) {
             results.addAll(checkMetadataRules(mediaUnit.toString(), mediaUnit.getType(), getMetadata(mediaUnit),
-                    ruleset, metadataLanguage, translations));
+                    ruleset, metadataLanguage, translations, divisionViews));
         }
 
         return merge(results);
@@ -165,10 +175,11 @@ public class MetadataValidation implements MetadataValidationInterface {
                                                             Collection<Metadata> metadata,
                                                             RulesetManagementInterface ruleset,
                                                             List<LanguageRange> metadataLanguage,
-                                                            Map<String, String> translations) {
+                                                            Map<String, String> translations,
+                                                            Map<String, StructuralElementViewInterface> divisionViews) {
         Collection<ValidationResult> results = new ArrayList<>();
-        StructuralElementViewInterface divisionView = ruleset.getStructuralElementView(type, null,
-                metadataLanguage);
+        StructuralElementViewInterface divisionView = divisionViews.computeIfAbsent(type,
+            divisionType -> ruleset.getStructuralElementView(divisionType, null, metadataLanguage));
         results.add(checkForMandatoryQuantitiesOfTheMetadataRecursive(metadata,
                 divisionView, elementString.concat(": "), translations));
         results.add(checkForDetailsInTheMetadataRecursive(metadata,
@@ -181,28 +192,32 @@ public class MetadataValidation implements MetadataValidationInterface {
      * are undesirable because you cannot look at them. It is also checked if
      * the linked media are even referenced in the document.
      *
-     * @param workpiece
-     *            workpiece to be examined
+     * @param includedStructuralElements
+     *            all structures of the workpiece
+     * @param mediaUnits
+     *            all media units of the workpiece
+     * @param linkedMediaUnits
+     *            media units linked to a structure
      * @return the validation result
      */
-    private static ValidationResult checkForStructuresWithoutMedia(Workpiece workpiece,
-            Map<String, String> translations) {
+    private static ValidationResult checkForStructuresWithoutMedia(
+            List<IncludedStructuralElement> includedStructuralElements, List<MediaUnit> mediaUnits,
+            Set<MediaUnit> linkedMediaUnits, Map<String, String> translations) {
         boolean error = false;
         boolean warning = false;
         Collection<String> messages = new HashSet<>();
 
-        Collection<String> structuresWithoutMedia = Workpiece.treeStream(workpiece.getRootElement())
-                .filter(struc -> Objects.nonNull(struc.getType()) && struc.getViews().isEmpty() && struc.getChildren().isEmpty())
-                    .map(structure -> translations.get(MESSAGE_STRUCTURE_WITHOUT_MEDIA) + ' ' + structure)
-                    .collect(Collectors.toSet());
-        if (!structuresWithoutMedia.isEmpty()) {
-            messages.addAll(structuresWithoutMedia);
-            warning = true;
+        for (IncludedStructuralElement structure : includedStructuralElements) {
+            if (Objects.nonNull(structure.getType()) && structure.getViews().isEmpty()
+                    && structure.getChildren().isEmpty()) {
+                messages.add(translations.get(MESSAGE_STRUCTURE_WITHOUT_MEDIA) + ' ' + structure);
+                warning = true;
+            }
         }
 
-        if (!Workpiece.treeStream(workpiece.getRootElement())
-                .flatMap(structure -> structure.getViews().stream()).map(View::getMediaUnit)
-                .allMatch(workpiece.getAllMediaUnits()::contains)) {
+        Set<MediaUnit> declaredMediaUnits = Collections.newSetFromMap(new IdentityHashMap<>(mediaUnits.size()));
+        declaredMediaUnits.addAll(mediaUnits);
+        if (!declaredMediaUnits.containsAll(linkedMediaUnits)) {
             messages.add(translations.get(MESSAGE_MEDIA_MISSING));
             error = true;
         }
@@ -214,26 +229,22 @@ public class MetadataValidation implements MetadataValidationInterface {
      * Checks whether media are referenced in the document that are not assigned
      * to a structure. Maybe not a mistake but sloppy.
      *
-     * @param workpiece
-     *            workpiece to be examined
+     * @param mediaUnits
+     *            all media units of the workpiece
+     * @param linkedMediaUnits
+     *            media units linked to a structure
      * @return the validation result
      */
-    private static ValidationResult checkForUnlinkedMedia(Workpiece workpiece,
-            Map<String, String> translations) {
+    private static ValidationResult checkForUnlinkedMedia(List<MediaUnit> mediaUnits,
+            Set<MediaUnit> linkedMediaUnits, Map<String, String> translations) {
         boolean warning = false;
         Collection<String> messages = new HashSet<>();
 
-        KeySetView<MediaUnit, ?> unassignedMediaUnits = ConcurrentHashMap.newKeySet();
-        unassignedMediaUnits.addAll(Workpiece.treeStream(workpiece.getMediaUnit())
-                .filter(mediaUnit -> !mediaUnit.getMediaFiles().isEmpty()).collect(Collectors.toList()));
-        Workpiece.treeStream(workpiece.getRootElement()).flatMap(structure -> structure.getViews().stream())
-                .map(View::getMediaUnit)
-                .forEach(unassignedMediaUnits::remove);
-        if (!unassignedMediaUnits.isEmpty()) {
-            for (MediaUnit mediaUnit : unassignedMediaUnits) {
+        for (MediaUnit mediaUnit : mediaUnits) {
+            if (!mediaUnit.getMediaFiles().isEmpty() && !linkedMediaUnits.contains(mediaUnit)) {
                 messages.add(translations.get(MESSAGE_MEDIA_UNASSIGNED) + ' ' + mediaUnit);
+                warning = true;
             }
-            warning = true;
         }
 
         return new ValidationResult(warning ? State.WARNING : State.SUCCESS, messages);
@@ -0,0 +1,147 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.validation.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale.LanguageRange;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.validation.State;
+import org.kitodo.api.validation.ValidationResult;
+
+public class MetadataValidationTest {
+
+    private static final List<LanguageRange> METADATA_LANGUAGE = LanguageRange.parse("en");
+
+    private final MetadataValidation metadataValidation = new MetadataValidation();
+    private final Map<String, String> translations = new HashMap<>();
+    private RulesetManagementInterface ruleset;
+
+    @Before
+    public void setUp() {
+        translations.put("metadataMediaError", "Media not declared");
+        translations.put("metadataMediaUnassigned", "Media not assigned:");
+        translations.put("metadataStructureWithoutMedia", "Structure without media:");
+
+        ruleset = mock(RulesetManagementInterface.class);
+        StructuralElementViewInterface divisionView = mock(StructuralElementViewInterface.class);
+        when(divisionView.getSortedVisibleMetadata(any(), any())).thenReturn(Collections.emptyList());
+        when(ruleset.getStructuralElementView(any(), any(), any())).thenReturn(divisionView);
+    }
+
+    @Test
+    public void shouldValidateWorkpieceWithAllMediaLinked() {
+        Workpiece workpiece = createWorkpiece();
+        MediaUnit page = addPage(workpiece, "00000001");
+        addChapter(workpiece).getViews().add(View.of(page));
+
+        ValidationResult result = metadataValidation.validate(workpiece, ruleset, METADATA_LANGUAGE, translations);
+
+        assertEquals("Workpiece should be valid", State.SUCCESS, result.getState());
+        assertTrue("There should be no messages", result.getResultMessages().isEmpty());
+    }
+
+    @Test
+    public void shouldReportUnlinkedMediaUnitEqualToLinkedOne() {
+        Workpiece workpiece = createWorkpiece();
+        MediaUnit linkedPage = addPage(workpiece, "00000001");
+        MediaUnit unlinkedPage = addPage(workpiece, "00000001");
+        assertEquals("Pages should be equal, but not the same", linkedPage, unlinkedPage);
+        addChapter(workpiece).getViews().add(View.of(linkedPage));
+
+        ValidationResult result = metadataValidation.validate(workpiece, ruleset, METADATA_LANGUAGE, translations);
+
+        assertEquals("Unlinked page should be a warning", State.WARNING, result.getState());
+        assertEquals("Unlinked page should be reported",
+            Collections.singleton("Media not assigned: " + unlinkedPage), new HashSet<>(result.getResultMessages()));
+    }
+
+    @Test
+    public void shouldReportLinkedMediaUnitEqualToDeclaredOne() {
+        Workpiece workpiece = createWorkpiece();
+        MediaUnit declaredPage = addPage(workpiece, "00000001");
+        MediaUnit undeclaredPage = createPage("00000001");
+        assertEquals("Pages should be equal, but not the same", declaredPage, undeclaredPage);
+        addChapter(workpiece).getViews().add(View.of(undeclaredPage));
+
+        ValidationResult result = metadataValidation.validate(workpiece, ruleset, METADATA_LANGUAGE, translations);
+
+        assertEquals("Undeclared page should be an error", State.ERROR, result.getState());
+        assertTrue("Undeclared page should be reported",
+            result.getResultMessages().contains("Media not declared"));
+        assertTrue("Declared, but unlinked page should be reported",
+            result.getResultMessages().contains("Media not assigned: " + declaredPage));
+    }
+
+    @Test
+    public void shouldResolveDivisionViewOncePerType() {
+        Workpiece workpiece = createWorkpiece();
+        for (int order = 1; order <= 3; order++) {
+            addChapter(workpiece).getViews().add(View.of(addPage(workpiece, String.format("%08d", order))));
+        }
+
+        metadataValidation.validate(workpiece, ruleset, METADATA_LANGUAGE, translations);
+
+        verify(ruleset, times(1)).getStructuralElementView("Chapter", null, METADATA_LANGUAGE);
+        verify(ruleset, times(1)).getStructuralElementView("page", null, METADATA_LANGUAGE);
+    }
+
+    private static Workpiece createWorkpiece() {
+        Workpiece workpiece = new Workpiece();
+        workpiece.getRootElement().setType("Monograph");
+        return workpiece;
+    }
+
+    private static IncludedStructuralElement addChapter(Workpiece workpiece) {
+        IncludedStructuralElement chapter = new IncludedStructuralElement();
+        chapter.setType("Chapter");
+        workpiece.getRootElement().getChildren().add(chapter);
+        return chapter;
+    }
+
+    private static MediaUnit addPage(Workpiece workpiece, String fileName) {
+        MediaUnit page = createPage(fileName);
+        workpiece.getMediaUnit().getChildren().add(page);
+        return page;
+    }
+
+    private static MediaUnit createPage(String fileName) {
+        MediaVariant local = new MediaVariant();
+        local.setUse("LOCAL");
+        local.setMimeType("image/tiff");
+        MediaUnit page = new MediaUnit();
+        page.setType(MediaUnit.TYPE_PAGE);
+        page.getMediaFiles().put(local, URI.create("images/" + fileName + ".tif"));
+        return page;
+    }
+}
@@ -12,4 +12,4 @@
 :: Note: Ensure that Tomcat has permission to execute the given commands.
 ::
 
-md %1
+md %*
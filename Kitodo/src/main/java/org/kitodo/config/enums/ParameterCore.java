@@ -164,6 +164,13 @@ public enum ParameterCore implements ParameterInterface {
      */
     SCRIPT_DELETE_SYMLINK(new Parameter<UndefinedParameter>("script_deleteSymLink")),
 
+    /**
+     * Number of scripts creating or removing links in the user home run at the
+     * same time when downloading or uploading several processes. Integer,
+     * defaults to 4.
+     */
+    SYMLINK_SCRIPT_THREADS(new Parameter<>("symLinkScriptThreads", 4)),
+
     /**
      * Process property to use in the name of the smLink.
      */
@@ -207,6 +214,13 @@ public enum ParameterCore implements ParameterInterface {
      */
     DONE_DIRECTORY_NAME(new Parameter<>("image.doneDirectoryName", "fertig/")),
 
+    /**
+     * Whether to skip folders of a process when searching for media, if they
+     * were not modified since the last search. Must be switched off for file
+     * systems which do not update the modification time of directories.
+     */
+    USE_FOLDER_FINGERPRINTS(new Parameter<>("image.useFolderFingerprints", true)),
+
     /*
      * VISUAL APPEARANCE
      *
@@ -325,6 +339,21 @@ public enum ParameterCore implements ParameterInterface {
      */
     TITLE_KEYS(new Parameter<>("metsEditor.titleMetadata", "")),
 
+    /**
+     * Where the locks of processes opened in the metadata editor are kept.
+     * {@code memory} keeps them in this application instance, {@code database}
+     * shares them between all instances running on the same database.
+     * Defaults to {@code memory}.
+     */
+    METS_EDITOR_LOCK_BACKEND(new Parameter<>("metsEditor.lock.backend", "memory",
+            Arrays.asList("memory", "database"))),
+
+    /**
+     * Seconds a lock of the database backend is valid without being renewed by
+     * the open metadata editor. Integer, defaults to 120.
+     */
+    METS_EDITOR_LOCK_LEASE_SECONDS(new Parameter<>("metsEditor.lock.leaseSeconds", 120)),
+
     /*
      * backup of metadata configuration
      */
@@ -382,6 +411,12 @@ public enum ParameterCore implements ParameterInterface {
      */
     VALIDATE_IDENTIFIER_REGEX(new Parameter<>("validateIdentifierRegex", "[\\w|-]")),
 
+    /**
+     * Number of processes whose metadata is validated at the same time when
+     * validating a selection of processes. Integer, defaults to 4.
+     */
+    METADATA_VALIDATION_THREADS(new Parameter<>("metadataValidationThreads", 4)),
+
     /**
      * Colours used to represent the issues in the calendar editor.
      */
@@ -489,6 +524,12 @@ public enum ParameterCore implements ParameterInterface {
      */
     EXPORT_WITH_IMAGES(new Parameter<>("automaticExportWithImages", true)),
 
+    /**
+     * Number of files copied at the same time during an export to the DMS.
+     * Integer, defaults to 4.
+     */
+    EXPORT_COPY_THREADS(new Parameter<>("exportCopyThreads", 4)),
+
     /**
      * Boolean, defaults to {@code true}.
      */
@@ -15,10 +15,19 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.configuration.ConfigurationException;
@@ -198,11 +207,12 @@ public class ExportDms extends ExportMets {
         String processTitle = Helper.getNormalizedTitle(process.getTitle());
         URI exportFolder = new File(hotfolder.getPath(), processTitle).toURI();
 
-        // delete old export folder
-        if (!fileService.delete(exportFolder)) {
+        // delete old METS file, so that the folder is not imported before the export is complete
+        URI oldMetsFile = new File(new File(exportFolder), processTitle + ".xml").toURI();
+        if (!fileService.delete(oldMetsFile)) {
             String message = Helper.getTranslation(ERROR_EXPORT, Collections.singletonList(processTitle));
             String description = Helper.getTranslation(EXPORT_DIR_DELETE,
-                Collections.singletonList(exportFolder.getPath()));
+                Collections.singletonList(oldMetsFile.getPath()));
             Helper.setErrorMessage(message, description);
             if (Objects.nonNull(exportDmsTask)) {
                 exportDmsTask.setException(new ExportException(message + ": " + description));
@@ -222,17 +232,19 @@ public class ExportDms extends ExportMets {
     private boolean exportImagesAndMetsToDestinationUri(Process process, LegacyMetsModsDigitalDocumentHelper gdzfile,
             URI destination) throws IOException, DAOException {
 
-        if (exportWithImages) {
-            try {
-                directoryDownload(process, destination);
-            } catch (IOException | InterruptedException | RuntimeException | URISyntaxException e) {
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setException(e);
-                } else {
-                    Helper.setErrorMessage(ERROR_EXPORT, new Object[] {process.getTitle() }, logger, e);
-                }
-                return false;
+        try {
+            Set<Path> exportedFiles = new HashSet<>();
+            if (exportWithImages) {
+                directoryDownload(process, destination, exportedFiles);
+            }
+            deleteFilesNotExported(Paths.get(destination), exportedFiles);
+        } catch (IOException | InterruptedException | RuntimeException | URISyntaxException e) {
+            if (Objects.nonNull(exportDmsTask)) {
+                exportDmsTask.setException(e);
+            } else {
+                Helper.setErrorMessage(ERROR_EXPORT, new Object[] {process.getTitle() }, logger, e);
             }
+            return false;
         }
 
         // export the file to the import folder
@@ -371,18 +383,23 @@ public class ExportDms extends ExportMets {
     }
 
     /**
-     * Starts copying all directories configured as export folder.
+     * Starts copying all directories configured as export folder. Files are
+     * copied in parallel, files already present from an earlier export are
+     * kept if they are unchanged.
      *
      * @param process
      *            object
      * @param destination
      *            the destination directory
+     * @param exportedFiles
+     *            set to which the files of the export are added
      * @throws InterruptedException
      *             if the user clicked stop on the thread running the export DMS
      *             task
      *
      */
-    private void directoryDownload(Process process, URI destination) throws IOException, InterruptedException, URISyntaxException {
+    private void directoryDownload(Process process, URI destination, Set<Path> exportedFiles)
+            throws IOException, InterruptedException, URISyntaxException {
         Collection<Subfolder> processDirs = process.getProject().getFolders().parallelStream()
                 .filter(Folder::isCopyFolder).map(folder -> new Subfolder(process, folder))
                 .collect(Collectors.toList());
@@ -392,25 +409,70 @@ public class ExportDms extends ExportMets {
         if (!uriToDestination.endsWith("/")) {
             uriToDestination = uriToDestination.concat("/");
         }
+        ExportFileCopier copier = new ExportFileCopier(
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.EXPORT_COPY_THREADS));
         for (Subfolder processDir : processDirs) {
             URI dstDir = new URI(uriToDestination
                     + variableReplacer.replace(processDir.getFolder().getRelativePath()));
             fileService.createDirectories(dstDir);
+            Path dstPath = Paths.get(dstDir);
+            exportedFiles.add(dstPath);
+
+            for (URI src : processDir.listContents().values()) {
+                Path srcPath = Paths.get(src);
+                Path dstFile = dstPath.resolve(srcPath.getFileName().toString());
+                copier.add(srcPath, dstFile);
+                exportedFiles.add(dstFile);
+            }
+        }
+        copier.copy((source, done, total) -> {
+            if (Objects.nonNull(exportDmsTask)) {
+                exportDmsTask.setWorkDetail(source.getFileName().toString());
+                exportDmsTask.setProgress((int) (done * 98d / total + 1));
+                if (exportDmsTask.isInterrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        });
+        String throughput = String.format("%d files copied (%.1f MB/s), %d unchanged files kept",
+            copier.getCopied(), copier.getMegabytesPerSecond(), copier.getSkipped());
+        logger.info("Export of {}: {}", process.getTitle(), throughput);
+        if (Objects.nonNull(exportDmsTask)) {
+            exportDmsTask.setWorkDetail(throughput);
+        }
+    }
+
+    /**
+     * Deletes everything in the export folder left over from an earlier export,
+     * so that it contains only the files of this export.
+     */
+    private void deleteFilesNotExported(Path exportFolder, Set<Path> exportedFiles) throws IOException {
+        if (!Files.isDirectory(exportFolder)) {
+            return;
+        }
+        Files.walkFileTree(exportFolder, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                if (!exportedFiles.contains(file)) {
+                    Files.delete(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
 
-            Collection<URI> srcs = processDir.listContents().values();
-            int progress = 0;
-            for (URI src : srcs) {
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setWorkDetail(fileService.getFileName(src));
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException exception) throws IOException {
+                if (Objects.nonNull(exception)) {
+                    throw exception;
                 }
-                fileService.copyFileToDirectory(src, dstDir);
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setProgress((int) ((progress++ + 1) * 98d / processDirs.size() / srcs.size() + 1));
-                    if (exportDmsTask.isInterrupted()) {
-                        throw new InterruptedException();
+                if (!directory.equals(exportFolder) && !exportedFiles.contains(directory)) {
+                    try (DirectoryStream<Path> contents = Files.newDirectoryStream(directory)) {
+                        if (!contents.iterator().hasNext()) {
+                            Files.delete(directory);
+                        }
                     }
                 }
+                return FileVisitResult.CONTINUE;
             }
-        }
+        });
     }
 }
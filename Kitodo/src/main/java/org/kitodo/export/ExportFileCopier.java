@@ -0,0 +1,212 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copies files of an export with a bounded pool of threads. Files are
+ * transferred channel to channel, which the operating system can do without
+ * copying the data through the Java heap. Files already present at the
+ * destination with equal size and checksum are skipped, all others are
+ * verified by checksum after copying.
+ */
+class ExportFileCopier {
+
+    private static final String CHECKSUM_ALGORITHM = "MD5";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int threads;
+    private final List<Path[]> files = new ArrayList<>();
+    private final AtomicInteger copied = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicLong bytesCopied = new AtomicLong();
+    private long nanos;
+
+    /**
+     * Receives the progress of a copy run. Called on the thread that started
+     * the copy run, once after each file.
+     */
+    interface ProgressListener {
+        /**
+         * Called after a file has been copied or skipped.
+         *
+         * @param source
+         *            file just finished
+         * @param done
+         *            number of files finished
+         * @param total
+         *            number of files to copy
+         * @throws InterruptedException
+         *             to stop the copy run
+         */
+        void fileFinished(Path source, int done, int total) throws InterruptedException;
+    }
+
+    /**
+     * Creates a new copier.
+     *
+     * @param threads
+     *            number of files copied at the same time
+     */
+    ExportFileCopier(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Adds a file to copy.
+     *
+     * @param source
+     *            file to copy
+     * @param destination
+     *            file to create or overwrite
+     */
+    void add(Path source, Path destination) {
+        files.add(new Path[] {source, destination });
+    }
+
+    /**
+     * Copies all files added. If a file cannot be copied, the files not yet
+     * started are not copied any more.
+     *
+     * @param listener
+     *            receives the progress
+     * @throws IOException
+     *             if a file cannot be copied or differs after copying
+     * @throws InterruptedException
+     *             if the listener or the thread was interrupted
+     */
+    void copy(ProgressListener listener) throws IOException, InterruptedException {
+        long begin = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, files.size())));
+        try {
+            CompletionService<Path> completionService = new ExecutorCompletionService<>(executor);
+            for (Path[] file : files) {
+                completionService.submit(() -> {
+                    copyOrSkip(file[0], file[1]);
+                    return file[0];
+                });
+            }
+            for (int done = 1; done <= files.size(); done++) {
+                Future<Path> finished = completionService.take();
+                try {
+                    listener.fileFinished(finished.get(), done, files.size());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    }
+                    throw new IOException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            nanos = System.nanoTime() - begin;
+        }
+    }
+
+    private void copyOrSkip(Path source, Path destination) throws IOException {
+        byte[] checksum = checksum(source);
+        if (Files.isRegularFile(destination) && Files.size(destination) == Files.size(source)
+                && Arrays.equals(checksum(destination), checksum)) {
+            skipped.incrementAndGet();
+            return;
+        }
+        bytesCopied.addAndGet(transfer(source, destination));
+        if (!Arrays.equals(checksum(destination), checksum)) {
+            throw new IOException("Checksum of " + destination + " differs from " + source + " after copying");
+        }
+        Files.setLastModifiedTime(destination, Files.getLastModifiedTime(source));
+        copied.incrementAndGet();
+    }
+
+    private static long transfer(Path source, Path destination) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(destination, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            return size;
+        }
+    }
+
+    private static byte[] checksum(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest messageDigest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear();
+            }
+            return messageDigest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the number of files copied.
+     *
+     * @return the number of files copied
+     */
+    int getCopied() {
+        return copied.get();
+    }
+
+    /**
+     * Returns the number of files skipped because they were already present.
+     *
+     * @return the number of files skipped
+     */
+    int getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Returns the number of bytes copied.
+     *
+     * @return the number of bytes copied
+     */
+    long getBytesCopied() {
+        return bytesCopied.get();
+    }
+
+    /**
+     * Returns the throughput of the last copy run.
+     *
+     * @return megabytes per second copied
+     */
+    double getMegabytesPerSecond() {
+        return nanos > 0 ? bytesCopied.get() / 1048576d / (nanos / 1e9) : 0;
+    }
+}
@@ -33,6 +33,8 @@ public class ProcessDTO extends BaseTemplateDTO {
     private String batchID;
     private Integer parentID;
     private boolean hasChildren;
+    private Boolean hasImages;
+    private Boolean exportable;
     private Integer sortHelperArticles;
     private Integer sortHelperDocstructs;
     private Integer sortHelperImages;
@@ -287,6 +289,42 @@ public class ProcessDTO extends BaseTemplateDTO {
         this.hasChildren = hasChildren;
     }
 
+    /**
+     * Get whether the generator source folder contains images.
+     *
+     * @return value of hasImages, null if not checked yet
+     */
+    public Boolean getHasImages() {
+        return hasImages;
+    }
+
+    /**
+     * Set whether the generator source folder contains images.
+     *
+     * @param hasImages as java.lang.Boolean
+     */
+    public void setHasImages(Boolean hasImages) {
+        this.hasImages = hasImages;
+    }
+
+    /**
+     * Get whether the process can be exported.
+     *
+     * @return value of exportable, null if not checked yet
+     */
+    public Boolean getExportable() {
+        return exportable;
+    }
+
+    /**
+     * Set whether the process can be exported.
+     *
+     * @param exportable as java.lang.Boolean
+     */
+    public void setExportable(Boolean exportable) {
+        this.exportable = exportable;
+    }
+
     /**
      * Get sort helper for articles.
      *
@@ -11,12 +11,15 @@
 
 package org.kitodo.production.file;
 
-import java.io.FileNotFoundException;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.filemanagement.filters.FileNameMatchesFilter;
@@ -40,6 +43,10 @@ import org.kitodo.production.services.file.FileService;
  * ...
  * file.xml.6	// the oldest backup, if maximum number was 6
  * </pre>
+ *
+ * <p>
+ * The latest backup is a copy of the original. If the original has not been
+ * changed since the last backup, no new backup is created.
  */
 public class BackupFileRotation {
 
@@ -113,33 +120,38 @@ public class BackupFileRotation {
     }
 
     private void createBackupForFile(URI fileName) throws IOException {
-        rotateBackupFilesFor(fileName);
+        Path file = fileService.getFile(fileName).toPath();
+        Path latestBackup = backupPath(file, 1);
+        if (Files.exists(latestBackup) && FileUtils.contentEquals(file.toFile(), latestBackup.toFile())) {
+            logger.debug("{} has not been changed since the last backup >>> nothing to do", file);
+            return;
+        }
 
-        String newName = fileService.getFileNameWithExtension(fileName) + ".1";
-        fileService.renameFile(fileName, newName);
-    }
+        rotateBackupFilesFor(file);
 
-    private void rotateBackupFilesFor(URI fileName) throws IOException {
+        /*
+         * Not a hard link: some writers still write the original in place,
+         * which would overwrite a linked backup as well.
+         */
+        Files.copy(file, latestBackup, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+    }
 
-        URI oldest = URI.create(fileName + "." + numberOfBackups);
-        if (fileService.fileExist(oldest)) {
-            boolean deleted = fileService.delete(oldest);
-            if (!deleted) {
-                String message = "Could not delete " + oldest;
-                logger.error(message);
-                throw new IOException(message);
-            }
-        }
+    private void rotateBackupFilesFor(Path file) throws IOException {
+        Files.deleteIfExists(backupPath(file, numberOfBackups));
 
         for (int count = numberOfBackups; count > 1; count--) {
-            URI oldName = URI.create(fileName + "." + (count - 1));
-            String newName = fileService.getFileNameWithExtension(fileName) + "." + count;
-            try {
-                fileService.renameFile(oldName, newName);
-            } catch (FileNotFoundException oldNameNotYetPresent) {
+            Path oldName = backupPath(file, count - 1);
+            if (Files.exists(oldName)) {
+                Files.move(oldName, backupPath(file, count), StandardCopyOption.REPLACE_EXISTING);
+            } else {
                 logger.debug("{} does not yet exist >>> nothing to do", oldName);
             }
         }
+        Files.deleteIfExists(backupPath(file, 1));
+    }
+
+    private static Path backupPath(Path file, int number) {
+        return file.resolveSibling(file.getFileName() + "." + number);
     }
 
     private List<URI> generateBackupBaseNameFileList(String filterFormat, Process process) {
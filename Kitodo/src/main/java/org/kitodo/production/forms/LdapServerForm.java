@@ -70,6 +70,7 @@ public class LdapServerForm extends BaseForm {
     public String save() {
         try {
             ServiceManager.getLdapServerService().saveToDatabase(this.ldapServer);
+            ServiceManager.getLdapServerService().clearAttributeCache();
             return usersPage;
         } catch (DAOException e) {
             Helper.setErrorMessage(ERROR_SAVING, new Object[] {LDAP_SERVER }, logger, e);
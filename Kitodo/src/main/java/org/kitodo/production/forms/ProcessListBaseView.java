@@ -16,7 +16,7 @@ import com.itextpdf.text.DocumentException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -25,6 +25,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataformat.MediaUnit;
 import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.validation.State;
+import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
@@ -60,8 +62,6 @@ public class ProcessListBaseView extends BaseForm {
     private final String doneDirectoryName = ConfigCore.getParameterOrDefaultValue(ParameterCore.DONE_DIRECTORY_NAME);
     DeleteProcessDialog deleteProcessDialog = new DeleteProcessDialog();
 
-    private final HashMap<Integer, Boolean> exportable = new HashMap<>();
-
     /**
      * Constructor.
      */
@@ -285,6 +285,25 @@ public class ProcessListBaseView extends BaseForm {
         exportDMSForProcesses(this.selectedProcesses);
     }
 
+    /**
+     * Validate the metadata of the selected processes. Processes with errors
+     * are reported with their messages.
+     */
+    public void validateSelection() {
+        Map<Process, ValidationResult> results = ServiceManager.getMetadataValidationService()
+                .validate(this.selectedProcesses);
+        int failed = 0;
+        for (Map.Entry<Process, ValidationResult> result : results.entrySet()) {
+            if (State.ERROR.equals(result.getValue().getState())) {
+                failed++;
+                Helper.setErrorMessage(result.getKey().getTitle(),
+                    String.join(" ", result.getValue().getResultMessages()));
+            }
+        }
+        Helper.setMessage(Helper.getTranslation("validateMetadataFinished",
+            Arrays.asList(Integer.toString(results.size()), Integer.toString(failed))));
+    }
+
     /**
      * Generate result set.
      */
@@ -297,6 +316,18 @@ public class ProcessListBaseView extends BaseForm {
         }
     }
 
+    /**
+     * Generate result set as CSV file.
+     */
+    public void generateResultAsCsv() {
+        try {
+            ServiceManager.getProcessService().generateResultAsCsv(this.filter, this.isShowClosedProcesses(),
+                    this.isShowInactiveProjects());
+        } catch (IOException e) {
+            Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultSet") }, logger, e);
+        }
+    }
+
     /**
      * Generate result as PDF.
      */
@@ -443,9 +474,13 @@ public class ProcessListBaseView extends BaseForm {
     public void uploadFromHome(ProcessDTO processDTO) {
         try {
             WebDav myDav = new WebDav();
-            myDav.uploadFromHome(ServiceManager.getProcessService().getById(processDTO.getId()));
+            Process process = ServiceManager.getProcessService().getById(processDTO.getId());
+            myDav.uploadFromHome(process);
+            if (ServiceManager.getProcessService().refreshImageInformation(process)) {
+                ServiceManager.getProcessService().saveImageInformation(process);
+            }
             Helper.setMessage("directoryRemoved", processDTO.getTitle());
-        } catch (DAOException e) {
+        } catch (DAOException | DataException e) {
             Helper.setErrorMessage(ERROR_LOADING_ONE,
                     new Object[] {ObjectType.PROCESS.getTranslationSingular(), processDTO.getId() }, logger, e);
         }
@@ -488,18 +523,15 @@ public class ProcessListBaseView extends BaseForm {
     }
 
     /**
-     * Check and return whether process with given ID can be exported or not.
+     * Check and return whether process can be exported or not.
      *
-     * @param processId process ID
-     * @return whether process with given ID can be exported or not
+     * @param processDTO process as DTO object
+     * @return whether process can be exported or not
      */
-    public boolean canBeExported(int processId) {
+    public boolean canBeExported(ProcessDTO processDTO) {
         try {
-            if (!exportable.containsKey(processId)) {
-                exportable.put(processId, ProcessService.canBeExported(processId));
-            }
-            return exportable.get(processId);
-        } catch (IOException | DAOException e) {
+            return ProcessService.canBeExported(processDTO);
+        } catch (IOException | DAOException | DataException e) {
             Helper.setErrorMessage(e);
             return false;
         }
@@ -117,6 +117,8 @@ public class ProjectForm extends BaseForm {
 
     private boolean copyTemplates;
 
+    private boolean generatorSourceChanged;
+
     private final String projectEditPath = MessageFormat.format(REDIRECT_PATH, "projectEdit");
 
     private String projectEditReferer = DEFAULT_LINK;
@@ -250,6 +252,10 @@ public class ProjectForm extends BaseForm {
                 this.deletedTemples = new ArrayList<>();
 
                 ServiceManager.getProjectService().save(this.project);
+                if (generatorSourceChanged) {
+                    ServiceManager.getProcessService().resetImageInformation(this.project);
+                    generatorSourceChanged = false;
+                }
 
                 return projectsPage;
             } catch (DAOException | DataException e) {
@@ -588,6 +594,9 @@ public class ProjectForm extends BaseForm {
      *            source folder for generation to set
      */
     public void setGeneratorSource(String generatorSource) {
+        if (!Objects.equals(getGeneratorSource(), generatorSource)) {
+            generatorSourceChanged = true;
+        }
         project.setGeneratorSource(getFolderMap().get(generatorSource));
     }
 
@@ -652,6 +661,7 @@ public class ProjectForm extends BaseForm {
             if (!Objects.equals(id, 0)) {
                 setProject(ServiceManager.getProjectService().getById(id));
                 this.locked = true;
+                this.generatorSourceChanged = false;
             }
             setSaveDisabled(true);
         } catch (DAOException e) {
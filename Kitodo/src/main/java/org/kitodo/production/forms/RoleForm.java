@@ -93,6 +93,7 @@ public class RoleForm extends BaseForm {
                 }
                 this.role.setUsers(new ArrayList<>());
                 ServiceManager.getRoleService().saveToDatabase(this.role);
+                ServiceManager.getFilterService().clearQueryCache();
             }
             if (!this.role.getTasks().isEmpty()) {
                 Helper.setErrorMessage("roleAssignedError");
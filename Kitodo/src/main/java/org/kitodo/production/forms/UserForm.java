@@ -193,6 +193,7 @@ public class UserForm extends BaseForm {
                     this.userObject.setPassword(passwordEncoder.encrypt(this.passwordToEncrypt));
                 }
                 userService.saveToDatabase(this.userObject);
+                ServiceManager.getFilterService().clearQueryCache();
 
                 if (userService.getAuthenticatedUser().getId().equals(this.userObject.getId())) {
                     loginForm.setLoggedUser(this.userObject);
@@ -12,12 +12,14 @@
 package org.kitodo.production.forms.createprocess;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URI;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +33,7 @@ import javax.inject.Named;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
@@ -399,24 +402,26 @@ public class CreateProcessForm extends BaseForm implements RulesetSetupInterface
         ProcessService.checkTasks(this.getMainProcess(), processDataTab.getDocType());
         processAncestors();
         processChildren();
-        // main process and it's ancestors need to be saved so they have IDs before creating their process directories
-        ServiceManager.getProcessService().save(getMainProcess());
+        // all processes of the hierarchy need IDs before creating their process directories, so they are saved to the
+        // database together in one transaction; they are indexed together once the hierarchy is complete
+        List<Process> processHierarchy = getProcessHierarchy();
+        List<Process> newProcesses = processHierarchy.stream().filter(process -> Objects.isNull(process.getId()))
+                .collect(Collectors.toList());
+        saveProcessHierarchyToDatabase(processHierarchy);
         if (!createProcessesLocation(this.processes)) {
+            removeProcessHierarchyFromDatabase(newProcesses);
             throw new IOException("Unable to create directories for process hierarchy!");
         }
 
         if (this.catalogImportDialog.isImportChildren() && !createProcessesLocation(this.childProcesses)) {
+            removeProcessHierarchyFromDatabase(newProcesses);
             throw new IOException("Unable to create directories for child processes!");
         }
+        // add links between child processes and main process before the main process meta.xml is written
+        this.addChildProcessLinks();
         saveProcessHierarchyMetadata();
         // TODO: do the same 'ensureNonEmptyTitles' for child processes?
-        if (ImportService.ensureNonEmptyTitles(this.processes)) {
-            // saving the main process automatically saves it's parent and ancestor processes as well!
-            ServiceManager.getProcessService().save(getMainProcess());
-        }
-
-        // add links between child processes and main process
-        this.saveChildProcessLinks();
+        ImportService.ensureNonEmptyTitles(this.processes);
 
         // if a process is selected in 'TitleRecordLinkTab' link it as parent with the first process in the list
         if (this.processes.size() > 0 && Objects.nonNull(titleRecordLinkTab.getTitleRecordProcess())) {
@@ -435,26 +440,77 @@ public class CreateProcessForm extends BaseForm implements RulesetSetupInterface
                 MetadataEditor.addLink(this.processes.get(i + 1).getProcess(), "0", tempProcess.getProcess().getId());
             }
         }
-        ServiceManager.getProcessService().save(getMainProcess());
+        // saving the hierarchy automatically saves the parent and ancestor processes as well!
+        ServiceManager.getProcessService().saveAll(processHierarchy);
     }
 
     /**
-     * Save links between child processes and main process.
+     * Get all processes of the hierarchy to be created, ancestors before their
+     * descendants, so that every parent process is saved before its children.
      *
-     * @throws DataException thrown if child process could not be saved
-     * @throws IOException thrown if link between child and parent process could not be added
+     * @return list of processes
+     */
+    private List<Process> getProcessHierarchy() {
+        List<Process> processHierarchy = new ArrayList<>();
+        Iterator<TempProcess> ancestors = this.processes.descendingIterator();
+        while (ancestors.hasNext()) {
+            processHierarchy.add(ancestors.next().getProcess());
+        }
+        for (TempProcess childProcess : this.childProcesses) {
+            if (Objects.nonNull(childProcess) && Objects.nonNull(childProcess.getProcess())) {
+                processHierarchy.add(childProcess.getProcess());
+            }
+        }
+        return processHierarchy;
+    }
+
+    private void saveProcessHierarchyToDatabase(List<Process> processHierarchy) throws DataException {
+        try {
+            ServiceManager.getProcessService().saveToDatabase(processHierarchy);
+        } catch (DAOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Remove the processes created for the hierarchy from the database again.
+     * The processes are removed in reverse order, so that child processes are
+     * removed before their parents. Processes which existed before are not
+     * contained in the list and are kept.
+     *
+     * @param newProcesses
+     *            processes created for the hierarchy, ancestors first
+     */
+    private void removeProcessHierarchyFromDatabase(List<Process> newProcesses) {
+        ListIterator<Process> processesIterator = newProcesses.listIterator(newProcesses.size());
+        while (processesIterator.hasPrevious()) {
+            Process process = processesIterator.previous();
+            if (Objects.nonNull(process.getParent())) {
+                process.getParent().getChildren().remove(process);
+            }
+            try {
+                ServiceManager.getProcessService().removeFromDatabase(process);
+            } catch (DAOException e) {
+                Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            }
+        }
+    }
+
+    /**
+     * Add links between child processes and main process to the workpiece of the
+     * main process. The workpiece is saved afterwards with the meta.xml files of
+     * the other processes in the hierarchy.
      */
-    private void saveChildProcessLinks() throws IOException, DataException {
+    private void addChildProcessLinks() {
         this.progress = 0;
         if (Objects.nonNull(PrimeFaces.current()) && Objects.nonNull(FacesContext.getCurrentInstance())) {
             PrimeFaces.current().executeScript("PF('progressDialog')");
             PrimeFaces.current().ajax().update("progressForm:progressBar");
         }
+        IncludedStructuralElement rootElement = this.processes.get(0).getWorkpiece().getRootElement();
         for (TempProcess childProcess : this.childProcesses) {
             int currentIndex = childProcesses.indexOf(childProcess);
-            MetadataEditor.addLink(getMainProcess(), String.valueOf(currentIndex),
-                    childProcess.getProcess().getId());
-            ServiceManager.getProcessService().save(childProcess.getProcess());
+            MetadataEditor.addLink(rootElement, currentIndex, childProcess.getProcess().getId());
             this.progress = (currentIndex + 1) * 100 / this.childProcesses.size();
             if (Objects.nonNull(PrimeFaces.current()) && Objects.nonNull(FacesContext.getCurrentInstance())) {
                 PrimeFaces.current().ajax().update("progressForm:progressBar");
@@ -470,8 +526,8 @@ public class CreateProcessForm extends BaseForm implements RulesetSetupInterface
         try {
             ImportService.processProcessChildren(getMainProcess(), this.childProcesses, template,
                     rulesetManagement, acquisitionStage, priorityList);
-        } catch (DataException | InvalidMetadataValueException | NoSuchMetadataFieldException
-                | ProcessGenerationException | IOException e) {
+        } catch (InvalidMetadataValueException | NoSuchMetadataFieldException | ProcessGenerationException
+                | IOException e) {
             Helper.setErrorMessage("Unable to attach child documents to process: " + e.getMessage());
         }
     }
@@ -527,33 +583,35 @@ public class CreateProcessForm extends BaseForm implements RulesetSetupInterface
     }
 
     private void saveTempProcessMetadata(TempProcess tempProcess) {
-        try (OutputStream out = ServiceManager.getFileService()
-                .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()))) {
+        try {
             tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
-            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
+            ServiceManager.getMetsService().saveWorkpiece(tempProcess.getWorkpiece(),
+                ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
+            ServiceManager.getProcessService().updateBaseTypeAndSummary(tempProcess.getProcess(),
+                tempProcess.getWorkpiece(), rulesetManagement);
         } catch (IOException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
         }
     }
 
     private boolean createProcessesLocation(List<TempProcess> processes) {
+        List<TempProcess> processesToCreate = new ArrayList<>();
         for (TempProcess tempProcess : processes) {
             if (processes.indexOf(tempProcess) > 0 && Objects.isNull(tempProcess.getMetadataNodes())) {
                 // skip creating directories for processes that already exist!
                 continue;
             }
-            try {
-                URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
-                tempProcess.getProcess().setProcessBaseUri(processBaseUri);
-            } catch (IOException | CommandException e) {
-                Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
-                try {
-                    ServiceManager.getProcessService().remove(tempProcess.getProcess());
-                } catch (DataException ex) {
-                    Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
-                }
-                return false;
+            processesToCreate.add(tempProcess);
+        }
+        try {
+            List<URI> processBaseUris = ServiceManager.getFileService().createProcessLocations(
+                processesToCreate.stream().map(TempProcess::getProcess).collect(Collectors.toList()));
+            for (int i = 0; i < processesToCreate.size(); i++) {
+                processesToCreate.get(i).getProcess().setProcessBaseUri(processBaseUris.get(i));
             }
+        } catch (IOException | CommandException e) {
+            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            return false;
         }
         return true;
     }
@@ -14,12 +14,12 @@ package org.kitodo.production.forms.createprocess;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Locale.LanguageRange;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -28,7 +28,6 @@ import javax.faces.model.SelectItem;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalMetadata;
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
@@ -199,7 +198,7 @@ public class TitleRecordLinkTab {
             ProcessService processService = ServiceManager.getProcessService();
             int linkedProcessUri = processService.processIdFromUri(currentIncludedStructuralElement.getLink().getUri());
             Process linkedProcess = processService.getById(linkedProcessUri);
-            type = processService.getBaseType(linkedProcessUri);
+            type = processService.getBaseType(linkedProcess);
             tooltip = getToolTip(ruleset, linkedProcess);
         }
 
@@ -246,23 +245,15 @@ public class TitleRecordLinkTab {
      */
     private List<String> getToolTip(RulesetManagementInterface ruleset, Process linkedProcess) throws IOException {
 
-        Collection<String> summaryKeys = ruleset.getFunctionalKeys(FunctionalMetadata.DISPLAY_SUMMARY);
         List<String> toolTip = new ArrayList<>();
-        if (!summaryKeys.isEmpty()) {
-
-            Workpiece workpiece = metsService.loadWorkpiece(processService.getMetadataFileUri(linkedProcess));
-            IncludedStructuralElement rootElement = workpiece.getRootElement();
-
+        Map<String, String> summary = processService.getSummary(linkedProcess, ruleset);
+        if (!summary.isEmpty()) {
             final String metadataLanguage = ServiceManager.getUserService().getCurrentUser().getMetadataLanguage();
             List<LanguageRange> priorityList = Locale.LanguageRange.parse(metadataLanguage);
 
-            for (String key : summaryKeys) {
-                String value = MetadataEditor.getMetadataValue(rootElement, key);
-
-                if (Objects.nonNull(value)) {
-                    Optional<String> label = ruleset.getTranslationForKey(key, priorityList);
-                    toolTip.add(label.orElse(key) + ": " + value);
-                }
+            for (Map.Entry<String, String> entry : summary.entrySet()) {
+                Optional<String> label = ruleset.getTranslationForKey(entry.getKey(), priorityList);
+                toolTip.add(label.orElse(entry.getKey()) + ": " + entry.getValue());
             }
         }
 
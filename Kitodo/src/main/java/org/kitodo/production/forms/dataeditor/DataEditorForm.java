@@ -12,7 +12,6 @@
 package org.kitodo.production.forms.dataeditor;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
@@ -24,7 +23,6 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.SessionScoped;
@@ -54,6 +52,8 @@ import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.forms.createprocess.ProcessDetail;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.interfaces.RulesetSetupInterface;
+import org.kitodo.production.metadata.MetadataEditorMetrics;
+import org.kitodo.production.metadata.MetadataEditorMetrics.Phase;
 import org.kitodo.production.metadata.MetadataLock;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.dataeditor.DataEditorService;
@@ -215,6 +215,7 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
      *            JSF page the user came from
      */
     public String open(String processID, String referringView) {
+        boolean locked = false;
         try {
             this.referringView = referringView + ("processes".equals(referringView) ? "?keepPagination=true" : "");
             this.process = ServiceManager.getProcessService().getById(Integer.parseInt(processID));
@@ -232,50 +233,84 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
                 dataEditorSetting = null;
             }
 
-            User blockedUser = MetadataLock.getLockUser(process.getId());
-            if (Objects.nonNull(blockedUser) && !blockedUser.equals(this.user)) {
-                Helper.setErrorMessage("blocked", blockedUser.getFullName());
+            if (!MetadataLock.tryLock(process.getId(), user)) {
+                User blockedUser = MetadataLock.getLockUser(process.getId());
+                Helper.setErrorMessage("blocked", Objects.nonNull(blockedUser) ? blockedUser.getFullName() : "");
                 return referringView;
             }
+            locked = true;
 
+            MetadataEditorMetrics.Stopwatch stopwatch = MetadataEditorMetrics.start();
             String metadataLanguage = user.getMetadataLanguage();
             priorityList = LanguageRange.parse(metadataLanguage.isEmpty() ? "en" : metadataLanguage);
             ruleset = ServiceManager.getRulesetService().openRuleset(process.getRuleset());
-            openMetsFile();
+            stopwatch.lap(Phase.RULESET);
+            openMetsFile(stopwatch);
             if (!workpiece.getId().equals(process.getId().toString())) {
                 Helper.setErrorMessage("metadataConfusion", new Object[] {process.getId(), workpiece.getId() });
+                MetadataLock.setFree(process.getId());
                 return referringView;
             }
             selectedMedia = new LinkedList<>();
             init();
-            MetadataLock.setLocked(process.getId(), user);
+            stopwatch.lap(Phase.PANEL_INIT);
+            stopwatch.stop(process.getId());
         } catch (IOException | DAOException | InvalidImagesException | NoSuchElementException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            if (locked) {
+                MetadataLock.setFree(process.getId());
+            }
             return referringView;
         }
         return "/pages/metadataEditor?faces-redirect=true";
     }
 
     /**
-     * Opens the METS file.
+     * Renews the lock of the opened process. This is called periodically by
+     * the metadata editor, so that the lock does not expire while the editor
+     * is open. If the lock has been lost, it is acquired again if no other
+     * user has taken it in the meantime.
+     */
+    public void renewLock() {
+        if (Objects.nonNull(process) && Objects.nonNull(user) && !MetadataLock.renew(process.getId(), user)
+                && !MetadataLock.tryLock(process.getId(), user)) {
+            Helper.setErrorMessage("metadataLockLost");
+        }
+    }
+
+    /**
+     * Get the interval in seconds in which the metadata editor renews its
+     * lock.
+     *
+     * @return interval in seconds
+     */
+    public int getLockRenewalInterval() {
+        return Math.max(1, MetadataLock.getLeaseSeconds() / 3);
+    }
+
+    /**
+     * Opens the METS file. The original state to detect changes is copied from
+     * the read workpiece, so the file is only parsed once.
      *
+     * @param stopwatch
+     *            takes the time of reading the file and searching the media
      * @throws IOException
      *             if filesystem I/O fails
      */
-    private void openMetsFile() throws IOException, InvalidImagesException {
+    private void openMetsFile(MetadataEditorMetrics.Stopwatch stopwatch) throws IOException, InvalidImagesException {
         mainFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
         workpiece = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
-        workpieceOriginalState = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
+        workpieceOriginalState = workpiece.deepCopy();
         if (Objects.isNull(workpiece.getId())) {
             logger.warn("Workpiece has no ID. Cannot verify workpiece ID. Setting workpiece ID.");
             workpiece.setId(process.getId().toString());
         }
+        stopwatch.lap(Phase.METS_FILE);
         ServiceManager.getFileService().searchForMedia(process, workpiece);
+        stopwatch.lap(Phase.MEDIA_SCAN);
     }
 
     private void init() {
-        final long begin = System.nanoTime();
-
         List<MediaUnit> severalAssignments = new LinkedList<>();
         initSeveralAssignments(workpiece.getMediaUnit(), severalAssignments);
         structurePanel.getSeveralAssignments().addAll(severalAssignments);
@@ -289,11 +324,6 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
         paginationPanel.show();
 
         editPagesDialog.prepare();
-
-        if (logger.isTraceEnabled()) {
-            logger.trace("Initializing editor beans took {} ms",
-                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
-        }
     }
 
     /**
@@ -367,10 +397,17 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
         metadataPanel.preserve();
         try {
             structurePanel.preserve();
+            if (!MetadataLock.tryLock(process.getId(), user)) {
+                // another user holds the lock, writing would overwrite their changes
+                Helper.setErrorMessage("metadataNotSavedLockLost");
+                PrimeFaces.current().executeScript("PF('sticky-notifications').removeAll();");
+                return null;
+            }
             ServiceManager.getFileService().createBackupFile(process);
-            try (OutputStream out = ServiceManager.getFileService().write(mainFileUri)) {
-                ServiceManager.getMetsService().save(workpiece, out);
-                ServiceManager.getProcessService().saveToIndex(process,false);
+            try {
+                ServiceManager.getMetsService().saveWorkpiece(workpiece, mainFileUri);
+                ServiceManager.getProcessService().updateBaseTypeAndSummary(process, workpiece, ruleset);
+                ServiceManager.getProcessService().saveBaseTypeAndSummary(process);
                 if (close) {
                     return close();
                 } else {
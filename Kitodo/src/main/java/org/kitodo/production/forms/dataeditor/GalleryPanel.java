@@ -15,6 +15,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale.LanguageRange;
@@ -22,10 +23,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import javax.faces.context.FacesContext;
 import javax.faces.event.PhaseId;
@@ -91,6 +92,9 @@ public class GalleryPanel {
     private final DataEditorForm dataEditor;
     private GalleryViewMode galleryViewMode = GalleryViewMode.LIST;
     private List<GalleryMediaContent> medias = Collections.emptyList();
+    private Map<MediaUnit, GalleryMediaContent> mediaContents = new IdentityHashMap<>();
+    private Map<Integer, MediaUnit> mediaUnitsByOrder = new HashMap<>();
+    private Map<MediaUnit, GalleryStripe> stripesOfMediaUnits = new IdentityHashMap<>();
 
     private MediaVariant mediaViewVariant;
     private Map<String, GalleryMediaContent> previewImageResolver = new HashMap<>();
@@ -304,7 +308,7 @@ public class GalleryPanel {
             if (Objects.nonNull(fromStripe)) {
                 fromStripe.getMedias().clear();
                 for (View remainingView : fromStripe.getStructure().getViews()) {
-                    fromStripe.getMedias().add(createGalleryMediaContent(remainingView));
+                    fromStripe.getMedias().add(getOrCreateGalleryMediaContent(remainingView));
                 }
             }
         }
@@ -312,14 +316,34 @@ public class GalleryPanel {
 
         dataEditor.getSelectedMedia().clear();
 
-        List<View> movedViews = viewsToBeMoved.stream().map(Pair::getKey).collect(Collectors.toList());
+        Set<View> movedViews = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Pair<View, IncludedStructuralElement> viewToBeMoved : viewsToBeMoved) {
+            movedViews.add(viewToBeMoved.getKey());
+        }
+        List<GalleryMediaContent> movedMedias = new ArrayList<>();
         for (View toStripeView : toStripe.getStructure().getViews()) {
-            GalleryMediaContent galleryMediaContent = createGalleryMediaContent(toStripeView);
+            GalleryMediaContent galleryMediaContent = getOrCreateGalleryMediaContent(toStripeView);
             toStripe.getMedias().add(galleryMediaContent);
             if (movedViews.contains(toStripeView)) {
-                select(galleryMediaContent, toStripe, "multi");
+                movedMedias.add(galleryMediaContent);
+            }
+        }
+        indexStripesOfMediaUnits();
+        for (GalleryMediaContent movedMedia : movedMedias) {
+            select(movedMedia, toStripe, "multi");
+        }
+    }
+
+    private GalleryMediaContent getOrCreateGalleryMediaContent(View view) {
+        GalleryMediaContent galleryMediaContent = mediaContents.get(view.getMediaUnit());
+        if (Objects.isNull(galleryMediaContent)) {
+            galleryMediaContent = createGalleryMediaContent(view);
+            mediaContents.put(view.getMediaUnit(), galleryMediaContent);
+            if (galleryMediaContent.isShowingInPreview()) {
+                previewImageResolver.put(galleryMediaContent.getId(), galleryMediaContent);
             }
         }
+        return galleryMediaContent;
     }
 
     private GalleryStripe getGalleryStripe(IncludedStructuralElement structuralElement) {
@@ -399,6 +423,7 @@ public class GalleryPanel {
         mediaViewVariant = Objects.nonNull(mediaViewSettings) ? getMediaVariant(mediaViewSettings, mediaUnits) : null;
 
         medias = new ArrayList<>(mediaUnits.size());
+        mediaContents = new IdentityHashMap<>();
         stripes = new ArrayList<>();
         previewImageResolver = new HashMap<>();
         cachingUUID = UUID.randomUUID().toString();
@@ -409,12 +434,15 @@ public class GalleryPanel {
             wholeMediaUnitView.setMediaUnit(mediaUnit);
             GalleryMediaContent mediaContent = createGalleryMediaContent(wholeMediaUnitView);
             medias.add(mediaContent);
+            mediaContents.putIfAbsent(mediaUnit, mediaContent);
             if (mediaContent.isShowingInPreview()) {
                 previewImageResolver.put(mediaContent.getId(), mediaContent);
             }
         }
 
+        indexMediaUnitsByOrder(mediaUnits);
         addStripesRecursive(dataEditor.getWorkpiece().getRootElement());
+        indexStripesOfMediaUnits();
         int imagesInStructuredView = stripes.parallelStream().mapToInt(stripe -> stripe.getMedias().size()).sum();
         if (imagesInStructuredView > 200) {
             logger.warn("Number of images in structured view: {}", imagesInStructuredView);
@@ -424,6 +452,26 @@ public class GalleryPanel {
     void updateStripes() {
         stripes = new ArrayList<>();
         addStripesRecursive(dataEditor.getWorkpiece().getRootElement());
+        indexStripesOfMediaUnits();
+    }
+
+    private void indexMediaUnitsByOrder(List<MediaUnit> mediaUnits) {
+        mediaUnitsByOrder = new HashMap<>();
+        for (MediaUnit mediaUnit : mediaUnits) {
+            mediaUnitsByOrder.putIfAbsent(mediaUnit.getOrder(), mediaUnit);
+        }
+    }
+
+    /**
+     * Remembers for every media unit the first stripe it is shown in.
+     */
+    private void indexStripesOfMediaUnits() {
+        stripesOfMediaUnits = new IdentityHashMap<>();
+        for (GalleryStripe galleryStripe : stripes) {
+            for (GalleryMediaContent galleryMediaContent : galleryStripe.getMedias()) {
+                stripesOfMediaUnits.putIfAbsent(galleryMediaContent.getView().getMediaUnit(), galleryStripe);
+            }
+        }
     }
 
     private static MediaVariant getMediaVariant(Folder folderSettings, List<MediaUnit> mediaUnits) {
@@ -444,13 +492,11 @@ public class GalleryPanel {
     private void addStripesRecursive(IncludedStructuralElement structure) {
         GalleryStripe galleryStripe = new GalleryStripe(this, structure);
         for (View view : structure.getViews()) {
-            for (GalleryMediaContent galleryMediaContent : medias) {
-                if (Objects.equals(view.getMediaUnit(), galleryMediaContent.getView().getMediaUnit())) {
-                    galleryStripe.getMedias().add(galleryMediaContent);
-                    if (galleryMediaContent.isShowingInPreview()) {
-                        previewImageResolver.put(galleryMediaContent.getId(), galleryMediaContent);
-                    }
-                    break;
+            GalleryMediaContent galleryMediaContent = mediaContents.get(view.getMediaUnit());
+            if (Objects.nonNull(galleryMediaContent)) {
+                galleryStripe.getMedias().add(galleryMediaContent);
+                if (galleryMediaContent.isShowingInPreview()) {
+                    previewImageResolver.put(galleryMediaContent.getId(), galleryMediaContent);
                 }
             }
         }
@@ -490,23 +536,12 @@ public class GalleryPanel {
      * @return GalleryStripe representing the logical structure element to which the Media is assigned
      */
     GalleryStripe getLogicalStructureOfMedia(GalleryMediaContent galleryMediaContent) {
-        for (GalleryStripe galleryStripe : stripes) {
-            for (GalleryMediaContent mediaContent : galleryStripe.getMedias()) {
-                if (galleryMediaContent.getId().equals(mediaContent.getId())) {
-                    return galleryStripe;
-                }
-            }
-        }
-        return null;
+        return stripesOfMediaUnits.get(galleryMediaContent.getView().getMediaUnit());
     }
 
     GalleryMediaContent getGalleryMediaContent(View view) {
         if (Objects.nonNull(view)) {
-            for (GalleryMediaContent galleryMediaContent : this.medias) {
-                if (galleryMediaContent.getView().getMediaUnit().equals(view.getMediaUnit())) {
-                    return galleryMediaContent;
-                }
-            }
+            return mediaContents.get(view.getMediaUnit());
         }
         return null;
     }
@@ -517,11 +552,13 @@ public class GalleryPanel {
      * @return GalleryMediaContent
      */
     public GalleryMediaContent getGalleryMediaContent(MediaUnit mediaUnit) {
-        for (GalleryStripe galleryStripe : stripes) {
-            for (GalleryMediaContent media : galleryStripe.getMedias()) {
-                if (Objects.equals(media.getView().getMediaUnit(), mediaUnit)) {
-                    return media;
-                }
+        GalleryStripe galleryStripe = stripesOfMediaUnits.get(mediaUnit);
+        if (Objects.isNull(galleryStripe)) {
+            return null;
+        }
+        for (GalleryMediaContent media : galleryStripe.getMedias()) {
+            if (media.getView().getMediaUnit() == mediaUnit) {
+                return media;
             }
         }
         return null;
@@ -719,12 +756,12 @@ public class GalleryPanel {
     }
 
     private void selectMedia(String mediaUnitOrder, String stripeIndex, String selectionType) {
-        MediaUnit selectedMediaUnit = null;
-        for (MediaUnit mediaUnit : this.dataEditor.getWorkpiece().getAllMediaUnitChildrenFilteredByTypePageAndSorted()) {
-            if (Objects.equals(mediaUnit.getOrder(), Integer.parseInt(mediaUnitOrder))) {
-                selectedMediaUnit = mediaUnit;
-                break;
-            }
+        int order = Integer.parseInt(mediaUnitOrder);
+        MediaUnit selectedMediaUnit = mediaUnitsByOrder.get(order);
+        if (Objects.isNull(selectedMediaUnit) || selectedMediaUnit.getOrder() != order) {
+            // the pages have been edited since the gallery was shown
+            indexMediaUnitsByOrder(dataEditor.getWorkpiece().getAllMediaUnitChildrenFilteredByTypePageAndSorted());
+            selectedMediaUnit = mediaUnitsByOrder.get(order);
         }
 
         try {
@@ -875,7 +912,7 @@ public class GalleryPanel {
      */
     public int getSeveralAssignmentsIndex(GalleryMediaContent galleryMediaContent) {
         if (Objects.nonNull(galleryMediaContent.getView()) && Objects.nonNull(galleryMediaContent.getView().getMediaUnit())) {
-            return dataEditor.getStructurePanel().getSeveralAssignments().indexOf(galleryMediaContent.getView().getMediaUnit());
+            return dataEditor.getStructurePanel().getSeveralAssignmentsIndex(galleryMediaContent.getView().getMediaUnit());
         }
         return -1;
     }
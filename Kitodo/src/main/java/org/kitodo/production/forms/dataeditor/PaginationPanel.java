@@ -13,6 +13,7 @@ package org.kitodo.production.forms.dataeditor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.faces.model.SelectItem;
@@ -317,14 +318,11 @@ public class PaginationPanel {
      */
     public void preparePaginationSelectionSelectedItems() {
         paginationSelectionSelectedItems = new ArrayList<>();
-        List<MediaUnit> mediaUnits = dataEditor.getWorkpiece().getAllMediaUnitChildrenFilteredByTypePageAndSorted();
+        Map<MediaUnit, Integer> positionsOfPages = dataEditor.getWorkpiece().getPositionsOfPages();
         for (Pair<MediaUnit, IncludedStructuralElement> selectedElement : dataEditor.getSelectedMedia()) {
-            for (int i = 0; i < mediaUnits.size(); i++) {
-                MediaUnit mediaUnit = mediaUnits.get(i);
-                if (mediaUnit.equals(selectedElement.getKey())) {
-                    paginationSelectionSelectedItems.add(i);
-                    break;
-                }
+            Integer position = positionsOfPages.get(selectedElement.getKey());
+            if (Objects.nonNull(position)) {
+                paginationSelectionSelectedItems.add(position);
             }
         }
     }
@@ -388,7 +386,8 @@ public class PaginationPanel {
         }
         paginationSelectionSelectedItems = new ArrayList<>();
         preparePaginationSelectionItems();
-        dataEditor.refreshStructurePanel();
+        // only the order labels have changed, the gallery shows them directly
+        dataEditor.getStructurePanel().updateMediaUnitLabels();
         updateMetadataPanel();
         PrimeFaces.current().executeScript("PF('notifications').renderMessage({'summary':'"
                 + Helper.getTranslation("paginationSaved") + "','severity':'info'})");
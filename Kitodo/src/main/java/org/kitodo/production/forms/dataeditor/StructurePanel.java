@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -84,20 +85,39 @@ public class StructurePanel implements Serializable {
     private DefaultTreeNode physicalTree = null;
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the logical structure tree.
+     * Map containing the current expansion states of all TreeNodes in the logical structure tree. The
+     * structural elements are compared by identity, as their content may have changed in the meantime.
      */
-    private HashMap<IncludedStructuralElement, Boolean> previousExpansionStatesLogicalTree;
+    private Map<IncludedStructuralElement, Boolean> previousExpansionStatesLogicalTree;
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the physical structure tree.
+     * Map containing the current expansion states of all TreeNodes in the physical structure tree. The
+     * media units are compared by identity, as their content may have changed in the meantime.
      */
-    private HashMap<MediaUnit, Boolean> previousExpansionStatesPhysicalTree;
+    private Map<MediaUnit, Boolean> previousExpansionStatesPhysicalTree;
 
     /**
      * List of all mediaUnits assigned to multiple IncludedStructuralElements.
      */
     private List<MediaUnit> severalAssignments = new LinkedList<>();
 
+    /**
+     * Positions of the media units in severalAssignments, by identity of the
+     * media unit. Built on demand, null if the list may have changed.
+     */
+    private Map<MediaUnit, Integer> severalAssignmentsIndex;
+
+    /**
+     * The linked child processes of the edited process by their IDs.
+     */
+    private Map<Integer, Process> linkedChildren = new HashMap<>();
+
+    /**
+     * Base types of the linked child processes by process ID. They are looked
+     * up once when the editor opens and again only for newly linked children.
+     */
+    private Map<Integer, String> childBaseTypes = new HashMap<>();
+
     /**
      * Variable used to set the correct order value when building the logical and physical trees from the PrimeFaces tree.
      */
@@ -130,6 +150,9 @@ public class StructurePanel implements Serializable {
         previouslySelectedPhysicalNode = null;
         structure = null;
         severalAssignments = new LinkedList<>();
+        severalAssignmentsIndex = null;
+        linkedChildren = new HashMap<>();
+        childBaseTypes = new HashMap<>();
     }
 
     void deleteSelectedStructure() {
@@ -157,6 +180,7 @@ public class StructurePanel implements Serializable {
             dataEditor.unassignView(selectedStructure, view, selectedStructure.getViews().getLast().equals(view));
             if (view.getMediaUnit().getIncludedStructuralElements().size() <= 1) {
                 severalAssignments.remove(view.getMediaUnit());
+                severalAssignmentsIndex = null;
             }
         }
         subViews.removeAll(multipleViews);
@@ -431,6 +455,43 @@ public class StructurePanel implements Serializable {
         this.dataEditor.checkForChanges();
     }
 
+    /**
+     * Updates the labels of the tree nodes showing media units after their
+     * order labels have changed, for example by a pagination run. Unlike
+     * {@code show()}, the trees are not rebuilt, so this only takes time
+     * linear to the number of nodes, and selection and expansion states are
+     * kept as they are.
+     */
+    void updateMediaUnitLabels() {
+        if (Objects.nonNull(logicalTree)) {
+            updateMediaUnitLabelsRecursive(logicalTree);
+        }
+        if (Objects.nonNull(physicalTree)) {
+            updateMediaUnitLabelsRecursive(physicalTree);
+        }
+        this.dataEditor.checkForChanges();
+    }
+
+    private void updateMediaUnitLabelsRecursive(TreeNode treeNode) {
+        if (treeNode instanceof DefaultTreeNode && treeNode.getData() instanceof StructureTreeNode) {
+            StructureTreeNode structureTreeNode = (StructureTreeNode) treeNode.getData();
+            Object dataObject = structureTreeNode.getDataObject();
+            String label = null;
+            if (dataObject instanceof View) {
+                label = buildViewLabel((View) dataObject);
+            } else if (dataObject instanceof MediaUnit) {
+                label = buildMediaUnitLabel((MediaUnit) dataObject);
+            }
+            if (Objects.nonNull(label) && !label.equals(structureTreeNode.getLabel())) {
+                ((DefaultTreeNode) treeNode).setData(new StructureTreeNode(label, structureTreeNode.isUndefined(),
+                        structureTreeNode.isLinked(), dataObject));
+            }
+        }
+        for (TreeNode childNode : treeNode.getChildren()) {
+            updateMediaUnitLabelsRecursive(childNode);
+        }
+    }
+
     private void restoreSelection(String rowKey, TreeNode parentNode) {
         for (TreeNode childNode : parentNode.getChildren()) {
             if (Objects.nonNull(childNode) && rowKey.equals(childNode.getRowKey())) {
@@ -454,10 +515,46 @@ public class StructurePanel implements Serializable {
         DefaultTreeNode invisibleRootNode = new DefaultTreeNode();
         invisibleRootNode.setExpanded(true);
         addParentLinksRecursive(dataEditor.getProcess(), invisibleRootNode);
+        updateChildBaseTypes();
         buildStructureTreeRecursively(structure, invisibleRootNode);
         return invisibleRootNode;
     }
 
+    /**
+     * Indexes the linked child processes by their IDs and looks up the base
+     * types of the children not seen before with one query to the index.
+     */
+    private void updateChildBaseTypes() {
+        linkedChildren = new HashMap<>();
+        for (Process child : dataEditor.getCurrentChildren()) {
+            linkedChildren.put(child.getId(), child);
+        }
+        childBaseTypes.keySet().retainAll(linkedChildren.keySet());
+        Set<Integer> unknownChildren = new HashSet<>(linkedChildren.keySet());
+        unknownChildren.removeAll(childBaseTypes.keySet());
+        if (unknownChildren.isEmpty()) {
+            return;
+        }
+        try {
+            childBaseTypes.putAll(getBaseTypes(unknownChildren));
+        } catch (DataException e) {
+            Helper.setErrorMessage("metadataReadError", e.getMessage(), logger, e);
+        }
+    }
+
+    /**
+     * Looks up the base types of linked child processes in the index.
+     *
+     * @param processIds
+     *            IDs of the child processes
+     * @return the base types by process ID
+     * @throws DataException
+     *             if the index cannot be queried
+     */
+    Map<Integer, String> getBaseTypes(Collection<Integer> processIds) throws DataException {
+        return ServiceManager.getProcessService().getBaseTypes(processIds);
+    }
+
     private Collection<View> buildStructureTreeRecursively(IncludedStructuralElement structure, TreeNode result) {
         StructureTreeNode node;
         if (Objects.isNull(structure.getLink())) {
@@ -467,17 +564,15 @@ public class StructurePanel implements Serializable {
                     divisionView.isUndefined() && Objects.nonNull(structure.getType()), false, structure);
         } else {
             node = new StructureTreeNode(structure.getLink().getUri().toString(), true, true, structure);
-            for (Process child : dataEditor.getCurrentChildren()) {
-                try {
-                    String type = ServiceManager.getProcessService().getBaseType(child.getId());
-                    if (child.getId() == ServiceManager.getProcessService()
-                            .processIdFromUri(structure.getLink().getUri())) {
-                        StructuralElementViewInterface view = dataEditor.getRulesetManagement().getStructuralElementView(
-                            type, dataEditor.getAcquisitionStage(), dataEditor.getPriorityList());
-                        node = new StructureTreeNode(view.getLabel(), view.isUndefined(), true, structure);
-                    }
-                } catch (DataException e) {
-                    Helper.setErrorMessage("metadataReadError", e.getMessage(), logger, e);
+            Process child = linkedChildren.get(
+                ServiceManager.getProcessService().processIdFromUri(structure.getLink().getUri()));
+            if (Objects.nonNull(child)) {
+                String type = childBaseTypes.get(child.getId());
+                if (Objects.nonNull(type)) {
+                    StructuralElementViewInterface view = dataEditor.getRulesetManagement().getStructuralElementView(
+                        type, dataEditor.getAcquisitionStage(), dataEditor.getPriorityList());
+                    node = new StructureTreeNode(view.getLabel(), view.isUndefined(), true, structure);
+                } else {
                     node = new StructureTreeNode(child.getTitle(), true, true, child);
                 }
             }
@@ -681,24 +776,36 @@ public class StructurePanel implements Serializable {
         if (physicalNodeStateUnknown(this.previousExpansionStatesPhysicalTree, rootTreeNode)) {
             rootTreeNode.setExpanded(true);
         }
-        buildMediaTreeRecursively(mediaRoot, rootTreeNode);
+        rootTreeNode.getChildren().add(buildMediaTreeRecursively(mediaRoot));
         return rootTreeNode;
     }
 
-    private void buildMediaTreeRecursively(MediaUnit mediaUnit, DefaultTreeNode parentTreeNode) {
-        StructuralElementViewInterface divisionView = dataEditor.getRulesetManagement().getStructuralElementView(
-                mediaUnit.getType(), dataEditor.getAcquisitionStage(), dataEditor.getPriorityList());
-        DefaultTreeNode treeNode = addTreeNode(Objects.equals(mediaUnit.getType(), MediaUnit.TYPE_PAGE)
-                        ? divisionView.getLabel().concat(" " + mediaUnit.getOrderlabel()) : divisionView.getLabel(),
-                false, false, mediaUnit, parentTreeNode);
+    private DefaultTreeNode buildMediaTreeRecursively(MediaUnit mediaUnit) {
+        DefaultTreeNode treeNode = new DefaultTreeNode(new StructureTreeNode(buildMediaUnitLabel(mediaUnit), false,
+                false, mediaUnit));
         if (physicalNodeStateUnknown(this.previousExpansionStatesPhysicalTree, treeNode)) {
             treeNode.setExpanded(true);
         }
         if (Objects.nonNull(mediaUnit.getChildren())) {
+            List<TreeNode> childNodes = new ArrayList<>(mediaUnit.getChildren().size());
             for (MediaUnit child : mediaUnit.getChildren()) {
-                buildMediaTreeRecursively(child, treeNode);
+                childNodes.add(buildMediaTreeRecursively(child));
             }
+            /*
+             * PrimeFaces renumbers the row keys of all siblings whenever a
+             * child is added, so adding the children one by one would take
+             * quadratic time on volumes with many pages.
+             */
+            treeNode.getChildren().addAll(childNodes);
         }
+        return treeNode;
+    }
+
+    private String buildMediaUnitLabel(MediaUnit mediaUnit) {
+        StructuralElementViewInterface divisionView = dataEditor.getRulesetManagement().getStructuralElementView(
+                mediaUnit.getType(), dataEditor.getAcquisitionStage(), dataEditor.getPriorityList());
+        return Objects.equals(mediaUnit.getType(), MediaUnit.TYPE_PAGE)
+                ? divisionView.getLabel().concat(" " + mediaUnit.getOrderlabel()) : divisionView.getLabel();
     }
 
     /**
@@ -1274,11 +1381,15 @@ public class StructurePanel implements Serializable {
                 mediaUnit.getIncludedStructuralElements().clear();
             }
             dataEditor.getWorkpiece().getMediaUnit().getChildren().clear();
-            preserveLogicalAndPhysicalRecursive(this.logicalTree.getChildren().get(logicalTree.getChildCount() - 1));
+            Set<MediaUnit> preservedMediaUnits = Collections.newSetFromMap(new IdentityHashMap<>());
+            preservedMediaUnits.addAll(dataEditor.getWorkpiece().getAllMediaUnits());
+            preserveLogicalAndPhysicalRecursive(this.logicalTree.getChildren().get(logicalTree.getChildCount() - 1),
+                preservedMediaUnits);
         }
     }
 
-    private IncludedStructuralElement preserveLogicalAndPhysicalRecursive(TreeNode treeNode) throws UnknownTreeNodeDataException {
+    private IncludedStructuralElement preserveLogicalAndPhysicalRecursive(TreeNode treeNode,
+            Set<MediaUnit> preservedMediaUnits) throws UnknownTreeNodeDataException {
         StructureTreeNode structureTreeNode = (StructureTreeNode) treeNode.getData();
         if (Objects.isNull(structureTreeNode) || !(structureTreeNode.getDataObject() instanceof IncludedStructuralElement)) {
             return null;
@@ -1292,14 +1403,15 @@ public class StructurePanel implements Serializable {
                 throw new UnknownTreeNodeDataException(child.getData().getClass().getCanonicalName());
             }
             if (((StructureTreeNode) child.getData()).getDataObject() instanceof IncludedStructuralElement) {
-                IncludedStructuralElement possibleChildStructure = preserveLogicalAndPhysicalRecursive(child);
+                IncludedStructuralElement possibleChildStructure = preserveLogicalAndPhysicalRecursive(child,
+                    preservedMediaUnits);
                 if (Objects.nonNull(possibleChildStructure)) {
                     structure.getChildren().add(possibleChildStructure);
                 }
             } else if (((StructureTreeNode) child.getData()).getDataObject() instanceof View) {
                 View view = (View) ((StructureTreeNode) child.getData()).getDataObject();
                 structure.getViews().add(view);
-                if (!dataEditor.getWorkpiece().getAllMediaUnits().contains(view.getMediaUnit())) {
+                if (preservedMediaUnits.add(view.getMediaUnit())) {
                     view.getMediaUnit().setOrder(order);
                     dataEditor.getWorkpiece().getMediaUnit().getChildren().add(view.getMediaUnit());
                     order++;
@@ -1330,63 +1442,63 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private HashMap<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             IncludedStructuralElement structuralElement = getTreeNodeStructuralElement(treeRoot);
             if (Objects.nonNull(structuralElement)) {
-                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<IncludedStructuralElement, Boolean> expansionStates) {
+    private Map<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<IncludedStructuralElement, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             IncludedStructuralElement structureData = getTreeNodeStructuralElement(treeNode);
             if (Objects.nonNull(structureData)) {
                 expansionStates.put(structureData, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private HashMap<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             MediaUnit mediaUnit = getTreeNodeMediaUnit(treeRoot);
             if (Objects.nonNull(mediaUnit)) {
-                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<MediaUnit, Boolean> expansionStates) {
+    private Map<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<MediaUnit, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             MediaUnit mediaUnit = getTreeNodeMediaUnit(treeNode);
             if (Objects.nonNull(mediaUnit)) {
                 expansionStates.put(mediaUnit, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, HashMap<IncludedStructuralElement, Boolean> expansionStates) {
+    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, Map<IncludedStructuralElement, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updateNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<IncludedStructuralElement, Boolean> expansionStates) {
+    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, Map<IncludedStructuralElement, Boolean> expansionStates) {
         IncludedStructuralElement element = getTreeNodeStructuralElement(treeNode);
         if (Objects.nonNull(element) && expansionStates.containsKey(element)) {
             treeNode.setExpanded(expansionStates.get(element));
@@ -1396,13 +1508,13 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, HashMap<MediaUnit, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, Map<MediaUnit, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updatePhysicalNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<MediaUnit, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, Map<MediaUnit, Boolean> expansionStates) {
         MediaUnit mediaUnit = getTreeNodeMediaUnit(treeNode);
         if (Objects.nonNull(mediaUnit) && expansionStates.containsKey(mediaUnit)) {
             treeNode.setExpanded(expansionStates.get(mediaUnit));
@@ -1412,12 +1524,12 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private boolean logicalNodeStateUnknown(HashMap<IncludedStructuralElement, Boolean> expansionStates, TreeNode treeNode) {
+    private boolean logicalNodeStateUnknown(Map<IncludedStructuralElement, Boolean> expansionStates, TreeNode treeNode) {
         IncludedStructuralElement element = getTreeNodeStructuralElement(treeNode);
         return !Objects.nonNull(expansionStates) || (Objects.nonNull(element) && !expansionStates.containsKey(element));
     }
 
-    private boolean physicalNodeStateUnknown(HashMap<MediaUnit, Boolean> expanionStates, TreeNode treeNode) {
+    private boolean physicalNodeStateUnknown(Map<MediaUnit, Boolean> expanionStates, TreeNode treeNode) {
         MediaUnit mediaUnit = getTreeNodeMediaUnit(treeNode);
         return Objects.isNull(expanionStates) || (Objects.nonNull(mediaUnit) && !expanionStates.containsKey(mediaUnit));
     }
@@ -1448,9 +1560,30 @@ public class StructurePanel implements Serializable {
      * @return value of severalAssignments
      */
     List<MediaUnit> getSeveralAssignments() {
+        // the caller may change the list
+        severalAssignmentsIndex = null;
         return severalAssignments;
     }
 
+    /**
+     * Returns the position of a media unit in the list of media units assigned
+     * to multiple IncludedStructuralElements.
+     *
+     * @param mediaUnit
+     *            media unit to look for
+     * @return the position of the media unit, -1 if it isn’t in the list
+     */
+    int getSeveralAssignmentsIndex(MediaUnit mediaUnit) {
+        if (Objects.isNull(severalAssignmentsIndex)) {
+            severalAssignmentsIndex = new IdentityHashMap<>();
+            int index = 0;
+            for (MediaUnit assigned : severalAssignments) {
+                severalAssignmentsIndex.putIfAbsent(assigned, index++);
+            }
+        }
+        return severalAssignmentsIndex.getOrDefault(mediaUnit, -1);
+    }
+
     /**
      * Get activeTabs.
      *
@@ -1479,7 +1612,7 @@ public class StructurePanel implements Serializable {
     public int getMultipleAssignmentsIndex(StructureTreeNode treeNode) {
         if (treeNode.getDataObject() instanceof View
                 && Objects.nonNull(((View) treeNode.getDataObject()).getMediaUnit())) {
-            return severalAssignments.indexOf(((View) treeNode.getDataObject()).getMediaUnit());
+            return getSeveralAssignmentsIndex(((View) treeNode.getDataObject()).getMediaUnit());
         }
         return -1;
     }
@@ -1541,6 +1674,7 @@ public class StructurePanel implements Serializable {
             IncludedStructuralElement includedStructuralElement = (IncludedStructuralElement) structureTreeNodeSibling.getDataObject();
             dataEditor.assignView(includedStructuralElement, viewToAssign, 0);
             severalAssignments.add(viewToAssign.getMediaUnit());
+            severalAssignmentsIndex = null;
             show();
             dataEditor.getSelectedMedia().clear();
             dataEditor.getGalleryPanel().updateStripes();
@@ -1563,6 +1697,7 @@ public class StructurePanel implements Serializable {
                     dataEditor.unassignView(includedStructuralElement, view, false);
                     if (view.getMediaUnit().getIncludedStructuralElements().size() <= 1) {
                         severalAssignments.remove(view.getMediaUnit());
+                        severalAssignmentsIndex = null;
                     }
                     show();
                     dataEditor.getGalleryPanel().updateStripes();
@@ -18,9 +18,9 @@ import org.apache.logging.log4j.Logger;
 import org.hibernate.HibernateException;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
-import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.services.data.base.SearchService;
 
 public class IndexWorker implements Runnable {
@@ -56,58 +56,53 @@ public class IndexWorker implements Runnable {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void run() {
         this.indexedObjects = 0;
         int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
         int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
         try {
-            int amountToIndex = getAmountToIndex();
-
-            if (amountToIndex < batchSize) {
-                if (indexAllObjects) {
-                    indexObjects(searchService.getAll(this.startIndexing, amountToIndex));
-                } else {
-                    indexObjects(searchService.getAllNotIndexed(this.startIndexing, amountToIndex));
-                }
-            } else {
-                if (amountToIndex > indexLimit) {
-                    amountToIndex = indexLimit;
-                }
-                while (this.indexedObjects < amountToIndex) {
-                    indexChunks(batchSize);
+            int amountToIndex = Math.min(getAmountToIndex(), indexLimit);
+            int lastId = indexAllObjects ? searchService.getIdBeforeOffset(this.startIndexing, false) : 0;
+            while (this.indexedObjects < amountToIndex) {
+                List<Object> objectsToIndex = getObjectsAfter(lastId,
+                    Math.min(batchSize, amountToIndex - this.indexedObjects));
+                if (objectsToIndex.isEmpty()) {
+                    break;
                 }
+                indexObjects(objectsToIndex);
+                lastId = ((BaseBean) objectsToIndex.get(objectsToIndex.size() - 1)).getId();
             }
-        } catch (CustomResponseException | DAOException | DataException | HibernateException e) {
+        } catch (CustomResponseException | DAOException | HibernateException e) {
             logger.error(e.getMessage(), e);
         }
     }
 
+    /**
+     * Returns the number of objects left to index from the start of this
+     * worker. When only not indexed objects are indexed, the workers run one
+     * after another and each marks the objects it indexed. So the objects not
+     * yet indexed always start at the beginning of the table, and each worker
+     * starts there, regardless of its share.
+     */
     private int getAmountToIndex() throws DAOException {
         if (indexAllObjects) {
             return searchService.countDatabaseRows().intValue() - this.startIndexing;
         } else {
-            return searchService.countNotIndexedDatabaseRows().intValue() - this.startIndexing;
+            return searchService.countNotIndexedDatabaseRows().intValue();
         }
     }
 
+    /**
+     * Reads the next objects to index. They are read by id rather than by
+     * offset, so that deep pages are read as fast as the first one, and not
+     * indexed objects are not skipped when objects before them got indexed.
+     */
     @SuppressWarnings("unchecked")
-    private void indexChunks(int batchSize) throws CustomResponseException, DAOException, DataException {
-        List<Object> objectsToIndex;
-        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
-        while (this.indexedObjects < indexLimit) {
-            int offset = this.indexedObjects + this.startIndexing;
-
-            if (indexAllObjects) {
-                objectsToIndex = searchService.getAll(offset, batchSize);
-            } else {
-                objectsToIndex = searchService.getAllNotIndexed(offset, batchSize);
-            }
-            if (objectsToIndex.isEmpty()) {
-                break;
-            }
-
-            indexObjects(objectsToIndex);
+    private List<Object> getObjectsAfter(int lastId, int size) throws DAOException {
+        if (indexAllObjects) {
+            return searchService.getAllAfter(lastId, size);
+        } else {
+            return searchService.getAllNotIndexedAfter(lastId, size);
         }
     }
 
@@ -11,29 +11,47 @@
 
 package org.kitodo.production.helper;
 
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.opencsv.CSVWriter;
+
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.net.URI;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortOrder;
 import org.kitodo.api.dataformat.MediaUnit;
 import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.data.elasticsearch.search.SearchCursor;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ProcessService;
 import org.kitodo.production.services.dataformat.MetsService;
 
 public class SearchResultGeneration {
 
+    private static final int COLUMNS = 8;
+    private static final int PAGE_SIZE = 500;
+    private static final int ROWS_IN_MEMORY = 100;
+
     private String filter;
     private boolean showClosedProcesses;
     private boolean showInactiveProjects;
@@ -56,26 +74,124 @@ public class SearchResultGeneration {
     }
 
     /**
-     * Get result.
+     * Write the search result as XLSX spreadsheet. Rows are flushed to a
+     * temporary file while processes are read page by page from the index, so
+     * the memory used does not depend on the number of processes found.
      *
-     * @return HSSFWorkbook
+     * @param outputStream
+     *            stream to write the spreadsheet to
      */
-    public HSSFWorkbook getResult() {
-        List<ProcessDTO> resultsWithFilter = getResultsWithFilter();
-        return getWorkbook(resultsWithFilter);
+    public void writeXlsx(OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROWS_IN_MEMORY);
+        try {
+            Sheet sheet = workbook.createSheet("Search results");
+            writeRows(cells -> {
+                Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+                for (int i = 0; i < cells.length; i++) {
+                    if (cells[i] instanceof Number) {
+                        row.createCell(i).setCellValue(((Number) cells[i]).doubleValue());
+                    } else {
+                        row.createCell(i).setCellValue(Objects.toString(cells[i], ""));
+                    }
+                }
+            });
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
     }
 
-    private List<ProcessDTO> getResultsWithFilter() {
-        List<ProcessDTO> processDTOS = new ArrayList<>();
+    /**
+     * Write the search result as CSV file. Processes are read page by page from
+     * the index and written directly to the stream.
+     *
+     * @param outputStream
+     *            stream to write the CSV file to
+     */
+    public void writeCsv(OutputStream outputStream) throws IOException {
+        CSVWriter csvWriter = new CSVWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeRows(cells -> {
+            String[] line = new String[cells.length];
+            for (int i = 0; i < cells.length; i++) {
+                line[i] = Objects.toString(cells[i], "");
+            }
+            csvWriter.writeNext(line);
+        });
+        csvWriter.flush();
+    }
 
+    /**
+     * Write the search result as PDF table. The table is handed over to the
+     * document in chunks, so rows already written can be released.
+     *
+     * @param outputStream
+     *            stream to write the PDF file to
+     */
+    public void writePdf(OutputStream outputStream) throws IOException, DocumentException {
+        Document document = new Document();
+        PdfWriter.getInstance(document, outputStream);
+        document.setPageSize(new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth()));
+        document.open();
+        document.add(new Paragraph(this.filter));
+
+        PdfPTable table = new PdfPTable(COLUMNS);
+        table.setSpacingBefore(20);
+        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
+        table.setComplete(false);
+        writeRows(cells -> {
+            for (Object cell : cells) {
+                table.addCell(Objects.toString(cell, ""));
+            }
+            if (table.size() >= ROWS_IN_MEMORY) {
+                addToDocument(document, table);
+            }
+        });
+        table.setComplete(true);
+        addToDocument(document, table);
+        document.close();
+    }
+
+    private static void addToDocument(Document document, PdfPTable table) throws IOException {
         try {
-            processDTOS = ServiceManager.getProcessService().findByQuery(getQueryForFilter(ObjectType.PROCESS),
-                    ServiceManager.getProcessService().sortByTitle(SortOrder.ASC), false);
+            document.add(table);
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Write title row, header row and one row per process found. Processes
+     * are read from the index page by page, and the progress is logged.
+     */
+    private void writeRows(RowWriter rowWriter) throws IOException {
+        Object[] title = new Object[COLUMNS];
+        title[0] = this.filter;
+        rowWriter.write(title);
+        rowWriter.write(new Object[] {Helper.getTranslation("title"), Helper.getTranslation("ID"),
+            Helper.getTranslation("Datum"), Helper.getTranslation("CountImages"),
+            Helper.getTranslation("CountStructuralElements"), Helper.getTranslation("CountMetadata"),
+            Helper.getTranslation("Project"), Helper.getTranslation("Status"), });
+
+        ProcessService processService = ServiceManager.getProcessService();
+        BoolQueryBuilder query = getQueryForFilter(ObjectType.PROCESS);
+        SortBuilder sort = processService.sortByTitle(SortOrder.ASC);
+        SearchCursor cursor = new SearchCursor();
+        try {
+            long total = processService.count(query);
+            long written = 0;
+            List<ProcessDTO> page = processService.findByQuery(query, sort, cursor, PAGE_SIZE, false);
+            while (!page.isEmpty()) {
+                for (ProcessDTO processDTO : page) {
+                    rowWriter.write(prepareRow(processDTO));
+                }
+                written += page.size();
+                logger.info("Search result generation: {} of {} processes written", written, total);
+                page = processService.findByQuery(query, sort, cursor, PAGE_SIZE, false);
+            }
         } catch (DataException e) {
             logger.error(e.getMessage(), e);
         }
-
-        return processDTOS;
     }
 
     /**
@@ -102,40 +218,7 @@ public class SearchResultGeneration {
         return query;
     }
 
-    private HSSFWorkbook getWorkbook(List<ProcessDTO> processDTOs) {
-        HSSFWorkbook workbook = new HSSFWorkbook();
-        HSSFSheet sheet = workbook.createSheet("Search results");
-
-        HSSFRow title = sheet.createRow(0);
-        title.createCell(0).setCellValue(this.filter);
-        for (int i = 1; i < 8; i++) {
-            title.createCell(i).setCellValue("");
-        }
-
-        HSSFRow rowHeader = sheet.createRow(1);
-        rowHeader.createCell(0).setCellValue(Helper.getTranslation("title"));
-        rowHeader.createCell(1).setCellValue(Helper.getTranslation("ID"));
-        rowHeader.createCell(2).setCellValue(Helper.getTranslation("Datum"));
-        rowHeader.createCell(3).setCellValue(Helper.getTranslation("CountImages"));
-        rowHeader.createCell(4).setCellValue(Helper.getTranslation("CountStructuralElements"));
-        rowHeader.createCell(5).setCellValue(Helper.getTranslation("CountMetadata"));
-        rowHeader.createCell(6).setCellValue(Helper.getTranslation("Project"));
-        rowHeader.createCell(7).setCellValue(Helper.getTranslation("Status"));
-
-        int rowCounter = 2;
-        for (ProcessDTO processDTO : processDTOs) {
-            prepareRow(rowCounter, sheet, processDTO);
-            rowCounter++;
-        }
-        return workbook;
-    }
-
-    private void prepareRow(int rowCounter, HSSFSheet sheet, ProcessDTO processDTO) {
-        HSSFRow row = sheet.createRow(rowCounter);
-        row.createCell(0).setCellValue(processDTO.getTitle());
-        row.createCell(1).setCellValue(processDTO.getId());
-        row.createCell(2).setCellValue(processDTO.getCreationDate());
-
+    private Object[] prepareRow(ProcessDTO processDTO) {
         URI metadataFilePath;
         int numberOfProcessImages = 0;
         int numberOfProcessStructuralElements = 0;
@@ -152,10 +235,6 @@ public class SearchResultGeneration {
             logger.debug("Metadata file not found for process with id: {}", processDTO.getId());
         }
 
-        row.createCell(3).setCellValue(numberOfProcessImages);
-        row.createCell(4).setCellValue(numberOfProcessStructuralElements);
-        row.createCell(5).setCellValue(numberOfProcessMetadata);
-        row.createCell(6).setCellValue(processDTO.getProject().getTitle());
         String sortHelperStatus = "";
         String progress = ServiceManager.getProcessService().getProgress(null, processDTO.getTasks());
 
@@ -164,6 +243,15 @@ public class SearchResultGeneration {
                     + progress.substring(3, 6) + " / "
                     + progress.substring(6);
         }
-        row.createCell(7).setCellValue(sortHelperStatus);
+        return new Object[] {processDTO.getTitle(), processDTO.getId(), processDTO.getCreationDate(),
+            numberOfProcessImages, numberOfProcessStructuralElements, numberOfProcessMetadata,
+            processDTO.getProject().getTitle(), sortHelperStatus, };
+    }
+
+    /**
+     * Receives the cells of one row of the search result.
+     */
+    private interface RowWriter {
+        void write(Object[] cells) throws IOException;
     }
 }
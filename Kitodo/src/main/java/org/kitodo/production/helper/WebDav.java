@@ -23,9 +23,23 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.filemanagement.filters.FileNameEndsWithFilter;
@@ -94,13 +108,10 @@ public class WebDav implements Serializable {
      *            URI
      */
     public void removeAllFromHome(List<URI> uris, URI directory) {
-        URI verzeichnisAlle;
         User currentUser = userService.getAuthenticatedUser();
         try {
-            verzeichnisAlle = userService.getHomeDirectory(currentUser).resolve(directory);
-            for (URI name : uris) {
-                fileService.deleteSymLink(verzeichnisAlle.resolve(name));
-            }
+            URI verzeichnisAlle = userService.getHomeDirectory(currentUser).resolve(directory);
+            runLinkScripts(uris, name -> fileService.deleteSymLink(verzeichnisAlle.resolve(name)));
         } catch (IOException | RuntimeException e) {
             Helper.setErrorMessage(ERROR_UPLOADING, new Object[] {"Home" }, logger, e);
         }
@@ -130,14 +141,8 @@ public class WebDav implements Serializable {
         try {
             destination = userService.getHomeDirectory(user);
             if (user.isWithMassDownload()) {
-                String destinationPath = new File(destination).getPath();
-                destination = Paths.get(destinationPath, process.getProject().getTitle()).toUri();
-                destinationPath = new File(destination).getPath().replaceAll(" ", "__");
-                destination = Paths.get(destinationPath).toUri();
-                if (!fileService.fileExist(destination)
-                        && !fileService.isDirectory(fileService.createResource(destination.toString()))) {
-                    Helper.setErrorMessage("errorMassDownloadProjectCreation", new Object[] {destinationPath });
-                    logger.error("Can not create project directory {}", Paths.get(destinationPath).toUri());
+                destination = getProjectDirectoryForUpload(destination, process);
+                if (Objects.isNull(destination)) {
                     return;
                 }
             }
@@ -148,6 +153,77 @@ public class WebDav implements Serializable {
         }
     }
 
+    /**
+     * Upload from home for several processes. The home directory of the user
+     * is resolved only once, instead of once per process, which means one
+     * LDAP lookup if LDAP is used. The links are removed in parallel.
+     *
+     * @param user
+     *            user from whose home the processes are uploaded
+     * @param processes
+     *            processes to upload
+     */
+    public void uploadFromHome(User user, List<Process> processes) {
+        long begin = System.nanoTime();
+        URI userHome;
+        try {
+            userHome = userService.getHomeDirectory(user);
+        } catch (IOException e) {
+            Helper.setErrorMessage(ERROR_UPLOADING, new Object[] {"Home" }, logger, e);
+            return;
+        }
+        List<URI> links = new ArrayList<>(processes.size());
+        Map<String, URI> projectDirectories = new HashMap<>();
+        for (Process process : processes) {
+            URI destination = userHome;
+            if (user.isWithMassDownload()) {
+                String projectTitle = process.getProject().getTitle();
+                try {
+                    if (!projectDirectories.containsKey(projectTitle)) {
+                        projectDirectories.put(projectTitle, getProjectDirectoryForUpload(userHome, process));
+                    }
+                } catch (IOException e) {
+                    Helper.setErrorMessage(ERROR_UPLOADING, new Object[] {process.getTitle() }, logger, e);
+                    projectDirectories.put(projectTitle, null);
+                }
+                destination = projectDirectories.get(projectTitle);
+                if (Objects.isNull(destination)) {
+                    continue;
+                }
+            }
+            links.add(Paths.get(new File(destination).getPath(), getEncodedProcessLinkName(process)).toUri());
+        }
+        long prepared = System.nanoTime();
+        long removed = runLinkScripts(links, fileService::deleteSymLink);
+        logger.info("Removed {} of {} process links from the home of {} in {} ms ({} ms preparing, {} ms removing)",
+            removed, processes.size(), user.getLogin(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin),
+            TimeUnit.NANOSECONDS.toMillis(prepared - begin), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - prepared));
+    }
+
+    /**
+     * Returns the project directory for mass download in the user home and
+     * creates it if it is missing.
+     *
+     * @param userHome
+     *            home directory of the user
+     * @param process
+     *            process whose project directory is returned
+     * @return the project directory, or null if it cannot be created
+     */
+    private URI getProjectDirectoryForUpload(URI userHome, Process process) throws IOException {
+        String destinationPath = new File(userHome).getPath();
+        URI destination = Paths.get(destinationPath, process.getProject().getTitle()).toUri();
+        destinationPath = new File(destination).getPath().replaceAll(" ", "__");
+        destination = Paths.get(destinationPath).toUri();
+        if (!fileService.fileExist(destination)
+                && !fileService.isDirectory(fileService.createResource(destination.toString()))) {
+            Helper.setErrorMessage("errorMassDownloadProjectCreation", new Object[] {destinationPath });
+            logger.error("Can not create project directory {}", Paths.get(destinationPath).toUri());
+            return null;
+        }
+        return destination;
+    }
+
     /**
      * Download to home.
      *
@@ -168,25 +244,148 @@ public class WebDav implements Serializable {
 
             // for mass download, the project and directory must exist
             if (currentUser.isWithMassDownload()) {
-                URI project = Paths.get(userHome.getPath() + process.getProject().getTitle()).toUri();
+                URI project = Paths.get(new File(userHome).getPath(), process.getProject().getTitle()).toUri();
                 fileService.createDirectoryForUser(project, currentUser.getLogin());
 
-                project = Paths.get(userHome.getPath() + doneDirectoryName).toUri();
+                project = Paths.get(new File(userHome).getPath(), doneDirectoryName).toUri();
                 fileService.createDirectoryForUser(project, currentUser.getLogin());
             }
 
-            URI destination = userHome;
-            if (currentUser.isWithMassDownload() && Objects.nonNull(process.getProject())) {
-                destination = Paths.get(new File(destination).getPath(), process.getProject().getTitle()).toUri();
-            }
-            destination = Paths.get(new File(destination).getPath(), getEncodedProcessLinkName(process)).toUri();
-
+            URI destination = getLinkInHome(userHome, currentUser, process);
             fileService.createSymLink(source, destination, onlyRead, currentUser);
         } catch (IOException e) {
             Helper.setErrorMessage("errorDownloading", new Object[] {"Home" }, logger, e);
         }
     }
 
+    /**
+     * Download to home for several processes. The home directory of the
+     * current user is resolved only once, instead of once per process, which
+     * means one LDAP lookup if LDAP is used. The directories needed for mass
+     * download are created before any link, each at most once. The links are
+     * created in parallel.
+     *
+     * @param processes
+     *            processes to download, mapped to whether their images are
+     *            to be linked read-only
+     */
+    public void downloadToHome(Map<Process, Boolean> processes) {
+        long begin = System.nanoTime();
+        User currentUser = userService.getAuthenticatedUser();
+        URI userHome;
+        try {
+            userHome = userService.getHomeDirectory(currentUser);
+        } catch (IOException e) {
+            Helper.setErrorMessage("errorDownloading", new Object[] {"Home" }, logger, e);
+            return;
+        }
+        if (currentUser.isWithMassDownload()) {
+            for (String directory : getMassDownloadDirectories(processes.keySet(), doneDirectoryName)) {
+                try {
+                    fileService.createDirectoryForUser(Paths.get(new File(userHome).getPath(), directory).toUri(),
+                        currentUser.getLogin());
+                } catch (IOException e) {
+                    Helper.setErrorMessage("errorDownloading", new Object[] {directory }, logger, e);
+                }
+            }
+        }
+        List<Triple<URI, URI, Boolean>> links = new ArrayList<>(processes.size());
+        for (Entry<Process, Boolean> entry : processes.entrySet()) {
+            Process process = entry.getKey();
+            try {
+                saveTiffHeader(process);
+                links.add(new ImmutableTriple<>(fileService.getImagesDirectory(process),
+                        getLinkInHome(userHome, currentUser, process), entry.getValue()));
+            } catch (RuntimeException e) {
+                Helper.setErrorMessage("errorDownloading", new Object[] {process.getTitle() }, logger, e);
+            }
+        }
+        long prepared = System.nanoTime();
+        long created = runLinkScripts(links,
+            link -> fileService.createSymLink(link.getLeft(), link.getMiddle(), link.getRight(), currentUser));
+        logger.info("Linked {} of {} processes into the home of {} in {} ms ({} ms preparing, {} ms linking)",
+            created, processes.size(), currentUser.getLogin(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin),
+            TimeUnit.NANOSECONDS.toMillis(prepared - begin), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - prepared));
+    }
+
+    /**
+     * Returns the directories needed in the user home for mass download:
+     * the directory of every project once, and the done directory.
+     *
+     * @param processes
+     *            processes to download
+     * @param doneDirectoryName
+     *            name of the done directory
+     * @return the names of the directories, in the order of first use
+     */
+    static Set<String> getMassDownloadDirectories(Collection<Process> processes, String doneDirectoryName) {
+        Set<String> directories = new LinkedHashSet<>();
+        for (Process process : processes) {
+            if (Objects.nonNull(process.getProject())) {
+                directories.add(process.getProject().getTitle());
+            }
+        }
+        directories.add(doneDirectoryName);
+        return directories;
+    }
+
+    /**
+     * Returns the URI of the link to the images of a process in the user
+     * home. For mass download, the link is placed in the project directory.
+     *
+     * @param userHome
+     *            home directory of the user
+     * @param user
+     *            user to create the link for
+     * @param process
+     *            process to create the link for
+     * @return the URI of the link
+     */
+    private URI getLinkInHome(URI userHome, User user, Process process) {
+        URI destination = userHome;
+        if (user.isWithMassDownload() && Objects.nonNull(process.getProject())) {
+            destination = Paths.get(new File(destination).getPath(), process.getProject().getTitle()).toUri();
+        }
+        return Paths.get(new File(destination).getPath(), getEncodedProcessLinkName(process)).toUri();
+    }
+
+    /**
+     * Runs the scripts creating or removing links. The script is run as an
+     * external process for each link, so as many of them as configured in
+     * {@code symLinkScriptThreads} are run at the same time.
+     *
+     * @param links
+     *            links to create or remove
+     * @param script
+     *            runs the script for a link, returns whether it succeeded
+     * @return the number of links the script succeeded for
+     */
+    static <T> long runLinkScripts(List<T> links, Predicate<T> script) {
+        int threads = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SYMLINK_SCRIPT_THREADS));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, links.size())));
+        long successful = 0;
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(links.size());
+            for (T link : links) {
+                results.add(executor.submit(() -> script.test(link)));
+            }
+            for (Future<Boolean> result : results) {
+                try {
+                    if (result.get()) {
+                        successful++;
+                    }
+                } catch (ExecutionException e) {
+                    logger.error(e.getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return successful;
+    }
+
     /**
      * Method creates process link name and next encodes it for URI creation.
      *
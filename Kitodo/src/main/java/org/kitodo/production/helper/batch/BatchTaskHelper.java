@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -156,15 +157,15 @@ public class BatchTaskHelper extends BatchHelper {
      * @return String
      */
     public String openBatchTasksByUser() {
+        User user = ServiceManager.getUserService().getAuthenticatedUser();
+        this.myDav.uploadFromHome(user, this.steps.stream().map(Task::getProcess).collect(Collectors.toList()));
         for (Task task : this.steps) {
-            this.myDav.uploadFromHome(task.getProcess());
             task.setProcessingStatus(TaskStatus.OPEN);
             if (task.isCorrection()) {
                 task.setProcessingBegin(null);
             }
             task.setEditType(TaskEditType.MANUAL_MULTI);
             task.setProcessingTime(new Date());
-            User user = ServiceManager.getUserService().getAuthenticatedUser();
             ServiceManager.getTaskService().replaceProcessingUser(task, user);
 
             try {
@@ -182,16 +183,13 @@ public class BatchTaskHelper extends BatchHelper {
      * @return String
      */
     public String closeBatchTasksByUser() {
-        for (Task task : this.steps) {
-
+        List<Task> validTasks = this.steps.stream().filter(this::isTaskValid).collect(Collectors.toList());
+        User user = ServiceManager.getUserService().getAuthenticatedUser();
+        this.myDav.uploadFromHome(user, validTasks.stream().map(Task::getProcess).collect(Collectors.toList()));
+        for (Task task : validTasks) {
             try {
-                boolean valid = isTaskValid(task);
-
-                if (valid) {
-                    this.myDav.uploadFromHome(task.getProcess());
-                    task.setEditType(TaskEditType.MANUAL_MULTI);
-                    new WorkflowControllerService().close(task);
-                }
+                task.setEditType(TaskEditType.MANUAL_MULTI);
+                new WorkflowControllerService().close(task);
             } catch (DataException | IOException | DAOException e) {
                 Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
             }
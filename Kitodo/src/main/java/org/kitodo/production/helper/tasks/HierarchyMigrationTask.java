@@ -240,8 +240,7 @@ public class HierarchyMigrationTask extends EmptyTask {
         parentProcess = ServiceManager.getProcessService().getById(parentProcess.getId());
         ArrayList<Integer> parentData = new ArrayList<>();
         parentData.add(parentProcess.getId());
-        URI metadataFilePath = fileService.getMetadataFilePath(childProcess);
-        parentData.add(convertChildMetsFile(metadataFilePath));
+        parentData.add(convertChildMetsFile(childProcess));
         linkParentProcessWithChildProcess(parentProcess, childProcess);
         return parentData;
     }
@@ -271,6 +270,7 @@ public class HierarchyMigrationTask extends EmptyTask {
         parentProcess.setTitle(title);
         workpiece.setId(parentProcess.getId().toString());
         ServiceManager.getMetsService().saveWorkpiece(workpiece,parentMetadataFilePath);
+        processService.updateBaseTypeAndSummary(parentProcess, workpiece);
         if (WorkflowControllerService.allChildrenClosed(parentProcess)) {
             parentProcess.setSortHelperStatus("100000000");
         }
@@ -316,17 +316,20 @@ public class HierarchyMigrationTask extends EmptyTask {
     }
 
     /**
-     * Changes the METS file of the child process.
+     * Changes the METS file of the child process. The base type and summary of
+     * the child process are updated, but not saved.
      *
-     * @param metadataFilePath
-     *            URI of the metadata file
+     * @param childProcess
+     *            child process whose METS file is changed
      * @return the current number, may be {@code null}
      */
-    private static Integer convertChildMetsFile(URI metadataFilePath) throws IOException {
+    private static Integer convertChildMetsFile(Process childProcess) throws IOException {
+        URI metadataFilePath = fileService.getMetadataFilePath(childProcess);
         Workpiece workpiece = metsService.loadWorkpiece(metadataFilePath);
         IncludedStructuralElement childStructureRoot = workpiece.getRootElement().getChildren().get(0);
         workpiece.setRootElement(childStructureRoot);
         metsService.saveWorkpiece(workpiece, metadataFilePath);
+        processService.updateBaseTypeAndSummary(childProcess, workpiece);
         return getCurrentNo(childStructureRoot);
     }
 
@@ -366,8 +369,7 @@ public class HierarchyMigrationTask extends EmptyTask {
     private static void linkProcessInParent(Process childProcess, List<Integer> parentData)
             throws IOException, DAOException {
 
-        URI metadataFilePath = fileService.getMetadataFilePath(childProcess);
-        Integer currentNo = convertChildMetsFile(metadataFilePath);
+        Integer currentNo = convertChildMetsFile(childProcess);
         Process parentProcess = processService.getById(parentData.get(0));
         int insertionPosition = calculateInsertionPosition(parentData, currentNo);
         MetadataEditor.addLink(parentProcess, Integer.toString(insertionPosition), childProcess.getId());
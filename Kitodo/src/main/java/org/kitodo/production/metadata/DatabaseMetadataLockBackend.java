@@ -0,0 +1,110 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.metadata;
+
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.MetadataEditorLockService;
+
+/**
+ * Keeps the locks in the database, so that they are shared by all application
+ * instances using it. A lock is a lease: it expires if the open metadata
+ * editor doesn't renew it in time, so locks of crashed instances or closed
+ * browsers are released automatically.
+ */
+public class DatabaseMetadataLockBackend implements MetadataLockBackend {
+    private static final Logger logger = LogManager.getLogger(DatabaseMetadataLockBackend.class);
+
+    private final int leaseSeconds;
+
+    /**
+     * Constructor.
+     *
+     * @param leaseSeconds
+     *            seconds until a lock expires if it isn't renewed
+     */
+    public DatabaseMetadataLockBackend(int leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    @Override
+    public boolean tryLock(int processID, User user) {
+        try {
+            return getService().tryLock(processID, user.getId(), leaseSeconds);
+        } catch (DAOException e) {
+            logger.error(e.getMessage(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean renew(int processID, User user) {
+        try {
+            return getService().renew(processID, user.getId(), leaseSeconds);
+        } catch (DAOException e) {
+            logger.error(e.getMessage(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public void setFree(int processID) {
+        try {
+            getService().release(processID);
+        } catch (DAOException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void setAllUserLocksFree(String login) {
+        User user = ServiceManager.getUserService().getByLogin(login);
+        try {
+            getService().releaseAll(user.getId());
+        } catch (DAOException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public User getLockUser(int processID) {
+        try {
+            Integer userId = getService().getLockingUserId(processID);
+            if (Objects.isNull(userId)) {
+                return null;
+            }
+            return ServiceManager.getUserService().getById(userId);
+        } catch (DAOException e) {
+            logger.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isLocked(int processID) {
+        try {
+            return Objects.nonNull(getService().getLockingUserId(processID));
+        } catch (DAOException e) {
+            logger.error(e.getMessage(), e);
+            return true;
+        }
+    }
+
+    private MetadataEditorLockService getService() {
+        return ServiceManager.getMetadataEditorLockService();
+    }
+}
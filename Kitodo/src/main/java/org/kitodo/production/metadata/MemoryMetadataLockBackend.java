@@ -0,0 +1,64 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.metadata;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kitodo.data.database.beans.User;
+import org.kitodo.production.forms.UserForm;
+
+/**
+ * Keeps the locks in this application instance. The locks are held until they
+ * are freed.
+ */
+public class MemoryMetadataLockBackend implements MetadataLockBackend {
+    private final Map<Integer, User> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryLock(int processID, User user) {
+        return locks.computeIfAbsent(processID, id -> user).equals(user);
+    }
+
+    @Override
+    public boolean renew(int processID, User user) {
+        return Objects.equals(locks.get(processID), user);
+    }
+
+    @Override
+    public void setFree(int processID) {
+        locks.remove(processID);
+    }
+
+    @Override
+    public void setAllUserLocksFree(String login) {
+        locks.values().removeIf(user -> user.getLogin().equals(login));
+    }
+
+    @Override
+    public User getLockUser(int processID) {
+        return locks.get(processID);
+    }
+
+    @Override
+    public boolean isLocked(int processID) {
+        User user = locks.get(processID);
+        /* if the process is not in the hash map, it is not locked */
+        if (user == null) {
+            return false;
+        } else {
+            /* if it is in the hash map, the user must be checked */
+            return UserForm.checkUserLoggedIn(user);
+        }
+    }
+}
@@ -109,7 +109,23 @@ public class MetadataEditor {
         addLink(parentIncludedStructuralElement, -1, childProcessId);
     }
 
-    private static void addLink(IncludedStructuralElement parentIncludedStructuralElement, int index,
+    /**
+     * Connects two processes by means of a link at the given position in the
+     * included structural element of the parent process. Unlike
+     * {@link #addLink(Process, String, int)}, the METS file of the parent
+     * process is neither read nor written, so several links can be added to a
+     * workpiece before it is saved once.
+     *
+     * @param parentIncludedStructuralElement
+     *            document included structural element of the parent process in
+     *            which the link is to be added
+     * @param index
+     *            position at which the link is inserted, or a negative number
+     *            to append it
+     * @param childProcessId
+     *            Database ID of the child process to be linked
+     */
+    public static void addLink(IncludedStructuralElement parentIncludedStructuralElement, int index,
             int childProcessId) {
 
         LinkedMetsResource link = new LinkedMetsResource();
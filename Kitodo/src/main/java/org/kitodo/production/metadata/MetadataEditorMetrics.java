@@ -0,0 +1,166 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.metadata;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Collects the time spent in each phase of opening the metadata editor. The
+ * timings are logged for each opening and their averages are published as
+ * MBean {@code org.kitodo:type=MetadataEditorMetrics}, which can be read with
+ * any JMX client or exporter.
+ */
+public class MetadataEditorMetrics implements MetadataEditorMetricsMBean {
+    private static final Logger logger = LogManager.getLogger(MetadataEditorMetrics.class);
+
+    private static final String OBJECT_NAME = "org.kitodo:type=MetadataEditorMetrics";
+    private static final MetadataEditorMetrics instance = new MetadataEditorMetrics();
+
+    /**
+     * Phases of opening the metadata editor.
+     */
+    public enum Phase {
+        RULESET,
+        METS_FILE,
+        MEDIA_SCAN,
+        PANEL_INIT
+    }
+
+    private final LongAdder openCount = new LongAdder();
+    private final LongAdder[] phaseNanos = new LongAdder[Phase.values().length];
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maximumTotalNanos = new AtomicLong();
+
+    static {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(instance, objectName);
+        } catch (JMException | SecurityException e) {
+            logger.warn("Metadata editor metrics could not be registered: {}", e.getMessage());
+        }
+    }
+
+    private MetadataEditorMetrics() {
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Starts measuring the opening of the metadata editor.
+     *
+     * @return a stopwatch to take the time of the phases
+     */
+    public static Stopwatch start() {
+        return instance.new Stopwatch();
+    }
+
+    /**
+     * Takes the times of the phases of one opening of the metadata editor.
+     */
+    public class Stopwatch {
+        private final long begin = System.nanoTime();
+        private long lap = begin;
+        private final long[] nanos = new long[Phase.values().length];
+
+        /**
+         * Ends a phase. The time since the end of the previous phase is
+         * counted for it.
+         *
+         * @param phase
+         *            phase that ended
+         */
+        public void lap(Phase phase) {
+            long now = System.nanoTime();
+            nanos[phase.ordinal()] += now - lap;
+            lap = now;
+        }
+
+        /**
+         * Ends the measurement, logs the timings and adds them to the
+         * statistics.
+         *
+         * @param processId
+         *            id of the opened process
+         */
+        public void stop(int processId) {
+            long total = System.nanoTime() - begin;
+            openCount.increment();
+            for (Phase phase : Phase.values()) {
+                phaseNanos[phase.ordinal()].add(nanos[phase.ordinal()]);
+            }
+            totalNanos.add(total);
+            maximumTotalNanos.accumulateAndGet(total, Math::max);
+            logger.info("Opening process {} in metadata editor took {} ms (ruleset {} ms, METS file {} ms, "
+                    + "media scan {} ms, panels {} ms)", processId, toMillis(total), toMillis(nanos[0]),
+                toMillis(nanos[1]), toMillis(nanos[2]), toMillis(nanos[3]));
+        }
+    }
+
+    @Override
+    public long getOpenCount() {
+        return openCount.sum();
+    }
+
+    @Override
+    public double getAverageRulesetMillis() {
+        return average(phaseNanos[Phase.RULESET.ordinal()].sum());
+    }
+
+    @Override
+    public double getAverageMetsFileMillis() {
+        return average(phaseNanos[Phase.METS_FILE.ordinal()].sum());
+    }
+
+    @Override
+    public double getAverageMediaScanMillis() {
+        return average(phaseNanos[Phase.MEDIA_SCAN.ordinal()].sum());
+    }
+
+    @Override
+    public double getAveragePanelInitMillis() {
+        return average(phaseNanos[Phase.PANEL_INIT.ordinal()].sum());
+    }
+
+    @Override
+    public double getAverageTotalMillis() {
+        return average(totalNanos.sum());
+    }
+
+    @Override
+    public long getMaximumTotalMillis() {
+        return toMillis(maximumTotalNanos.get());
+    }
+
+    private double average(long nanos) {
+        long count = openCount.sum();
+        return count == 0 ? 0 : (double) nanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.metadata;
+
+/**
+ * Management interface of the timings of opening the metadata editor.
+ */
+public interface MetadataEditorMetricsMBean {
+
+    /**
+     * Returns how often the metadata editor was opened.
+     *
+     * @return number of times the editor was opened
+     */
+    long getOpenCount();
+
+    /**
+     * Returns the average time to open the ruleset.
+     *
+     * @return average time in milliseconds
+     */
+    double getAverageRulesetMillis();
+
+    /**
+     * Returns the average time to read the METS file.
+     *
+     * @return average time in milliseconds
+     */
+    double getAverageMetsFileMillis();
+
+    /**
+     * Returns the average time to search the media folders.
+     *
+     * @return average time in milliseconds
+     */
+    double getAverageMediaScanMillis();
+
+    /**
+     * Returns the average time to initialize the panels of the editor.
+     *
+     * @return average time in milliseconds
+     */
+    double getAveragePanelInitMillis();
+
+    /**
+     * Returns the average time to open the editor in total.
+     *
+     * @return average time in milliseconds
+     */
+    double getAverageTotalMillis();
+
+    /**
+     * Returns the longest time it took to open the editor.
+     *
+     * @return maximum time in milliseconds
+     */
+    long getMaximumTotalMillis();
+}
@@ -12,50 +12,83 @@
 package org.kitodo.production.metadata;
 
 import java.io.Serializable;
-import java.util.Iterator;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Named;
 
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.User;
-import org.kitodo.production.forms.UserForm;
 
 /**
- * Bean for locking the metadata.
+ * Bean for locking the metadata. The locks are kept by the backend configured
+ * with {@code metsEditor.lock.backend}.
  */
 @Named("MetadataLock")
 @ApplicationScoped
 public class MetadataLock implements Serializable {
-    private static ConcurrentHashMap<Integer, User> locks = new ConcurrentHashMap<>();
+    private static volatile MetadataLockBackend backend;
+
+    private static MetadataLockBackend getBackend() {
+        MetadataLockBackend localReference = backend;
+        if (Objects.isNull(localReference)) {
+            synchronized (MetadataLock.class) {
+                localReference = backend;
+                if (Objects.isNull(localReference)) {
+                    if ("database".equals(ConfigCore.getParameterOrDefaultValue(ParameterCore.METS_EDITOR_LOCK_BACKEND))) {
+                        localReference = new DatabaseMetadataLockBackend(getLeaseSeconds());
+                    } else {
+                        localReference = new MemoryMetadataLockBackend();
+                    }
+                    backend = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    /**
+     * Get the seconds a lock is valid without being renewed. The metadata
+     * editor renews its lock in shorter intervals.
+     *
+     * @return lease of locks in seconds
+     */
+    public static int getLeaseSeconds() {
+        return ConfigCore.getIntParameterOrDefaultValue(ParameterCore.METS_EDITOR_LOCK_LEASE_SECONDS);
+    }
 
     /**
      * Unlock metadata of a particular process again.
      */
     public static void setFree(int prozessID) {
-        locks.remove(prozessID);
+        getBackend().setFree(prozessID);
     }
 
     /**
-     * Lock metadata of a specific process for a user.
+     * Lock metadata of a specific process for a user, if it is not locked by
+     * another user.
+     *
+     * @return true if the user holds the lock now
      */
-    public static void setLocked(int prozessID, User user) {
-        locks.put(prozessID, user);
+    public static boolean tryLock(int processID, User user) {
+        return getBackend().tryLock(processID, user);
+    }
+
+    /**
+     * Renew the lock of a process held by a user.
+     *
+     * @return false if the user does not hold the lock any more
+     */
+    public static boolean renew(int processID, User user) {
+        return getBackend().renew(processID, user);
     }
 
     /**
      * Check if certain metadata is still locked by other users.
      */
     public static boolean isLocked(int processID) {
-        User user = locks.get(processID);
-        /* if the process is not in the hash map, it is not locked */
-        if (user == null) {
-            return false;
-        } else {
-            /* if it is in the hash map, the user must be checked */
-            return UserForm.checkUserLoggedIn(user);
-        }
+        return getBackend().isLocked(processID);
     }
 
     /**
@@ -65,17 +98,13 @@ public class MetadataLock implements Serializable {
      *            String
      */
     public static void setAllUserLocksFree(String inUsername) {
-        for (Iterator<Entry<Integer, User>> intern = locks.entrySet().iterator(); intern.hasNext();) {
-            if (intern.next().getValue().getLogin().equals(inUsername)) {
-                intern.remove();
-            }
-        }
+        getBackend().setAllUserLocksFree(inUsername);
     }
 
     /**
      * Return a user who has locked metadata.
      */
     public static User getLockUser(int processID) {
-        return locks.get(processID);
+        return getBackend().getLockUser(processID);
     }
 }
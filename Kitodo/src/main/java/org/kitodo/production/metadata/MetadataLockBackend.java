@@ -0,0 +1,77 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.metadata;
+
+import org.kitodo.data.database.beans.User;
+
+/**
+ * Storage of the locks of processes opened in the metadata editor.
+ */
+public interface MetadataLockBackend {
+
+    /**
+     * Lock metadata of a specific process for a user, if it isn't locked by
+     * another user.
+     *
+     * @param processID
+     *            id of process
+     * @param user
+     *            user who wants to edit the metadata
+     * @return true if the user holds the lock now
+     */
+    boolean tryLock(int processID, User user);
+
+    /**
+     * Renew the lock held by a user while the metadata editor is open.
+     *
+     * @param processID
+     *            id of process
+     * @param user
+     *            user who holds the lock
+     * @return false if the user doesn't hold the lock any more
+     */
+    boolean renew(int processID, User user);
+
+    /**
+     * Unlock metadata of a particular process again.
+     *
+     * @param processID
+     *            id of process
+     */
+    void setFree(int processID);
+
+    /**
+     * Unlock all metadata locked by a user.
+     *
+     * @param login
+     *            login of user
+     */
+    void setAllUserLocksFree(String login);
+
+    /**
+     * Return a user who has locked metadata.
+     *
+     * @param processID
+     *            id of process
+     * @return user or null if the metadata isn't locked
+     */
+    User getLockUser(int processID);
+
+    /**
+     * Check if certain metadata is still locked by other users.
+     *
+     * @param processID
+     *            id of process
+     * @return true if the metadata is locked
+     */
+    boolean isLocked(int processID);
+}
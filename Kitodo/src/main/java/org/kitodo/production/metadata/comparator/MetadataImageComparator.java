@@ -23,6 +23,7 @@ import org.kitodo.production.services.file.FileService;
 public class MetadataImageComparator implements Comparator<Object> {
 
     private FileService fileService = ServiceManager.getFileService();
+    private final String imageSorting = ConfigCore.getParameter(ParameterCore.IMAGE_SORTING, "number");
 
     @Override
     public int compare(Object firstObject, Object secondObject) {
@@ -53,8 +54,6 @@ public class MetadataImageComparator implements Comparator<Object> {
     }
 
     private int compareImages(String firstName, String secondName) {
-        String imageSorting = ConfigCore.getParameter(ParameterCore.IMAGE_SORTING, "number");
-
         if (imageSorting.equalsIgnoreCase("number")) {
             try {
                 Integer firstIterator = Integer.valueOf(firstName);
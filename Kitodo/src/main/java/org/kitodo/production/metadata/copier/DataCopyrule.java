@@ -12,7 +12,6 @@
 package org.kitodo.production.metadata.copier;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 
@@ -22,7 +21,7 @@ import org.kitodo.api.MdSec;
 import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.Workpiece;
-import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.services.ServiceManager;
 
@@ -53,14 +52,15 @@ public class DataCopyrule {
             metadataEntry.setValue(command.get(2));
             metadataEntry.setDomain(domain);
             child.getMetadata().add(metadataEntry);
+        }
 
-            try (OutputStream out = ServiceManager.getFileService()
-                    .write(ServiceManager.getFileService().getMetadataFilePath(data.getProcess()))) {
-                ServiceManager.getMetsService().save(workpiece, out);
-                ServiceManager.getProcessService().saveToIndex(data.getProcess(), false);
-            } catch (IOException | CustomResponseException | DataException e) {
-                logger.error("Exception while saving Metadata file", e, e.getMessage());
-            }
+        try {
+            ServiceManager.getMetsService().saveWorkpiece(workpiece,
+                ServiceManager.getFileService().getMetadataFilePath(data.getProcess()));
+            ServiceManager.getProcessService().updateBaseTypeAndSummary(data.getProcess(), workpiece);
+            ServiceManager.getProcessService().saveBaseTypeAndSummary(data.getProcess());
+        } catch (IOException | DAOException | DataException e) {
+            logger.error("Exception while saving Metadata file", e, e.getMessage());
         }
     }
 
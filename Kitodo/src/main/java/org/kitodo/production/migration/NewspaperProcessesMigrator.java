@@ -314,6 +314,8 @@ public class NewspaperProcessesMigrator {
 
         workpiece.setRootElement(cutOffTopLevel(yearIncludedStructuralElement));
         metsService.saveWorkpiece(workpiece, metadataFilePath);
+        processService.updateBaseTypeAndSummary(process, workpiece, rulesetManagement);
+        processService.saveToDatabase(process);
 
         for (Metadata metadata : metsService.loadWorkpiece(anchorFilePath).getRootElement().getMetadata()) {
             if (!overallMetadata.contains(metadata)) {
@@ -572,6 +574,8 @@ public class NewspaperProcessesMigrator {
         MetadataEditor.addLink(overallWorkpiece.getRootElement(), yearProcess.getId());
         if (!yearsIterator.hasNext()) {
             metsService.saveWorkpiece(overallWorkpiece, fileService.getMetadataFilePath(overallProcess, false, false));
+            processService.updateBaseTypeAndSummary(overallProcess, overallWorkpiece, rulesetManagement);
+            processService.saveToDatabase(overallProcess);
         }
 
         yearProcess.setParent(overallProcess);
@@ -615,6 +619,7 @@ public class NewspaperProcessesMigrator {
                 .filter(metadataView -> processTitleKeys.contains(metadataView.getId())).collect(Collectors.toList())
                 .forEach(yearView -> MetadataEditor.writeMetadataEntry(yearWorkpiece.getRootElement(), yearView, yearTitle));
         metsService.saveWorkpiece(yearWorkpiece, fileService.getMetadataFilePath(yearProcess, false, false));
+        processService.updateBaseTypeAndSummary(yearProcess, yearWorkpiece, rulesetManagement);
     }
 
     /**
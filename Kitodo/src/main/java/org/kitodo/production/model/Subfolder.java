@@ -81,6 +81,18 @@ public class Subfolder {
      */
     private final VariableReplacer variableReplacer;
 
+    /**
+     * The directory to search and the compiled file name pattern. Computed on
+     * first use, because replacing the variables and compiling the pattern is
+     * too expensive to repeat for every file name.
+     */
+    private Pair<URI, Pattern> directoryAndFileNamePattern;
+
+    /**
+     * The key mapper for the file name pattern, computed together with it.
+     */
+    private Function<URI, String> canonicalKeyMapper;
+
     /**
      * Creates a new subfolder.
      *
@@ -171,6 +183,15 @@ public class Subfolder {
      *         searched and a pattern to which the file names must correspond
      */
     private Pair<URI, Pattern> determineDirectoryAndFileNamePattern() {
+        if (Objects.isNull(directoryAndFileNamePattern)) {
+            Pair<URI, Pattern> query = computeDirectoryAndFileNamePattern();
+            canonicalKeyMapper = createKeyMapperForPattern(query.getRight());
+            directoryAndFileNamePattern = query;
+        }
+        return directoryAndFileNamePattern;
+    }
+
+    private Pair<URI, Pattern> computeDirectoryAndFileNamePattern() {
         int lastSeparator = folder.getPath().lastIndexOf(File.separatorChar);
         String lastSegment = folder.getPath().substring(lastSeparator + 1);
         int firstStar = lastSegment.indexOf('*');
@@ -190,7 +211,20 @@ public class Subfolder {
      * @return the canonical part of the file name
      */
     public String getCanonical(URI uri) {
-        return createKeyMapperForPattern(determineDirectoryAndFileNamePattern().getRight()).apply(uri);
+        determineDirectoryAndFileNamePattern();
+        return canonicalKeyMapper.apply(uri);
+    }
+
+    /**
+     * Returns when the directory of this subfolder was last modified. This
+     * changes whenever a file is added to, removed from or renamed in the
+     * directory.
+     *
+     * @return the modification time in milliseconds, 0 if the directory does
+     *         not exist
+     */
+    public long getLastModified() {
+        return new File(determineDirectoryAndFileNamePattern().getLeft()).lastModified();
     }
 
     /**
@@ -126,6 +126,11 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private final Process overallProcess;
 
+    /**
+     * The ruleset of the newspaper processes.
+     */
+    private RulesetManagementInterface ruleset;
+
     /**
      * The appearance history for which operations are to be created.
      */
@@ -344,7 +349,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      *             affected files
      */
     private void initializeRulesetFields(String newspaperType) throws ConfigurationException, IOException {
-        RulesetManagementInterface ruleset = rulesetService.openRuleset(overallProcess.getRuleset());
+        ruleset = rulesetService.openRuleset(overallProcess.getRuleset());
         StructuralElementViewInterface newspaperView = ruleset.getStructuralElementView(newspaperType, acquisitionStage, ENGLISH);
         StructuralElementViewInterface yearDivisionView = nextSubView(ruleset, newspaperView, acquisitionStage);
         yearSimpleMetadataView = yearDivisionView.getDatesSimpleMetadata().orElseThrow(ConfigurationException::new);
@@ -540,7 +545,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     }
 
     private void createMetadataFileForProcess(List<IndividualIssue> individualIssues, String title)
-            throws IOException, CommandException {
+            throws DAOException, DataException, IOException, CommandException {
 
         IncludedStructuralElement rootElement = new IncludedStructuralElement();
         MetadataEntry dateMetadataEntry = new MetadataEntry();
@@ -581,6 +586,8 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         fileService.createProcessLocation(getGeneratedProcess());
         final URI metadataFileUri = processService.getMetadataFileUri(getGeneratedProcess());
         metsService.saveWorkpiece(workpiece, metadataFileUri);
+        processService.updateBaseTypeAndSummary(getGeneratedProcess(), workpiece, ruleset);
+        processService.saveBaseTypeAndSummary(getGeneratedProcess());
     }
 
     private void addCustomMetadata(IndividualIssue definition, IncludedStructuralElement issue) {
@@ -657,6 +664,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         final long begin = System.nanoTime();
 
         metsService.saveWorkpiece(yearWorkpiece, yearMetadataFileUri);
+        processService.updateBaseTypeAndSummary(yearProcess, yearWorkpiece, ruleset);
         ProcessService.checkTasks(yearProcess, yearWorkpiece.getRootElement().getType());
         processService.save(yearProcess);
 
@@ -789,6 +797,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
                 overallProcess.getTitle());
         }
         metsService.saveWorkpiece(overallWorkpiece, overallMetadataFileUri);
+        processService.updateBaseTypeAndSummary(overallProcess, overallWorkpiece, ruleset);
         ProcessService.checkTasks(overallProcess, overallWorkpiece.getRootElement().getType());
         processService.save(overallProcess);
 
@@ -14,12 +14,14 @@ package org.kitodo.production.security;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 import org.kitodo.data.database.beans.Authority;
 import org.kitodo.data.database.beans.Client;
 import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.security.AuthorityBitSets;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -39,6 +41,11 @@ public class SecurityUserDetails extends User implements UserDetails {
     private Client sessionClient;
     private final User user;
 
+    /**
+     * The authorities of the authentication compiled on first check.
+     */
+    private transient volatile AuthorityBitSets authorityBitSets;
+
     public SecurityUserDetails(final User user) {
         super(user);
         this.user = user;
@@ -90,6 +97,23 @@ public class SecurityUserDetails extends User implements UserDetails {
         }
     }
 
+    /**
+     * Get the authorities compiled to bit sets. They are compiled on first
+     * call from the authorities granted to the authentication at login.
+     *
+     * @param grantedAuthorities
+     *            authorities of the authentication of this user
+     * @return compiled authorities
+     */
+    public AuthorityBitSets getAuthorityBitSets(Collection<? extends GrantedAuthority> grantedAuthorities) {
+        AuthorityBitSets localReference = authorityBitSets;
+        if (Objects.isNull(localReference)) {
+            localReference = AuthorityBitSets.compile(grantedAuthorities);
+            authorityBitSets = localReference;
+        }
+        return localReference;
+    }
+
     /**
      * Gets sessionClient.
      *
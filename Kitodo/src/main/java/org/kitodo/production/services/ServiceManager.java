@@ -22,12 +22,14 @@ import org.kitodo.production.services.data.CommentService;
 import org.kitodo.production.services.data.DataEditorSettingService;
 import org.kitodo.production.services.data.DocketService;
 import org.kitodo.production.services.data.FilterService;
+import org.kitodo.production.services.data.FolderFingerprintService;
 import org.kitodo.production.services.data.FolderService;
 import org.kitodo.production.services.data.ImportService;
 import org.kitodo.production.services.data.LdapGroupService;
 import org.kitodo.production.services.data.LdapServerService;
 import org.kitodo.production.services.data.ListColumnService;
 import org.kitodo.production.services.data.MassImportService;
+import org.kitodo.production.services.data.MetadataEditorLockService;
 import org.kitodo.production.services.data.ProcessService;
 import org.kitodo.production.services.data.ProjectService;
 import org.kitodo.production.services.data.PropertyService;
@@ -61,11 +63,13 @@ public class ServiceManager {
     private static CommentService commentService;
     private static DataEditorService dataEditorService;
     private static DataEditorSettingService dataEditorSettingService;
+    private static MetadataEditorLockService metadataEditorLockService;
     private static DocketService docketService;
     private static FileService fileService;
     private static FileStructureValidationService fileStructureValidationService;
     private static FilterService filterService;
     private static FolderService folderService;
+    private static FolderFingerprintService folderFingerprintService;
     private static ImageService imageService;
     private static ImportService importService;
     private static IndexingService indexingService;
@@ -195,6 +199,12 @@ public class ServiceManager {
         }
     }
 
+    private static void initializeFolderFingerprintService() {
+        if (Objects.isNull(folderFingerprintService)) {
+            folderFingerprintService = FolderFingerprintService.getInstance();
+        }
+    }
+
     private static void initializeProjectService() {
         if (Objects.isNull(projectService)) {
             projectService = ProjectService.getInstance();
@@ -327,6 +337,12 @@ public class ServiceManager {
         }
     }
 
+    private static void initializeMetadataEditorLockService() {
+        if (Objects.isNull(metadataEditorLockService)) {
+            metadataEditorLockService = MetadataEditorLockService.getInstance();
+        }
+    }
+
     /**
      * Initialize AuthorityService if it is not yet initialized and next return
      * it.
@@ -483,6 +499,17 @@ public class ServiceManager {
         return folderService;
     }
 
+    /**
+     * Initialize FolderFingerprintService if it is not yet initialized and
+     * next return it.
+     *
+     * @return FolderFingerprintService object
+     */
+    public static FolderFingerprintService getFolderFingerprintService() {
+        initializeFolderFingerprintService();
+        return folderFingerprintService;
+    }
+
     /**
      * Initialize ProjectService if it is not yet initialized and next return
      * it.
@@ -726,4 +753,14 @@ public class ServiceManager {
         initializeDataEditorSettingService();
         return dataEditorSettingService;
     }
+
+    /**
+     * Get metadataEditorLockService.
+     *
+     * @return value of metadataEditorLockService
+     */
+    public static MetadataEditorLockService getMetadataEditorLockService() {
+        initializeMetadataEditorLockService();
+        return metadataEditorLockService;
+    }
 }
@@ -12,7 +12,6 @@
 package org.kitodo.production.services.command;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,7 +25,7 @@ import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.data.database.beans.Process;
-import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.helper.VariableReplacer;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
@@ -106,11 +105,12 @@ public abstract class EditDataScript {
      * @param process the process to save
      */
     public void saveChanges(Workpiece workpiece, Process process) {
-        try (OutputStream out = ServiceManager.getFileService()
-                .write(ServiceManager.getFileService().getMetadataFilePath(process))) {
-            ServiceManager.getMetsService().save(workpiece, out);
-            ServiceManager.getProcessService().saveToIndex(process, false);
-        } catch (IOException | CustomResponseException | DataException e) {
+        try {
+            ServiceManager.getMetsService().saveWorkpiece(workpiece,
+                ServiceManager.getFileService().getMetadataFilePath(process));
+            ServiceManager.getProcessService().updateBaseTypeAndSummary(process, workpiece);
+            ServiceManager.getProcessService().saveBaseTypeAndSummary(process);
+        } catch (IOException | DAOException | DataException e) {
             logger.error(e.getMessage());
         }
     }
@@ -34,6 +34,7 @@ import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.CommandException;
 import org.kitodo.exceptions.InvalidImagesException;
@@ -248,11 +249,10 @@ public class KitodoScriptService {
                 LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
                         .readMetadataFile(process);
                 deleteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                saveMetadataFile(process, metadataFile);
                 Helper.setMessage("deleteDataOk", currentProcessTitle);
             }
-        } catch (IOException e) {
+        } catch (IOException | DAOException | DataException e) {
             Helper.setErrorMessage("deleteDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
         }
     }
@@ -297,11 +297,10 @@ public class KitodoScriptService {
                 LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
                         .readMetadataFile(process);
                 overwriteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                saveMetadataFile(process, metadataFile);
                 Helper.setMessage("overwriteDataOk", currentProcessTitle);
             }
-        } catch (IOException e) {
+        } catch (IOException | DAOException | DataException e) {
             Helper.setErrorMessage("overwriteDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
         }
     }
@@ -369,11 +368,10 @@ public class KitodoScriptService {
                 LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
                         .readMetadataFile(process);
                 addDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                saveMetadataFile(process, metadataFile);
                 Helper.setMessage("addDataOk", currentProcessTitle);
             }
-        } catch (IOException e) {
+        } catch (IOException | DAOException | DataException e) {
             Helper.setErrorMessage("addDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
         }
     }
@@ -431,6 +429,15 @@ public class KitodoScriptService {
         }
     }
 
+    private void saveMetadataFile(Process process, LegacyMetsModsDigitalDocumentHelper metadataFile)
+            throws IOException, DAOException, DataException {
+        ProcessService processService = ServiceManager.getProcessService();
+        Workpiece workpiece = metadataFile.getWorkpiece();
+        ServiceManager.getMetsService().saveWorkpiece(workpiece, processService.getMetadataFileUri(process));
+        processService.updateBaseTypeAndSummary(process, workpiece);
+        processService.saveBaseTypeAndSummary(process);
+    }
+
     private void searchForMedia(List<Process> processes) throws IOException, InvalidImagesException {
         FileService fileService = ServiceManager.getFileService();
         MetsService metsService = ServiceManager.getMetsService();
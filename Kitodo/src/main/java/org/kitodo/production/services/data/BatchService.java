@@ -23,6 +23,7 @@ import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.database.persistence.BatchDAO;
@@ -70,23 +71,28 @@ public class BatchService extends TitleSearchService<Batch, BatchDTO, BatchDAO>
     }
 
     /**
-     * Method saves processes related to modified batch.
+     * Method saves processes related to modified batch and their tasks, which
+     * hold the batches of their processes.
      *
      * @param batch
      *            object
      */
     @Override
     protected void manageDependenciesForIndex(Batch batch) throws CustomResponseException, DataException, IOException {
+        List<Task> tasks = new ArrayList<>();
         if (batch.getIndexAction() == IndexAction.DELETE) {
             for (Process process : batch.getProcesses()) {
                 process.getBatches().remove(batch);
                 ServiceManager.getProcessService().saveToIndex(process, false);
+                tasks.addAll(process.getTasks());
             }
         } else {
             for (Process process : batch.getProcesses()) {
                 ServiceManager.getProcessService().saveToIndex(process, false);
+                tasks.addAll(process.getTasks());
             }
         }
+        ServiceManager.getTaskService().saveToIndex(tasks, false);
     }
 
     @Override
@@ -11,11 +11,15 @@
 
 package org.kitodo.production.services.data;
 
+import static org.elasticsearch.index.query.QueryBuilders.nestedQuery;
+
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -26,6 +30,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.search.join.ScoreMode;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.Operator;
 import org.elasticsearch.index.query.QueryBuilder;
@@ -41,14 +46,13 @@ import org.kitodo.data.database.persistence.FilterDAO;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.FilterType;
 import org.kitodo.data.elasticsearch.index.type.enums.FilterTypeField;
+import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.dto.FilterDTO;
-import org.kitodo.production.dto.ProcessDTO;
-import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.FilterString;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
@@ -64,6 +68,29 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     private static volatile FilterService instance = null;
     public static final String FILTER_STRING = "filterString";
 
+    private static final int QUERY_CACHE_SIZE = 100;
+
+    /**
+     * Number of searches run while building the query for the current filter,
+     * to log how many searches a user filter causes.
+     */
+    private final ThreadLocal<Integer> additionalSearches = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * Queries built for filter strings, by object type, options, filter
+     * string and, for tasks, the user and their roles. Only queries built
+     * without additional searches are cached, as they do not depend on the
+     * content of the index. The least recently used query is removed if the
+     * cache is full.
+     */
+    private final Map<String, BoolQueryBuilder> queryCache = Collections
+            .synchronizedMap(new LinkedHashMap<String, BoolQueryBuilder>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BoolQueryBuilder> eldest) {
+                    return size() > QUERY_CACHE_SIZE;
+                }
+            });
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
@@ -144,7 +171,9 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * restrictions conjunctions are formed and collect the restrictions and
      * then will be applied on the corresponding criteria. A criteria is only
      * added if needed for the presence of filters applying to it. Prefix "-"
-     * means that negated query should be created.
+     * means that negated query should be created. Queries are cached, so that
+     * paging through the results of a filter does not parse it again. The
+     * returned query may be modified by the caller.
      *
      * @param filter
      *            as String
@@ -159,6 +188,62 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     public BoolQueryBuilder queryBuilder(String filter, ObjectType objectType, Boolean onlyOpenTasks,
             Boolean onlyUserAssignedTasks) throws DataException {
 
+        String cacheKey = getQueryCacheKey(filter, objectType, onlyOpenTasks, onlyUserAssignedTasks);
+        BoolQueryBuilder query = queryCache.get(cacheKey);
+        if (Objects.isNull(query)) {
+            query = buildQuery(filter, objectType, onlyOpenTasks, onlyUserAssignedTasks);
+            if (additionalSearches.get() == 0) {
+                queryCache.put(cacheKey, query);
+            }
+        } else {
+            additionalSearches.set(0);
+            logger.debug("Query plan: filter \"{}\" for {} is answered with 1 search from cache", filter,
+                objectType);
+        }
+        // wrap the query, so that the cached query is not modified by the caller
+        return new BoolQueryBuilder().must(query);
+    }
+
+    /**
+     * Returns the number of searches needed to answer the query last returned
+     * by {@link #queryBuilder(String, ObjectType, Boolean, Boolean)} on this
+     * thread, including the search with the query itself.
+     *
+     * @return number of searches
+     */
+    int getNumberOfSearches() {
+        return additionalSearches.get() + 1;
+    }
+
+    /**
+     * Removes all cached queries. This must be called when the assignments of
+     * users change, to make sure that the queries are built again.
+     */
+    public void clearQueryCache() {
+        queryCache.clear();
+    }
+
+    private String getQueryCacheKey(String filter, ObjectType objectType, Boolean onlyOpenTasks,
+            Boolean onlyUserAssignedTasks) {
+        StringBuilder cacheKey = new StringBuilder();
+        cacheKey.append(objectType).append('\n');
+        if (objectType == ObjectType.TASK) {
+            cacheKey.append(onlyOpenTasks).append('\n').append(onlyUserAssignedTasks).append('\n');
+            User user = ServiceManager.getUserService().getAuthenticatedUser();
+            if (Objects.nonNull(user)) {
+                cacheKey.append(user.getId());
+                for (Role role : user.getRoles()) {
+                    cacheKey.append(',').append(role.getId());
+                }
+            }
+            cacheKey.append('\n');
+        }
+        return cacheKey.append(filter).toString();
+    }
+
+    private BoolQueryBuilder buildQuery(String filter, ObjectType objectType, Boolean onlyOpenTasks,
+            Boolean onlyUserAssignedTasks) throws DataException {
+
         filter = replaceLegacyFilters(filter);
         BoolQueryBuilder query = new BoolQueryBuilder();
 
@@ -167,70 +252,81 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
             query = buildTaskQuery(onlyOpenTasks, onlyUserAssignedTasks);
         }
 
+        additionalSearches.set(0);
         for (String tokenizedFilter : prepareFilters(filter)) {
-            if (evaluateFilterString(tokenizedFilter, FilterString.TASK, null)) {
-                query.must(createHistoricFilter(tokenizedFilter));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKINWORK, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKINWORK, TaskStatus.INWORK, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKLOCKED, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKLOCKED, TaskStatus.LOCKED, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKOPEN, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKOPEN, TaskStatus.OPEN, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONE, null)) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKDONE, TaskStatus.DONE, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONETITLE, null)) {
-                String taskTitle = getFilterValueFromFilterString(tokenizedFilter, FilterString.TASKDONETITLE);
-                query.must(filterTaskTitle(taskTitle, TaskStatus.DONE, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONEUSER, null)
-                    && ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.WITH_USER_STEP_DONE_SEARCH)) {
-                query.must(filterTaskDoneUser(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKAUTOMATIC, null)) {
-                query.must(filterAutomaticTasks(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROJECT, null)) {
-                query.must(filterProject(tokenizedFilter, false, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.ID, null)) {
-                query.must(createProcessIdFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PARENTPROCESSID, null)) {
-                query.must(createParentProcessIdFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROPERTY, null)) {
-                query.must(createProcessPropertyFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROCESS, null)) {
-                query.must(createProcessTitleFilter(tokenizedFilter, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.BATCH, null)) {
-                query.must(createBatchIdFilter(tokenizedFilter, objectType, true));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKINWORK, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKINWORK, TaskStatus.INWORK, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKLOCKED, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKLOCKED, TaskStatus.LOCKED, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKOPEN, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKOPEN, TaskStatus.OPEN, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONE, "-")) {
-                query.must(
-                    createTaskFilters(tokenizedFilter, FilterString.TASKDONE, TaskStatus.DONE, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONETITLE, "-")) {
-                String taskTitle = getFilterValueFromFilterString(tokenizedFilter, FilterString.TASKDONETITLE);
-                query.must(filterTaskTitle(taskTitle, TaskStatus.DONE, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.PROJECT, "-")) {
-                query.must(filterProject(tokenizedFilter, true, objectType));
-            } else if (evaluateFilterString(tokenizedFilter, FilterString.BATCH, "-")) {
-                query.must(createBatchIdFilter(tokenizedFilter, objectType, false));
-            } else if (tokenizedFilter.startsWith("-")) {
-                query.must(createDefaultQuery(tokenizedFilter.substring(1), true, objectType));
-            } else {
-                /* standard-search parameter */
-                query.must(createDefaultQuery(tokenizedFilter, false, objectType));
-            }
+            int searchesBefore = additionalSearches.get();
+            addTokenizedFilter(query, tokenizedFilter, objectType);
+            logger.debug("Query plan: filter token \"{}\" for {} needs {} additional search(es)", tokenizedFilter,
+                objectType, additionalSearches.get() - searchesBefore);
         }
+        logger.debug("Query plan: filter \"{}\" for {} is answered with {} search(es)", filter, objectType,
+            additionalSearches.get() + 1);
         return query;
     }
 
+    private void addTokenizedFilter(BoolQueryBuilder query, String tokenizedFilter, ObjectType objectType)
+            throws DataException {
+        if (evaluateFilterString(tokenizedFilter, FilterString.TASK, null)) {
+            query.must(createHistoricFilter(tokenizedFilter));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKINWORK, null)) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKINWORK, TaskStatus.INWORK, false, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKLOCKED, null)) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKLOCKED, TaskStatus.LOCKED, false, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKOPEN, null)) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKOPEN, TaskStatus.OPEN, false, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONE, null)) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKDONE, TaskStatus.DONE, false, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONETITLE, null)) {
+            String taskTitle = getFilterValueFromFilterString(tokenizedFilter, FilterString.TASKDONETITLE);
+            query.must(filterTaskTitle(taskTitle, TaskStatus.DONE, false, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONEUSER, null)
+                && ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.WITH_USER_STEP_DONE_SEARCH)) {
+            query.must(filterTaskDoneUser(tokenizedFilter, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKAUTOMATIC, null)) {
+            query.must(filterAutomaticTasks(tokenizedFilter, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.PROJECT, null)) {
+            query.must(filterProject(tokenizedFilter, false, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.ID, null)) {
+            query.must(createProcessIdFilter(tokenizedFilter, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.PARENTPROCESSID, null)) {
+            query.must(createParentProcessIdFilter(tokenizedFilter, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.PROPERTY, null)) {
+            query.must(createProcessPropertyFilter(tokenizedFilter, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.PROCESS, null)) {
+            query.must(createProcessTitleFilter(tokenizedFilter, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.BATCH, null)) {
+            query.must(createBatchIdFilter(tokenizedFilter, objectType, true));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKINWORK, "-")) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKINWORK, TaskStatus.INWORK, true, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKLOCKED, "-")) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKLOCKED, TaskStatus.LOCKED, true, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKOPEN, "-")) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKOPEN, TaskStatus.OPEN, true, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONE, "-")) {
+            query.must(
+                createTaskFilters(tokenizedFilter, FilterString.TASKDONE, TaskStatus.DONE, true, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.TASKDONETITLE, "-")) {
+            String taskTitle = getFilterValueFromFilterString(tokenizedFilter, FilterString.TASKDONETITLE);
+            query.must(filterTaskTitle(taskTitle, TaskStatus.DONE, true, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.PROJECT, "-")) {
+            query.must(filterProject(tokenizedFilter, true, objectType));
+        } else if (evaluateFilterString(tokenizedFilter, FilterString.BATCH, "-")) {
+            query.must(createBatchIdFilter(tokenizedFilter, objectType, false));
+        } else if (tokenizedFilter.startsWith("-")) {
+            query.must(createDefaultQuery(tokenizedFilter.substring(1), true, objectType));
+        } else {
+            /* standard-search parameter */
+            query.must(createDefaultQuery(tokenizedFilter, false, objectType));
+        }
+    }
+
     private String replaceLegacyFilters(String filter) {
         filter.replace("processproperty","property");
         filter.replace("workpiece","property");
@@ -490,19 +586,22 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return new BoolQueryBuilder();
     }
 
-    private QueryBuilder createProcessPropertyFilter(String filter, ObjectType objectType) throws DataException {
+    private QueryBuilder createProcessPropertyFilter(String filter, ObjectType objectType) {
+        String path;
+        if (objectType == ObjectType.PROCESS) {
+            path = ProcessTypeField.PROPERTIES.getKey();
+        } else if (objectType == ObjectType.TASK) {
+            path = TaskTypeField.PROCESS_PROPERTIES.getKey();
+        } else {
+            return new BoolQueryBuilder();
+        }
         BoolQueryBuilder propertyQuery = new BoolQueryBuilder();
         Set<String> strings = filterValuesAsStrings(filter, FilterString.PROPERTY);
         for (String string : strings) {
             String[] split = string.split(":");
-            propertyQuery.should(ServiceManager.getProcessService().createPropertyQuery(split[0], split[1]));
+            propertyQuery.should(ServiceManager.getProcessService().createPropertyQuery(path, split[0], split[1]));
         }
-        if (objectType == ObjectType.PROCESS) {
-            return propertyQuery;
-        } else if (objectType == ObjectType.TASK) {
-            return getQueryAccordingToObjectTypeAndSearchInObject(ObjectType.TASK, ObjectType.PROCESS, propertyQuery);
-        }
-        return new BoolQueryBuilder();
+        return propertyQuery;
     }
 
     private QueryBuilder createProcessTitleFilter(String filter, ObjectType objectType) {
@@ -515,13 +614,12 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return new BoolQueryBuilder();
     }
 
-    private QueryBuilder createBatchIdFilter(String filter, ObjectType objectType, boolean negate) throws DataException {
+    private QueryBuilder createBatchIdFilter(String filter, ObjectType objectType, boolean negate) {
         if (objectType == ObjectType.PROCESS) {
             return createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate);
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(
-                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate), true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), negate);
+            return createSetQuery(TaskTypeField.PROCESS_BATCHES.getKey() + ".id",
+                filterValuesAsIntegers(filter, FilterString.BATCH), negate);
         }
         return new BoolQueryBuilder();
     }
@@ -562,7 +660,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -573,7 +671,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -584,7 +682,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -596,7 +694,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -614,11 +712,11 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                     } catch (NullPointerException e1) {
                         logger.error(e1.getMessage(), e1);
                         logger.error("stepdone is preset, don't use 'step' filters");
-                    } catch (DataException | RuntimeException e1) {
+                    } catch (RuntimeException e1) {
                         logger.error(e1.getMessage(), e1);
                         logError(filter);
                     }
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -698,24 +796,24 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return query as {@link QueryBuilder}
      */
     private QueryBuilder filterTaskRange(String parameters, TaskStatus taskStatus, boolean negate,
-            ObjectType objectType) throws DataException {
+            ObjectType objectType) {
+        String ordering = getTaskField(TaskTypeField.ORDERING, objectType);
+        String processingStatus = getTaskField(TaskTypeField.PROCESSING_STATUS, objectType);
         BoolQueryBuilder taskRange = new BoolQueryBuilder();
         if (!negate) {
-            taskRange.must(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters),
-                SearchCondition.EQUAL_OR_BIGGER));
-            taskRange.must(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskEnd(parameters),
-                SearchCondition.EQUAL_OR_SMALLER));
-            taskRange.must(createSimpleCompareQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(),
-                SearchCondition.EQUAL));
+            taskRange.must(
+                createSimpleCompareQuery(ordering, getTaskStart(parameters), SearchCondition.EQUAL_OR_BIGGER));
+            taskRange.must(
+                createSimpleCompareQuery(ordering, getTaskEnd(parameters), SearchCondition.EQUAL_OR_SMALLER));
+            taskRange.must(createSimpleCompareQuery(processingStatus, taskStatus.getValue(), SearchCondition.EQUAL));
         } else {
-            taskRange.mustNot(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters),
-                SearchCondition.EQUAL_OR_BIGGER));
-            taskRange.mustNot(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskEnd(parameters),
-                SearchCondition.EQUAL_OR_SMALLER));
-            taskRange.mustNot(createSimpleCompareQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(),
-                SearchCondition.EQUAL));
+            taskRange.mustNot(
+                createSimpleCompareQuery(ordering, getTaskStart(parameters), SearchCondition.EQUAL_OR_BIGGER));
+            taskRange.mustNot(
+                createSimpleCompareQuery(ordering, getTaskEnd(parameters), SearchCondition.EQUAL_OR_SMALLER));
+            taskRange.mustNot(createSimpleCompareQuery(processingStatus, taskStatus.getValue(), SearchCondition.EQUAL));
         }
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskRange);
+        return getQueryAccordingToObjectTypeAndSearchInTask(objectType, taskRange);
     }
 
     /**
@@ -733,11 +831,13 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return query as {@link QueryBuilder}
      */
     private QueryBuilder filterTaskTitle(String parameters, TaskStatus taskStatus, boolean negate,
-            ObjectType objectType) throws DataException {
+            ObjectType objectType) {
+        String processingStatus = getTaskField(TaskTypeField.PROCESSING_STATUS, objectType);
         BoolQueryBuilder taskTitle = new BoolQueryBuilder();
-        taskTitle.must(createSimpleQuery(TaskTypeField.TITLE.getKey() + ".keyword", parameters, !negate));
-        taskTitle.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskTitle);
+        taskTitle.must(createSimpleQuery(getTaskField(TaskTypeField.TITLE, objectType) + ".keyword", parameters,
+            !negate));
+        taskTitle.must(createSimpleQuery(processingStatus, taskStatus.getValue(), !negate));
+        return getQueryAccordingToObjectTypeAndSearchInTask(objectType, taskTitle);
     }
 
     /**
@@ -754,12 +854,13 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterTaskMin(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType)
-            throws DataException {
+    private QueryBuilder filterTaskMin(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType) {
         BoolQueryBuilder taskMin = new BoolQueryBuilder();
-        taskMin.must(createSimpleQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters), !negate));
-        taskMin.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskMin);
+        String ordering = getTaskField(TaskTypeField.ORDERING, objectType);
+        String processingStatus = getTaskField(TaskTypeField.PROCESSING_STATUS, objectType);
+        taskMin.must(createSimpleQuery(ordering, getTaskStart(parameters), !negate));
+        taskMin.must(createSimpleQuery(processingStatus, taskStatus.getValue(), !negate));
+        return getQueryAccordingToObjectTypeAndSearchInTask(objectType, taskMin);
     }
 
     /**
@@ -776,12 +877,13 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterTaskMax(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType)
-            throws DataException {
+    private QueryBuilder filterTaskMax(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType) {
         BoolQueryBuilder taskMax = new BoolQueryBuilder();
-        taskMax.must(createSimpleQuery(TaskTypeField.ORDERING.getKey(), getTaskEnd(parameters), !negate));
-        taskMax.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskMax);
+        String ordering = getTaskField(TaskTypeField.ORDERING, objectType);
+        String processingStatus = getTaskField(TaskTypeField.PROCESSING_STATUS, objectType);
+        taskMax.must(createSimpleQuery(ordering, getTaskEnd(parameters), !negate));
+        taskMax.must(createSimpleQuery(processingStatus, taskStatus.getValue(), !negate));
+        return getQueryAccordingToObjectTypeAndSearchInTask(objectType, taskMax);
     }
 
     /**
@@ -799,11 +901,13 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return query as {@link QueryBuilder}
      */
     private QueryBuilder filterTaskExact(String parameters, TaskStatus taskStatus, boolean negate,
-            ObjectType objectType) throws DataException {
+            ObjectType objectType) {
         BoolQueryBuilder taskExact = new BoolQueryBuilder();
-        taskExact.must(createSimpleQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters), !negate));
-        taskExact.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskExact);
+        String ordering = getTaskField(TaskTypeField.ORDERING, objectType);
+        String processingStatus = getTaskField(TaskTypeField.PROCESSING_STATUS, objectType);
+        taskExact.must(createSimpleQuery(ordering, getTaskStart(parameters), !negate));
+        taskExact.must(createSimpleQuery(processingStatus, taskStatus.getValue(), !negate));
+        return getQueryAccordingToObjectTypeAndSearchInTask(objectType, taskExact);
     }
 
     /**
@@ -846,14 +950,15 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterAutomaticTasks(String filter, ObjectType objectType) throws DataException {
+    private QueryBuilder filterAutomaticTasks(String filter, ObjectType objectType) {
         BoolQueryBuilder typeAutomatic = new BoolQueryBuilder();
         String value = getFilterValueFromFilterString(filter, FilterString.TASKAUTOMATIC);
         if (Objects.nonNull(value)) {
             typeAutomatic.must(
-                createSimpleQuery(TaskTypeField.TYPE_AUTOMATIC.getKey(), value.equalsIgnoreCase("true"), true));
+                createSimpleQuery(getTaskField(TaskTypeField.TYPE_AUTOMATIC, objectType), value.equalsIgnoreCase("true"),
+                    true));
         }
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, typeAutomatic);
+        return getQueryAccordingToObjectTypeAndSearchInTask(objectType, typeAutomatic);
     }
 
     /**
@@ -906,48 +1011,49 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterProject(String filter, boolean negate, ObjectType objectType) throws DataException {
+    private QueryBuilder filterProject(String filter, boolean negate, ObjectType objectType) {
         // filter according to linked project
         String projectTitle = getFilterValueFromFilterString(filter, FilterString.PROJECT);
-        QueryBuilder projectQuery = ServiceManager.getProcessService().getQueryProjectTitle(projectTitle);
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.PROCESS, projectQuery);
-    }
-
-    private QueryBuilder createDefaultQuery(String filter, boolean negate, ObjectType objectType) throws DataException {
-        QueryBuilder titleQuery = ServiceManager.getProcessService().getWildcardQueryTitle(filter);
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.PROCESS, titleQuery);
+        if (objectType == ObjectType.PROCESS) {
+            return ServiceManager.getProcessService().getQueryProjectTitle(projectTitle);
+        } else if (objectType == ObjectType.TASK) {
+            return createSimpleQuery(TaskTypeField.PROCESS_PROJECT_TITLE.getKey(), projectTitle, true, Operator.AND);
+        }
+        return new BoolQueryBuilder();
     }
 
-    private QueryBuilder getQueryAccordingToObjectTypeAndSearchInObject(ObjectType objectType,
-            ObjectType objectSearchIn, QueryBuilder query) throws DataException {
-        if (objectSearchIn == ObjectType.PROCESS) {
-            return getQueryAccordingToObjectTypeAndSearchInProcess(objectType, query);
-        } else if (objectSearchIn == ObjectType.TASK) {
-            return getQueryAccordingToObjectTypeAndSearchInTask(objectType, query);
+    private QueryBuilder createDefaultQuery(String filter, boolean negate, ObjectType objectType) {
+        if (objectType == ObjectType.PROCESS) {
+            return ServiceManager.getProcessService().getWildcardQueryTitle(filter);
+        } else if (objectType == ObjectType.TASK) {
+            return createSimpleWildcardQuery(TaskTypeField.PROCESS_TITLE.getKey(), filter);
         }
         return new BoolQueryBuilder();
     }
 
-    private QueryBuilder getQueryAccordingToObjectTypeAndSearchInTask(ObjectType objectType, QueryBuilder query)
-            throws DataException {
+    /**
+     * Returns a query on the given object type for a query on tasks. The
+     * process index holds its tasks as nested objects, so processes are found
+     * by a nested query on their tasks within the same search.
+     */
+    private QueryBuilder getQueryAccordingToObjectTypeAndSearchInTask(ObjectType objectType, QueryBuilder query) {
         if (objectType == ObjectType.PROCESS) {
-            List<TaskDTO> taskDTOS = ServiceManager.getTaskService().findByQuery(query, true);
-            return createSetQuery("tasks.id", collectIds(taskDTOS), true);
+            return nestedQuery(ProcessTypeField.TASKS.getKey(), query, ScoreMode.None);
         } else if (objectType == ObjectType.TASK) {
             return query;
         }
         return new BoolQueryBuilder();
     }
 
-    private QueryBuilder getQueryAccordingToObjectTypeAndSearchInProcess(ObjectType objectType, QueryBuilder query)
-            throws DataException {
+    /**
+     * Returns the name of the given task field for the given object type. In
+     * the process index, task fields are found below the nested tasks.
+     */
+    private String getTaskField(TaskTypeField taskField, ObjectType objectType) {
         if (objectType == ObjectType.PROCESS) {
-            return query;
-        } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(query, true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true);
+            return ProcessTypeField.TASKS.getKey() + "." + taskField.getKey();
         }
-        return new BoolQueryBuilder();
+        return taskField.getKey();
     }
 
     /**
@@ -0,0 +1,136 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.kitodo.data.database.beans.FolderFingerprint;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.FolderFingerprintDAO;
+import org.kitodo.production.services.data.base.SearchDatabaseService;
+import org.primefaces.model.SortOrder;
+
+/**
+ * Service for the state of the folders of processes when they were last
+ * searched for media. A folder which hasn't been modified since and whose
+ * files are all in the workpiece doesn't need to be listed again.
+ */
+public class FolderFingerprintService extends SearchDatabaseService<FolderFingerprint, FolderFingerprintDAO> {
+
+    private static volatile FolderFingerprintService instance = null;
+
+    /**
+     * Constructor.
+     */
+    private FolderFingerprintService() {
+        super(new FolderFingerprintDAO());
+    }
+
+    /**
+     * Return singleton variable of type FolderFingerprintService.
+     *
+     * @return unique instance of FolderFingerprintService
+     */
+    public static FolderFingerprintService getInstance() {
+        FolderFingerprintService localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (FolderFingerprintService.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new FolderFingerprintService();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    @Override
+    public List loadData(int first, int pageSize, String sortField, SortOrder sortOrder, Map filters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Long countDatabaseRows() throws DAOException {
+        return countDatabaseRows("SELECT COUNT(*) FROM FolderFingerprint");
+    }
+
+    @Override
+    public Long countResults(Map filters) throws DAOException {
+        return countDatabaseRows();
+    }
+
+    /**
+     * Get the fingerprints of the folders of a process.
+     *
+     * @param processId
+     *            id of process
+     * @return fingerprints by folder id
+     */
+    public Map<Integer, FolderFingerprint> getByProcess(int processId) {
+        Map<Integer, FolderFingerprint> fingerprints = new HashMap<>();
+        for (FolderFingerprint folderFingerprint : dao.getByProcess(processId)) {
+            fingerprints.put(folderFingerprint.getFolderId(), folderFingerprint);
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Remove the fingerprints of the folders of a process.
+     *
+     * @param processId
+     *            id of process
+     */
+    public void removeByProcess(int processId) throws DAOException {
+        dao.removeByProcess(processId);
+    }
+
+    /**
+     * Computes the hash of a folder listing. The order of the canonical file
+     * names doesn't matter.
+     *
+     * @param canonicals
+     *            canonical parts of the file names in the folder
+     * @return the hash
+     */
+    public static String hashListing(Collection<String> canonicals) {
+        List<String> sorted = new ArrayList<>(canonicals);
+        Collections.sort(sorted);
+        return DigestUtils.sha256Hex(String.join("\n", sorted));
+    }
+
+    /**
+     * Returns whether a folder listed before still contains exactly the given
+     * files, without listing it.
+     *
+     * @param folderFingerprint
+     *            fingerprint of the folder when it was listed, may be null
+     * @param lastModified
+     *            current modification time of the folder
+     * @param canonicals
+     *            canonical parts of the file names expected in the folder
+     * @return whether the folder doesn't need to be listed
+     */
+    public static boolean isUnchanged(FolderFingerprint folderFingerprint, long lastModified,
+            Collection<String> canonicals) {
+        return Objects.nonNull(folderFingerprint) && folderFingerprint.getLastModified() == lastModified
+                && folderFingerprint.getEntryCount() == canonicals.size()
+                && folderFingerprint.getListingHash().equals(hashListing(canonicals));
+    }
+}
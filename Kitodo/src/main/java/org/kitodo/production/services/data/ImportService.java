@@ -13,7 +13,6 @@ package org.kitodo.production.services.data;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -1035,11 +1034,11 @@ public class ImportService {
     }
 
     /**
-     * Process list of child processes.
+     * Process list of child processes. The child processes are not saved here, so
+     * that the caller can save the whole process hierarchy at once.
      *
      * @param mainProcess main process to which list of child processes are attached
      * @param childProcesses list of child processes that are attached to the main process
-     * @throws DataException thrown if saving a process fails
      * @throws InvalidMetadataValueException thrown if process workpiece contains invalid metadata
      * @throws NoSuchMetadataFieldException thrown if process workpiece contains undefined metadata
      * @throws ProcessGenerationException thrown if process title cannot be created
@@ -1047,17 +1046,15 @@ public class ImportService {
     public static void processProcessChildren(Process mainProcess, LinkedList<TempProcess> childProcesses,
                                               Template template, RulesetManagementInterface managementInterface,
                                               String acquisitionStage, List<Locale.LanguageRange> priorityList)
-            throws DataException, InvalidMetadataValueException, NoSuchMetadataFieldException,
-            ProcessGenerationException, IOException {
+            throws InvalidMetadataValueException, NoSuchMetadataFieldException, ProcessGenerationException,
+            IOException {
         for (TempProcess tempProcess : childProcesses) {
             if (Objects.isNull(tempProcess) || Objects.isNull(tempProcess.getProcess())) {
                 logger.error("Child process {} is null => Skip!", childProcesses.indexOf(tempProcess) + 1);
                 continue;
             }
             processTempProcess(tempProcess, template, managementInterface, acquisitionStage, priorityList);
-            Process childProcess = tempProcess.getProcess();
-            ServiceManager.getProcessService().save(childProcess);
-            ProcessService.setParentRelations(mainProcess, childProcess);
+            ProcessService.setParentRelations(mainProcess, tempProcess.getProcess());
         }
     }
 
@@ -1180,15 +1177,18 @@ public class ImportService {
                     .parse(metadataLanguage.isEmpty() ? "en" : metadataLanguage);
             importProcessAndReturnParentID(ppn, processList, selectedCatalog, projectId, templateId, false);
             tempProcess = processList.get(0);
-            processTempProcess(tempProcess, template,
-                ServiceManager.getRulesetService().openRuleset(template.getRuleset()), "create", priorityList);
+            RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetService()
+                    .openRuleset(template.getRuleset());
+            processTempProcess(tempProcess, template, rulesetManagement, "create", priorityList);
             ServiceManager.getProcessService().save(tempProcess.getProcess());
             URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
             tempProcess.getProcess().setProcessBaseUri(processBaseUri);
-            OutputStream out = ServiceManager.getFileService()
-                    .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
             tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
-            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
+            ServiceManager.getMetsService().saveWorkpiece(tempProcess.getWorkpiece(),
+                ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
+            ServiceManager.getProcessService().updateBaseTypeAndSummary(tempProcess.getProcess(),
+                tempProcess.getWorkpiece(), rulesetManagement);
+            ServiceManager.getProcessService().saveBaseTypeAndSummary(tempProcess.getProcess());
         } catch (DAOException | IOException | ProcessGenerationException | XPathExpressionException
                 | ParserConfigurationException | NoRecordFoundException | UnsupportedFormatException
                 | URISyntaxException | SAXException | InvalidMetadataValueException
@@ -26,11 +26,15 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.IllegalBlockSizeException;
@@ -73,6 +77,25 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
     private static final Logger logger = LogManager.getLogger(LdapServerService.class);
     private static volatile LdapServerService instance = null;
 
+    /**
+     * Environment property to take a context from the JNDI connection pool.
+     */
+    static final String CONNECTION_POOL = "com.sun.jndi.ldap.connect.pool";
+
+    private static final String HOME_DIRECTORY = "homeDirectory";
+
+    /**
+     * Attribute values read from the LDAP servers, by server URL, DN and
+     * attribute name. Each value is held together with the time in
+     * milliseconds when it expires.
+     */
+    private final Map<String, Map.Entry<String, Long>> attributeCache = new ConcurrentHashMap<>();
+
+    /**
+     * Clock to determine whether cached attribute values have expired.
+     */
+    private Clock clock = Clock.systemUTC();
+
     /**
      * Return singleton variable of type LdapServerService.
      *
@@ -122,13 +145,28 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         return userDN;
     }
 
-    private Hashtable<String, String> initializeWithLdapConnectionSettings(LdapServer ldapServer) {
+    /**
+     * Creates the environment for a context authenticated with the manager
+     * login of the LDAP server. If the server is configured to use the
+     * connection pool, the environment requests a pooled connection. Callers
+     * that change the authentication or negotiate StartTLS on the connection
+     * must remove {@link #CONNECTION_POOL} again, as such connections must
+     * not be shared.
+     *
+     * @param ldapServer
+     *            LDAP server to connect to
+     * @return the environment
+     */
+    Hashtable<String, String> initializeWithLdapConnectionSettings(LdapServer ldapServer) {
         Hashtable<String, String> env = new Hashtable<>(11);
         env.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
         env.put(Context.PROVIDER_URL, ldapServer.getUrl());
         env.put(Context.SECURITY_AUTHENTICATION, "simple");
         env.put(Context.SECURITY_PRINCIPAL, ldapServer.getManagerLogin());
         env.put(Context.SECURITY_CREDENTIALS, ldapServer.getManagerPassword());
+        if (ldapServer.isUseConnectionPool()) {
+            env.put(CONNECTION_POOL, "true");
+        }
 
         if (ldapServer.isUseSsl()) {
             String keystorepath = ldapServer.getKeystore();
@@ -169,8 +207,11 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
             LdapUser ldapUser = new LdapUser();
             ldapUser.configure(user, password, getNextUidNumber(user.getLdapGroup().getLdapServer()));
             DirContext ctx = new InitialDirContext(ldapEnvironment);
-            ctx.bind(buildUserDN(user), ldapUser);
-            ctx.close();
+            try {
+                ctx.bind(buildUserDN(user), ldapUser);
+            } finally {
+                closeConnections(ctx, null);
+            }
             setNextUidNumber(user.getLdapGroup().getLdapServer());
             Helper.setMessage(
                 Helper.getTranslation("ldapWritten") + " " + ServiceManager.getUserService().getFullName(user));
@@ -229,26 +270,27 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.LDAP_USE_LOCAL_DIRECTORY)) {
             return Paths.get(userFolderBasePath, user.getLogin()).toUri();
         }
-        Hashtable<String, String> env = initializeWithLdapConnectionSettings(user.getLdapGroup().getLdapServer());
-        if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.LDAP_USE_TLS)) {
-            return getUserHomeDirectoryWithTLS(env, userFolderBasePath, user);
-        }
-
-        if (ConfigCore.getBooleanParameter(ParameterCore.LDAP_USE_SIMPLE_AUTH, false)) {
-            env.put(Context.SECURITY_AUTHENTICATION, "none");
+        LdapServer ldapServer = user.getLdapGroup().getLdapServer();
+        String userDN = buildUserDN(user);
+        boolean useTls = ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.LDAP_USE_TLS);
+        String homeDirectory = getCachedAttribute(ldapServer, userDN, HOME_DIRECTORY);
+        if (Objects.isNull(homeDirectory)) {
+            Hashtable<String, String> env = initializeWithLdapConnectionSettings(ldapServer);
+            if (useTls) {
+                homeDirectory = getUserHomeDirectoryWithTLS(env, userDN);
+                if (Objects.isNull(homeDirectory)) {
+                    return Paths.get(userFolderBasePath, user.getLogin()).toUri();
+                }
+            } else {
+                homeDirectory = getUserHomeDirectoryWithoutTLS(env, userDN);
+            }
+            cacheAttribute(ldapServer, userDN, HOME_DIRECTORY, homeDirectory);
         }
-        DirContext ctx;
-        URI userFolderPath = null;
-        try {
-            ctx = new InitialDirContext(env);
-            Attributes attrs = ctx.getAttributes(buildUserDN(user));
-            Attribute ldapAttribute = attrs.get("homeDirectory");
-            userFolderPath = URI.create((String) ldapAttribute.get(0));
-            ctx.close();
-        } catch (NamingException e) {
-            logger.error(e.getMessage(), e);
+        if (useTls) {
+            return URI.create(homeDirectory);
         }
 
+        URI userFolderPath = Objects.nonNull(homeDirectory) ? URI.create(homeDirectory) : null;
         if (Objects.nonNull(userFolderPath) && !userFolderPath.isAbsolute()) {
             if (userFolderPath.getPath().startsWith("/")) {
                 userFolderPath = ServiceManager.getFileService().deleteFirstSlashFromPath(userFolderPath);
@@ -269,7 +311,7 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
     public boolean isUserAlreadyExists(User user) {
         Hashtable<String, String> ldapEnvironment = initializeWithLdapConnectionSettings(
             user.getLdapGroup().getLdapServer());
-        DirContext ctx;
+        DirContext ctx = null;
         boolean userAlreadyExisting = false;
         try {
             ctx = new InitialDirContext(ldapEnvironment);
@@ -285,7 +327,7 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
                 String surName = getStringForAttribute(attrs, "sn");
                 String mail = getStringForAttribute(attrs, "mail");
                 String cn = getStringForAttribute(attrs, "cn");
-                String homeDirectory = getStringForAttribute(attrs, "homeDirectory");
+                String homeDirectory = getStringForAttribute(attrs, HOME_DIRECTORY);
 
                 logger.debug(givenName);
                 logger.debug(surName);
@@ -293,10 +335,10 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
                 logger.debug(cn);
                 logger.debug(homeDirectory);
             }
-
-            ctx.close();
         } catch (NamingException e) {
             logger.error(e.getMessage(), e);
+        } finally {
+            closeConnections(ctx, null);
         }
         return userAlreadyExisting;
     }
@@ -309,6 +351,79 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         }
     }
 
+    /**
+     * Returns an attribute value from the cache, if it was read from the LDAP
+     * server within its configured time to live.
+     *
+     * @param ldapServer
+     *            LDAP server the value was read from
+     * @param dn
+     *            distinguished name of the entry
+     * @param attributeName
+     *            name of the attribute
+     * @return the cached value, or {@code null} if there is none
+     */
+    String getCachedAttribute(LdapServer ldapServer, String dn, String attributeName) {
+        if (ldapServer.getAttributeCacheTtl() <= 0) {
+            return null;
+        }
+        String key = getAttributeCacheKey(ldapServer, dn, attributeName);
+        Map.Entry<String, Long> cached = attributeCache.get(key);
+        if (Objects.isNull(cached)) {
+            return null;
+        }
+        if (cached.getValue() < clock.millis()) {
+            attributeCache.remove(key, cached);
+            return null;
+        }
+        return cached.getKey();
+    }
+
+    /**
+     * Caches an attribute value read from the LDAP server for the time to live
+     * configured for the server. Does nothing if the cache is disabled.
+     *
+     * @param ldapServer
+     *            LDAP server the value was read from
+     * @param dn
+     *            distinguished name of the entry
+     * @param attributeName
+     *            name of the attribute
+     * @param value
+     *            value to cache
+     */
+    void cacheAttribute(LdapServer ldapServer, String dn, String attributeName, String value) {
+        if (ldapServer.getAttributeCacheTtl() <= 0 || Objects.isNull(value)) {
+            return;
+        }
+        long expires = clock.millis() + TimeUnit.SECONDS.toMillis(ldapServer.getAttributeCacheTtl());
+        attributeCache.put(getAttributeCacheKey(ldapServer, dn, attributeName),
+            new AbstractMap.SimpleImmutableEntry<>(value, expires));
+    }
+
+    /**
+     * Removes all cached attribute values. Attributes are read from the LDAP
+     * servers again on the next access.
+     */
+    public void clearAttributeCache() {
+        attributeCache.clear();
+    }
+
+    /**
+     * Sets the clock to determine whether cached attribute values have
+     * expired.
+     *
+     * @param clock
+     *            clock to use
+     */
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private static String getAttributeCacheKey(LdapServer ldapServer, String dn, String attributeName) {
+        return ldapServer.getUrl() + '\n' + dn + '\n' + attributeName;
+    }
+
     /**
      * Get next free uidNumber.
      *
@@ -316,16 +431,17 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
      */
     private String getNextUidNumber(LdapServer ldapServer) {
         Hashtable<String, String> ldapEnvironment = initializeWithLdapConnectionSettings(ldapServer);
-        DirContext ctx;
+        DirContext ctx = null;
         String rueckgabe = "";
         try {
             ctx = new InitialDirContext(ldapEnvironment);
             Attributes attrs = ctx.getAttributes(ldapServer.getNextFreeUnixIdPattern());
             Attribute la = attrs.get("uidNumber");
             rueckgabe = (String) la.get(0);
-            ctx.close();
         } catch (NamingException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+        } finally {
+            closeConnections(ctx, null);
         }
         return rueckgabe;
     }
@@ -335,7 +451,7 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
      */
     private void setNextUidNumber(LdapServer ldapServer) {
         Hashtable<String, String> ldapEnvironment = initializeWithLdapConnectionSettings(ldapServer);
-        DirContext ctx;
+        DirContext ctx = null;
 
         try {
             ctx = new InitialDirContext(ldapEnvironment);
@@ -348,10 +464,10 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
             ModificationItem[] mods = new ModificationItem[1];
             mods[0] = new ModificationItem(DirContext.REPLACE_ATTRIBUTE, attrNeu);
             ctx.modifyAttributes(ldapServer.getNextFreeUnixIdPattern(), mods);
-
-            ctx.close();
         } catch (NamingException e) {
             logger.error(e.getMessage(), e);
+        } finally {
+            closeConnections(ctx, null);
         }
 
     }
@@ -370,6 +486,7 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         PasswordEncryption passwordEncryption = user.getLdapGroup().getLdapServer().getPasswordEncryption();
         Hashtable<String, String> env = initializeWithLdapConnectionSettings(user.getLdapGroup().getLdapServer());
         if (!user.getLdapGroup().getLdapServer().isReadOnly()) {
+            DirContext ctx = null;
             try {
                 ModificationItem[] mods = new ModificationItem[4];
 
@@ -395,21 +512,40 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
                         String.valueOf(System.currentTimeMillis() / 1000L));
                 mods[3] = new ModificationItem(DirContext.REPLACE_ATTRIBUTE, sambaPwdLastSet);
 
-                DirContext ctx = new InitialDirContext(env);
+                ctx = new InitialDirContext(env);
                 ctx.modifyAttributes(buildUserDN(user), mods);
-
-                // Close the context when we're done
-                ctx.close();
                 return true;
             } catch (NamingException e) {
                 logger.debug("Benutzeranmeldung nicht korrekt oder Passwortänderung nicht möglich", e);
                 return false;
+            } finally {
+                // Close the context when we're done
+                closeConnections(ctx, null);
             }
         }
         return false;
     }
 
-    private URI getUserHomeDirectoryWithTLS(Hashtable<String, String> env, String userFolderBasePath, User user) {
+    private String getUserHomeDirectoryWithoutTLS(Hashtable<String, String> env, String userDN) {
+        if (ConfigCore.getBooleanParameter(ParameterCore.LDAP_USE_SIMPLE_AUTH, false)) {
+            env.put(Context.SECURITY_AUTHENTICATION, "none");
+        }
+        DirContext ctx = null;
+        try {
+            ctx = new InitialDirContext(env);
+            Attributes attrs = ctx.getAttributes(userDN, new String[] {HOME_DIRECTORY });
+            Attribute ldapAttribute = attrs.get(HOME_DIRECTORY);
+            return (String) ldapAttribute.get(0);
+        } catch (NamingException e) {
+            logger.error(e.getMessage(), e);
+            return null;
+        } finally {
+            closeConnections(ctx, null);
+        }
+    }
+
+    private String getUserHomeDirectoryWithTLS(Hashtable<String, String> env, String userDN) {
+        env.remove(CONNECTION_POOL);
         env.put("java.naming.ldap.version", "3");
         LdapContext ctx = null;
         StartTlsResponse tls = null;
@@ -422,21 +558,22 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
 
             ctx.reconnect(null);
 
-            Attributes attrs = ctx.getAttributes(buildUserDN(user));
-            Attribute la = attrs.get("homeDirectory");
-            return URI.create((String) la.get(0));
+            Attributes attrs = ctx.getAttributes(userDN, new String[] {HOME_DIRECTORY });
+            Attribute la = attrs.get(HOME_DIRECTORY);
+            return (String) la.get(0);
         } catch (IOException e) {
             logger.error("TLS negotiation error:", e);
-            return Paths.get(userFolderBasePath, user.getLogin()).toUri();
+            return null;
         } catch (NamingException e) {
             logger.error("JNDI error:", e);
-            return Paths.get(userFolderBasePath, user.getLogin()).toUri();
+            return null;
         } finally {
             closeConnections(ctx, tls);
         }
     }
 
     private boolean isPasswordCorrectForAuthWithTLS(Hashtable<String, String> env, User user, String password) {
+        env.remove(CONNECTION_POOL);
         env.put("java.naming.ldap.version", "3");
         LdapContext ctx = null;
         StartTlsResponse tls = null;
@@ -467,6 +604,7 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
     }
 
     private boolean isPasswordCorrectForAuthWithoutTLS(Hashtable<String, String> env, User user, String password) {
+        env.remove(CONNECTION_POOL);
         if (ConfigCore.getBooleanParameter(ParameterCore.LDAP_USE_SIMPLE_AUTH, false)) {
             env.put(Context.SECURITY_AUTHENTICATION, "none");
             // TODO: test for password
@@ -509,7 +647,7 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         }
     }
 
-    private void closeConnections(LdapContext ctx, StartTlsResponse tls) {
+    private void closeConnections(DirContext ctx, StartTlsResponse tls) {
         if (Objects.nonNull(tls)) {
             try {
                 // Tear down TLS connection
@@ -520,7 +658,7 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         }
         if (Objects.nonNull(ctx)) {
             try {
-                // Close LDAP connection
+                // Close LDAP connection, or return it to the pool
                 ctx.close();
             } catch (NamingException e) {
                 logger.error(e.getMessage(), e);
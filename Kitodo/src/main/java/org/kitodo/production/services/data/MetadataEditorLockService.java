@@ -0,0 +1,141 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.data.database.beans.MetadataEditorLock;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.MetadataEditorLockDAO;
+import org.kitodo.production.services.data.base.SearchDatabaseService;
+import org.primefaces.model.SortOrder;
+
+/**
+ * Service for the locks of the metadata editor kept in the database. Locks
+ * are leases which expire if they are not renewed in time. Expiry is measured
+ * by the clock of the database, so nodes with skewed clocks agree on it.
+ */
+public class MetadataEditorLockService extends SearchDatabaseService<MetadataEditorLock, MetadataEditorLockDAO> {
+
+    private static volatile MetadataEditorLockService instance = null;
+
+    /**
+     * Constructor.
+     */
+    private MetadataEditorLockService() {
+        super(new MetadataEditorLockDAO());
+    }
+
+    /**
+     * Return singleton variable of type MetadataEditorLockService.
+     *
+     * @return unique instance of MetadataEditorLockService
+     */
+    public static MetadataEditorLockService getInstance() {
+        MetadataEditorLockService localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (MetadataEditorLockService.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new MetadataEditorLockService();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    @Override
+    public List loadData(int first, int pageSize, String sortField, SortOrder sortOrder, Map filters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Long countDatabaseRows() throws DAOException {
+        return countDatabaseRows("SELECT COUNT(*) FROM MetadataEditorLock");
+    }
+
+    @Override
+    public Long countResults(Map filters) throws DAOException {
+        return countDatabaseRows();
+    }
+
+    /**
+     * Acquire the lock of a process for a user.
+     *
+     * @param processId
+     *            id of process
+     * @param userId
+     *            id of user
+     * @param leaseSeconds
+     *            seconds until the lock expires if it isn't renewed
+     * @return true if the user holds the lock now
+     */
+    public boolean tryLock(int processId, int userId, int leaseSeconds) throws DAOException {
+        Date now = dao.getDatabaseTime();
+        return dao.tryLock(processId, userId, now, getExpiry(now, leaseSeconds));
+    }
+
+    /**
+     * Extend the lease of the lock of a process held by a user.
+     *
+     * @param processId
+     *            id of process
+     * @param userId
+     *            id of user
+     * @param leaseSeconds
+     *            seconds until the lock expires if it isn't renewed again
+     * @return false if the user doesn't hold the lock any more
+     */
+    public boolean renew(int processId, int userId, int leaseSeconds) throws DAOException {
+        return dao.renew(processId, userId, getExpiry(dao.getDatabaseTime(), leaseSeconds));
+    }
+
+    /**
+     * Release the lock of a process.
+     *
+     * @param processId
+     *            id of process
+     */
+    public void release(int processId) throws DAOException {
+        dao.release(processId);
+    }
+
+    /**
+     * Release all locks held by a user.
+     *
+     * @param userId
+     *            id of user
+     */
+    public void releaseAll(int userId) throws DAOException {
+        dao.releaseAll(userId);
+    }
+
+    /**
+     * Get the id of the user holding the lock of a process.
+     *
+     * @param processId
+     *            id of process
+     * @return id of user or null if the process isn't locked
+     */
+    public Integer getLockingUserId(int processId) throws DAOException {
+        return dao.getLockingUserId(processId, dao.getDatabaseTime());
+    }
+
+    private Date getExpiry(Date now, int leaseSeconds) {
+        return new Date(now.getTime() + TimeUnit.SECONDS.toMillis(leaseSeconds));
+    }
+}
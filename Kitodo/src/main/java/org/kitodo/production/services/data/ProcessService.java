@@ -14,17 +14,12 @@ package org.kitodo.production.services.data;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.elasticsearch.index.query.QueryBuilders.multiMatchQuery;
 import static org.elasticsearch.index.query.QueryBuilders.nestedQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 import static org.kitodo.data.database.enums.CorrectionComments.NO_CORRECTION_COMMENTS;
 import static org.kitodo.data.database.enums.CorrectionComments.NO_OPEN_CORRECTION_COMMENTS;
 import static org.kitodo.data.database.enums.CorrectionComments.OPEN_CORRECTION_COMMENTS;
 
-import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.PageSize;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Rectangle;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -50,6 +45,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -68,13 +64,6 @@ import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.join.ScoreMode;
-import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.MatchQueryBuilder;
 import org.elasticsearch.index.query.MultiMatchQueryBuilder;
@@ -88,7 +77,10 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import org.json.XML;
 import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
+import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalMetadata;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.docket.DocketData;
 import org.kitodo.api.docket.DocketInterface;
 import org.kitodo.api.filemanagement.ProcessSubType;
@@ -143,6 +135,7 @@ import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPre
 import org.kitodo.production.metadata.MetadataEditor;
 import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
+import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.process.TiffHeaderGenerator;
 import org.kitodo.production.process.TitleGenerator;
 import org.kitodo.production.services.ServiceManager;
@@ -284,15 +277,82 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         super.saveToIndex(process, forceRefresh);
     }
 
+    @Override
+    public void saveToIndex(List<Process> processes, boolean forceRefresh)
+            throws CustomResponseException, DataException, IOException {
+        for (Process process : processes) {
+            process.setMetadata(getMetadataForIndex(process));
+            process.setBaseType(getBaseType(process));
+        }
+        super.saveToIndex(processes, forceRefresh);
+    }
+
+    /**
+     * Save list of processes to database and index. Like save(), the sort
+     * helper status is updated and the parents of the processes are saved as
+     * well, but every process is written only once, even if it is the parent
+     * of many of the given processes.
+     *
+     * @param processes
+     *            list of processes
+     */
+    @Override
+    public void saveAll(List<Process> processes) throws DataException {
+        Map<Integer, Process> processesToSave = new LinkedHashMap<>();
+        for (Process process : processes) {
+            processesToSave.putIfAbsent(process.getId(), process);
+        }
+        for (Process process : processes) {
+            for (Process parent = process.getParent(); Objects.nonNull(parent); parent = parent.getParent()) {
+                processesToSave.putIfAbsent(parent.getId(), parent);
+            }
+        }
+        for (Process process : processesToSave.values()) {
+            WorkflowControllerService.updateProcessSortHelperStatus(process);
+            for (Task task : process.getTasks()) {
+                task.setIndexAction(IndexAction.INDEX);
+            }
+        }
+        super.saveAll(new ArrayList<>(processesToSave.values()));
+    }
+
+    /**
+     * Adds all given processes to the index. The base type and the summary
+     * are read from the METS files again, so that METS files changed outside
+     * of the application are taken over. They are saved to the database with
+     * the index state of the processes.
+     *
+     * @param processes
+     *            processes to index
+     */
     @Override
     public void addAllObjectsToIndex(List<Process> processes) throws CustomResponseException, DAOException {
+        Map<Integer, RulesetManagementInterface> rulesets = new HashMap<>();
         for (Process process : processes) {
             process.setMetadata(getMetadataForIndex(process, true));
-            process.setBaseType(getBaseType(process));
+            refreshBaseTypeAndSummary(process, rulesets);
         }
         super.addAllObjectsToIndex(processes);
     }
 
+    private void refreshBaseTypeAndSummary(Process process, Map<Integer, RulesetManagementInterface> rulesets) {
+        try {
+            Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(getMetadataFileUri(process));
+            RulesetManagementInterface ruleset = null;
+            Ruleset processRuleset = process.getRuleset();
+            if (Objects.nonNull(processRuleset)) {
+                ruleset = rulesets.get(processRuleset.getId());
+                if (Objects.isNull(ruleset)) {
+                    ruleset = ServiceManager.getRulesetService().openRuleset(processRuleset);
+                    rulesets.put(processRuleset.getId(), ruleset);
+                }
+            }
+            updateBaseTypeAndSummary(process, workpiece, ruleset);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.info("Could not read base type and summary for process {}: {}", process, e.getMessage());
+        }
+    }
+
     /**
      * MetadataType aus Preferences eines Prozesses ermitteln.
      *
@@ -392,6 +452,39 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         manageTaskDependenciesForIndex(process);
     }
 
+    /**
+     * Method saves batches, tasks and projects related to list of modified
+     * processes. Every related object is indexed only once and all objects of
+     * the same type are indexed with one request. Tasks which were removed
+     * from processes are not removed from index here, save() has to be used
+     * in this case.
+     *
+     * @param processes
+     *            list of processes
+     */
+    @Override
+    protected void manageDependenciesForIndex(List<Process> processes)
+            throws CustomResponseException, DAOException, DataException, IOException {
+        Map<Integer, Batch> batches = new LinkedHashMap<>();
+        Map<Integer, Project> projects = new LinkedHashMap<>();
+        List<Task> tasks = new ArrayList<>();
+        for (Process process : processes) {
+            for (Batch batch : process.getBatches()) {
+                batches.putIfAbsent(batch.getId(), batch);
+            }
+            if (Objects.nonNull(process.getProject())) {
+                projects.putIfAbsent(process.getProject().getId(), process.getProject());
+            }
+            tasks.addAll(process.getTasks());
+        }
+        ServiceManager.getBatchService().saveToIndex(new ArrayList<>(batches.values()), false);
+        ServiceManager.getProjectService().saveToIndex(new ArrayList<>(projects.values()), false);
+        ServiceManager.getTaskService().saveToIndex(tasks, false);
+        for (Task task : tasks) {
+            task.setIndexAction(IndexAction.DONE);
+        }
+    }
+
     /**
      * Check if IndexAction flag is delete. If true remove process from list of
      * processes and re-save batch, if false only re-save batch object.
@@ -707,7 +800,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
 
         List<ProcessDTO> processDTOS = findByQuery(query, false);
         for (ProcessDTO process : processDTOS) {
-            if (allowedStructuralElementTypes.contains(getBaseType(process.getId()))) {
+            if (allowedStructuralElementTypes.contains(process.getBaseType())) {
                 linkableProcesses.add(process);
             }
         }
@@ -766,8 +859,25 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * @return a query for searching for properties.
      */
     public QueryBuilder createPropertyQuery(String title, String value) {
-        String titleSearchKey = ProcessTypeField.PROPERTIES + ".title.keyword";
-        String valueSearchKey = ProcessTypeField.PROPERTIES + ".value.keyword";
+        return createPropertyQuery(ProcessTypeField.PROPERTIES.getKey(), title, value);
+    }
+
+    /**
+     * Creates the query for properties with title and value, which are
+     * indexed as nested objects under the given path. Tasks hold the
+     * properties of their processes, so they can be found by them directly.
+     *
+     * @param path
+     *            path of the nested properties in the index
+     * @param title
+     *            the property title
+     * @param value
+     *            the property value
+     * @return a query for searching for properties
+     */
+    QueryBuilder createPropertyQuery(String path, String title, String value) {
+        String titleSearchKey = path + ".title.keyword";
+        String valueSearchKey = path + ".value.keyword";
 
         BoolQueryBuilder pairQuery = new BoolQueryBuilder();
         if (!WILDCARD.equals(title)) {
@@ -776,7 +886,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         if (!WILDCARD.equals(value)) {
             pairQuery.must(matchQuery(valueSearchKey, value));
         }
-        return nestedQuery(ProcessTypeField.PROPERTIES.toString(), pairQuery, ScoreMode.Total);
+        return nestedQuery(path, pairQuery, ScoreMode.Total);
     }
 
     List<ProcessDTO> findByProjectIds(Set<Integer> projectIds, boolean related) throws DataException {
@@ -847,6 +957,9 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             processDTO.setSortHelperMetadata(ProcessTypeField.SORT_HELPER_METADATA.getIntValue(jsonObject));
             processDTO.setProcessBaseUri(ProcessTypeField.PROCESS_BASE_URI.getStringValue(jsonObject));
             processDTO.setHasChildren(ProcessTypeField.HAS_CHILDREN.getBooleanValue(jsonObject));
+            // missing for processes whose images have not been checked yet
+            processDTO.setHasImages((Boolean) jsonObject.get(ProcessTypeField.HAS_IMAGES.getKey()));
+            processDTO.setExportable((Boolean) jsonObject.get(ProcessTypeField.EXPORTABLE.getKey()));
             processDTO.setParentID(ProcessTypeField.PARENT_ID.getIntValue(jsonObject));
             processDTO.setBaseType(ProcessTypeField.BASE_TYPE.getStringValue(jsonObject));
 
@@ -1574,32 +1687,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             try (OutputStream out = response.getResponseOutputStream()) {
                 SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
                         showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                List<List<HSSFCell>> rowList = new ArrayList<>();
-                HSSFSheet mySheet = wb.getSheetAt(0);
-                Iterator<Row> rowIter = mySheet.rowIterator();
-                while (rowIter.hasNext()) {
-                    HSSFRow myRow = (HSSFRow) rowIter.next();
-                    Iterator<Cell> cellIter = myRow.cellIterator();
-                    List<HSSFCell> row = new ArrayList<>();
-                    while (cellIter.hasNext()) {
-                        HSSFCell myCell = (HSSFCell) cellIter.next();
-                        row.add(myCell);
-                    }
-                    rowList.add(row);
-                }
-                Document document = new Document();
-                Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
-                PdfWriter.getInstance(document, out);
-                document.setPageSize(rectangle);
-                document.open();
-                if (!rowList.isEmpty()) {
-                    Paragraph paragraph = new Paragraph(rowList.get(0).get(0).toString());
-                    document.add(paragraph);
-                    document.add(getPdfTable(rowList));
-                }
-
-                document.close();
+                sr.writePdf(out);
                 out.flush();
                 facesContext.responseComplete();
             }
@@ -1616,12 +1704,32 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             throws IOException {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
-            ExternalContext response = prepareHeaderInformation(facesContext, "search.xls");
+            ExternalContext response = prepareHeaderInformation(facesContext, "search.xlsx");
+            try (OutputStream out = response.getResponseOutputStream()) {
+                SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
+                        showInactiveProjects);
+                sr.writeXlsx(out);
+                out.flush();
+                facesContext.responseComplete();
+            }
+        }
+    }
+
+    /**
+     * Generate result set as CSV file.
+     *
+     * @param filter
+     *            for generating search results
+     */
+    public void generateResultAsCsv(String filter, boolean showClosedProcesses, boolean showInactiveProjects)
+            throws IOException {
+        FacesContext facesContext = FacesContext.getCurrentInstance();
+        if (!facesContext.getResponseComplete()) {
+            ExternalContext response = prepareHeaderInformation(facesContext, "search.csv");
             try (OutputStream out = response.getResponseOutputStream()) {
                 SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
                         showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                wb.write(out);
+                sr.writeCsv(out);
                 out.flush();
                 facesContext.responseComplete();
             }
@@ -1662,23 +1770,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return externalContext;
     }
 
-    private PdfPTable getPdfTable(List<List<HSSFCell>> rowList) throws DocumentException {
-        // create formatter for cells with default locale
-        DataFormatter formatter = new DataFormatter();
-
-        PdfPTable table = new PdfPTable(8);
-        table.setSpacingBefore(20);
-        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
-        for (List<HSSFCell> row : rowList) {
-            for (HSSFCell hssfCell : row) {
-                String stringCellValue = formatter.formatCellValue(hssfCell);
-                table.addCell(stringCellValue);
-            }
-        }
-
-        return table;
-    }
-
     private DocketInterface initialiseDocketModule() {
         KitodoServiceLoader<DocketInterface> loader = new KitodoServiceLoader<>(DocketInterface.class);
         return loader.loadModule();
@@ -1698,16 +1789,24 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
 
     /**
      * Returns the type of the top element of the root element, and thus the
-     * type of the workpiece of the process.
+     * type of the workpiece of the process. The METS file is only read if the
+     * type has not been stored with the process yet. The stored type is
+     * updated by everything in the application that saves METS files; METS
+     * files changed from outside are taken over when the index is rebuilt.
      *
      * @param process
      *            process whose root type is to be determined
      * @return the type of the root element of the workpiece, "" if unreadable
      */
     public String getBaseType(Process process) {
+        if (Objects.nonNull(process.getBaseType())) {
+            return process.getBaseType();
+        }
         try {
             URI metadataFilePath = ServiceManager.getFileService().getMetadataFilePath(process);
-            return ServiceManager.getMetsService().getBaseType(metadataFilePath);
+            String baseType = ServiceManager.getMetsService().getBaseType(metadataFilePath);
+            process.setBaseType(baseType);
+            return baseType;
         } catch (IOException | IllegalArgumentException e) {
             logger.info("Could not determine base type for process {}: {}", process, e.getMessage());
             return "";
@@ -1733,6 +1832,100 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return "";
     }
 
+    /**
+     * Returns the types of the top elements of the root elements of several
+     * processes, looked up in the index with a single query.
+     *
+     * @param processIds
+     *            ids of the processes whose root types are to be determined
+     * @return the types of the root elements by process id, "" for processes
+     *         not found in the index
+     * @throws DataException
+     *             if the index cannot be queried
+     */
+    public Map<Integer, String> getBaseTypes(Collection<Integer> processIds) throws DataException {
+        Map<Integer, String> baseTypes = new HashMap<>();
+        if (processIds.isEmpty()) {
+            return baseTypes;
+        }
+        for (Integer processId : processIds) {
+            baseTypes.put(processId, "");
+        }
+        for (ProcessDTO processDTO : findByQuery(termsQuery("_id", processIds), true)) {
+            baseTypes.put(processDTO.getId(), Objects.toString(processDTO.getBaseType(), ""));
+        }
+        return baseTypes;
+    }
+
+    /**
+     * Returns the summary metadata of the workpiece of the process, by
+     * metadata key. The METS file is only read if the summary has not been
+     * stored with the process yet.
+     *
+     * @param process
+     *            process whose summary is to be determined
+     * @param ruleset
+     *            ruleset of the process, which defines the summary metadata
+     * @return the summary metadata
+     * @throws IOException
+     *             if the METS file cannot be read
+     */
+    public Map<String, String> getSummary(Process process, RulesetManagementInterface ruleset) throws IOException {
+        if (Objects.isNull(process.getSummary())) {
+            Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(getMetadataFileUri(process));
+            updateBaseTypeAndSummary(process, workpiece, ruleset);
+        }
+        return process.getSummary();
+    }
+
+    /**
+     * Takes the type of the root element and the summary metadata of the
+     * workpiece over into the process, so that they can be shown without
+     * reading the METS file. This must be done whenever the workpiece of the
+     * process is saved. The ruleset of the process is opened to find the
+     * summary metadata.
+     *
+     * @param process
+     *            process to update
+     * @param workpiece
+     *            workpiece of the process, as saved
+     * @throws IOException
+     *             if the ruleset cannot be read
+     */
+    public void updateBaseTypeAndSummary(Process process, Workpiece workpiece) throws IOException {
+        RulesetManagementInterface ruleset = Objects.isNull(process.getRuleset()) ? null
+                : ServiceManager.getRulesetService().openRuleset(process.getRuleset());
+        updateBaseTypeAndSummary(process, workpiece, ruleset);
+    }
+
+    /**
+     * Takes the type of the root element and the summary metadata of the
+     * workpiece over into the process, so that they can be shown without
+     * reading the METS file. This must be done whenever the workpiece of the
+     * process is saved.
+     *
+     * @param process
+     *            process to update
+     * @param workpiece
+     *            workpiece of the process, as saved
+     * @param ruleset
+     *            ruleset of the process, which defines the summary metadata
+     */
+    public void updateBaseTypeAndSummary(Process process, Workpiece workpiece, RulesetManagementInterface ruleset) {
+        IncludedStructuralElement rootElement = workpiece.getRootElement();
+        process.setBaseType(Objects.toString(rootElement.getType(), ""));
+        Map<String, String> summary = new LinkedHashMap<>();
+        if (Objects.nonNull(ruleset)) {
+            for (String key : ruleset.getFunctionalKeys(FunctionalMetadata.DISPLAY_SUMMARY)) {
+                String value = MetadataEditor.getMetadataValue(rootElement, key);
+                if (Objects.nonNull(value)) {
+                    summary.put(key, value);
+                }
+            }
+        }
+        process.setSummary(summary);
+    }
+
     /**
      * Filter for correction / solution messages.
      *
@@ -2356,12 +2549,28 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             processToDelete.getBatches().remove(batch);
             ServiceManager.getBatchService().save(batch);
         }
+        try {
+            ServiceManager.getFolderFingerprintService().removeByProcess(processToDelete.getId());
+        } catch (DAOException e) {
+            throw new DataException(e);
+        }
         ServiceManager.getProcessService().remove(processToDelete);
     }
 
     private static void deleteMetadataDirectory(Process process) {
+        Set<User> users = new LinkedHashSet<>();
         for (Task task : process.getTasks()) {
-            deleteSymlinksFromUserHomes(task);
+            for (Role role : task.getRoles()) {
+                users.addAll(role.getUsers());
+            }
+        }
+        WebDav webDav = new WebDav();
+        for (User user : users) {
+            try {
+                webDav.uploadFromHome(user, Collections.singletonList(process));
+            } catch (RuntimeException e) {
+                Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            }
         }
         try {
             FileService fileService = ServiceManager.getFileService();
@@ -2420,10 +2629,12 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * @throws DAOException Thrown on database like error
      */
     public static void downloadToHome(List<Process> processes) throws DAOException {
-        WebDav webDav = new WebDav();
+        Map<Process, Boolean> processesToDownload = new LinkedHashMap<>();
         for (Process processForDownload : processes) {
-            downloadToHome(webDav, processForDownload.getId());
+            Process process = ServiceManager.getProcessService().getById(processForDownload.getId());
+            processesToDownload.put(process, checkImageFolderInUse(process));
         }
+        new WebDav().downloadToHome(processesToDownload);
     }
 
     /**
@@ -2438,16 +2649,28 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      */
     public static void downloadToHome(WebDav webDav, int processId) throws DAOException {
         Process process = ServiceManager.getProcessService().getById(processId);
+        webDav.downloadToHome(process, checkImageFolderInUse(process));
+    }
+
+    /**
+     * Checks whether the image folder of a process is currently being edited
+     * by another user. If so, a message is shown, and the images may only be
+     * downloaded read-only.
+     *
+     * @param process
+     *            process to check
+     * @return whether the images may only be downloaded read-only
+     */
+    private static boolean checkImageFolderInUse(Process process) {
         if (ServiceManager.getProcessService().isImageFolderInUse(process)) {
             Helper.setMessage(
                     Helper.getTranslation("directory ") + " " + process.getTitle() + " "
                             + Helper.getTranslation("isInUse"),
                     ServiceManager.getUserService()
                             .getFullName(ServiceManager.getProcessService().getImageFolderInUseUser(process)));
-            webDav.downloadToHome(process, true);
-        } else {
-            webDav.downloadToHome(process, false);
+            return true;
         }
+        return false;
     }
 
     /**
@@ -2747,6 +2970,127 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Counts the images of the process on the file system again. Updates the
+     * number of images in the origin folder and whether the generator source
+     * folder of the project contains images. Nothing is saved.
+     *
+     * @param process
+     *            process to update
+     * @return whether the image information of the process changed
+     */
+    public boolean refreshImageInformation(Process process) {
+        boolean changed = false;
+        URI imagesOrigDirectory = getImagesOriginDirectory(true, process);
+        Integer numberOfFiles = ServiceManager.getFileService().getNumberOfFiles(imagesOrigDirectory);
+        if (!Objects.equals(process.getSortHelperImages(), numberOfFiles)) {
+            process.setSortHelperImages(numberOfFiles);
+            changed = true;
+        }
+        if (Objects.nonNull(process.getProject()) && Objects.nonNull(process.getProject().getGeneratorSource())) {
+            Folder generatorSource = process.getProject().getGeneratorSource();
+            Boolean hasImages = !new Subfolder(process, generatorSource).listContents().isEmpty();
+            if (!hasImages.equals(process.getHasImages())) {
+                process.setHasImages(hasImages);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Saves the image information of the process to the database and updates
+     * only the image fields of its index document, so the metadata file is not
+     * read. The rest of the process is not written, so this can be used while
+     * the process is open in the metadata editor.
+     *
+     * <p>
+     * Whether a process is exportable also depends on its children and on the
+     * generator source of its project. Adding or removing children saves the
+     * parent process, which indexes it as a whole. If the generator source of
+     * a project changes, {@link #resetImageInformation(Project)} has to be
+     * called.
+     *
+     * @param process
+     *            process with image information to save
+     */
+    public void saveImageInformation(Process process) throws DAOException, DataException {
+        dao.saveImageInformation(process);
+        try {
+            if (!updateIndexFields(process.getId(), ProcessType.getImageInformation(process), false)) {
+                saveToIndex(process, false);
+            }
+        } catch (CustomResponseException | IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Forgets whether the processes of a project have images, after the
+     * generator source of the project changed. The processes are checked
+     * again the next time their exportability is asked for.
+     *
+     * @param project
+     *            project whose generator source changed
+     */
+    public void resetImageInformation(Project project) throws DAOException, DataException {
+        dao.resetHasImages(project.getId());
+        Boolean exportable = Objects.isNull(project.getGeneratorSource()) ? Boolean.TRUE : null;
+        Map<Integer, Map<String, Object>> fieldsToUpdate = new HashMap<>();
+        for (Process process : project.getProcesses()) {
+            Map<String, Object> fields = new HashMap<>();
+            fields.put(ProcessTypeField.HAS_IMAGES.getKey(), null);
+            fields.put(ProcessTypeField.EXPORTABLE.getKey(), exportable);
+            fieldsToUpdate.put(process.getId(), fields);
+        }
+        try {
+            updateIndexFields(fieldsToUpdate);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Saves the base type and the summary metadata of the process to the
+     * database and updates its index document. The rest of the process is not
+     * written, so this can be used while the process is open in the metadata
+     * editor.
+     *
+     * @param process
+     *            process with base type and summary to save
+     */
+    public void saveBaseTypeAndSummary(Process process) throws DAOException, DataException {
+        dao.saveBaseTypeAndSummary(process);
+        try {
+            saveToIndex(process, false);
+        } catch (CustomResponseException | IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Checks whether the process can be exported, using the information kept
+     * in the index. Only if the images of the process have never been counted,
+     * the file system is checked once and the result is stored.
+     *
+     * @param processDTO
+     *            process as DTO object
+     * @return whether process can be exported or not
+     */
+    public static boolean canBeExported(ProcessDTO processDTO) throws IOException, DAOException, DataException {
+        if (Objects.nonNull(processDTO.getExportable())) {
+            return processDTO.getExportable();
+        }
+        Process process = ServiceManager.getProcessService().getById(processDTO.getId());
+        boolean exportable = canBeExported(process.getId());
+        if (process.getChildren().isEmpty() && Objects.nonNull(process.getProject().getGeneratorSource())) {
+            process.setHasImages(exportable);
+        }
+        ServiceManager.getProcessService().saveImageInformation(process);
+        processDTO.setExportable(exportable);
+        return exportable;
+    }
+
     /**
      * Checks and returns whether the process with the given ID 'processId' can be exported or not.
      * @param processId process ID
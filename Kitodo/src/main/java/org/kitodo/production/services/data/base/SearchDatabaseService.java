@@ -14,6 +14,7 @@ package org.kitodo.production.services.data.base;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -64,6 +65,16 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         dao.save(baseIndexedBean);
     }
 
+    /**
+     * Method saves list of objects to database in one transaction.
+     *
+     * @param baseIndexedBeans
+     *            list of objects
+     */
+    public void saveToDatabase(List<T> baseIndexedBeans) throws DAOException {
+        dao.saveList(baseIndexedBeans);
+    }
+
     /**
      * Method removes object from database.
      *
@@ -165,6 +176,23 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getByQuery(query, parameters);
     }
 
+    /**
+     * Streams the objects found by the given query from a read-only session
+     * without first-level cache, for reading many rows. The objects are
+     * detached, lazy associations cannot be loaded. The stream must be closed.
+     *
+     * @param query
+     *            as String
+     * @param parameters
+     *            for query
+     * @param fetchSize
+     *            number of rows fetched from the database at once
+     * @return stream of bean objects
+     */
+    public Stream<T> streamByQuery(String query, Map<String, Object> parameters, int fetchSize) {
+        return dao.streamByQuery(query, parameters, fetchSize);
+    }
+
     /**
      * Get list of all objects from database.
      *
@@ -187,6 +215,21 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getAll(offset, size);
     }
 
+    /**
+     * Get list of objects from database following the given id, ordered by
+     * id. Deep pages are read as fast as the first one.
+     *
+     * @param lastId
+     *            id of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return list of objects from database following the given id
+     */
+    public List<T> getAllAfter(int lastId, int size) throws DAOException {
+        return dao.getAllAfter(lastId, size);
+    }
+
     /**
      * Evict given bean object.
      *
@@ -49,6 +49,7 @@ import org.kitodo.data.database.persistence.BaseDAO;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.BaseType;
+import org.kitodo.data.elasticsearch.search.SearchCursor;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
@@ -131,6 +132,35 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return dao.getAllNotIndexed(offset, size);
     }
 
+    /**
+     * Get not indexed objects from database following the given id, ordered
+     * by id. Not indexed means that row has index action INDEX or NULL.
+     *
+     * @param lastId
+     *            id of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return list of not indexed objects following the given id
+     */
+    public List<T> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return dao.getAllNotIndexedAfter(lastId, size);
+    }
+
+    /**
+     * Get the id to continue after to start reading objects at the given
+     * offset.
+     *
+     * @param offset
+     *            number of objects to skip
+     * @param notIndexed
+     *            whether only not indexed objects are counted
+     * @return the id of the last object skipped, 0 if none is skipped
+     */
+    public int getIdBeforeOffset(int offset, boolean notIndexed) throws DAOException {
+        return dao.getIdBeforeOffset(offset, notIndexed);
+    }
+
     /**
      * Get all DTO objects from index an convert them for frontend with all
      * relations.
@@ -196,6 +226,57 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Method saves list of documents to the index of Elastic Search in one bulk
+     * request.
+     *
+     * @param baseIndexedBeans
+     *            list of objects
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            objects are right after that available for display
+     */
+    @SuppressWarnings("unchecked")
+    public void saveToIndex(List<T> baseIndexedBeans, boolean forceRefresh)
+            throws CustomResponseException, DataException, IOException {
+        indexer.setMethod(HttpMethod.PUT);
+        if (!baseIndexedBeans.isEmpty()) {
+            indexer.performBulkRequest(baseIndexedBeans, type, forceRefresh);
+        }
+    }
+
+    /**
+     * Method updates some fields of a document in the index of Elastic Search.
+     * The other fields are kept, so the object doesn't need to be converted
+     * as a whole.
+     *
+     * @param id
+     *            of object
+     * @param fields
+     *            fields to update with their new values
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            object is right after that available for display
+     * @return false if the object is not in the index yet
+     */
+    protected boolean updateIndexFields(Integer id, Map<String, Object> fields, boolean forceRefresh)
+            throws CustomResponseException, IOException {
+        return indexer.performUpdateRequest(id, fields, forceRefresh);
+    }
+
+    /**
+     * Method updates some fields of many documents in the index of Elastic
+     * Search in one bulk request. Objects which are not in the index are
+     * skipped.
+     *
+     * @param fieldsToUpdate
+     *            fields to update with their new values by id of object
+     */
+    protected void updateIndexFields(Map<Integer, Map<String, Object>> fieldsToUpdate)
+            throws CustomResponseException {
+        indexer.performBulkUpdateRequest(fieldsToUpdate);
+    }
+
     /**
      * Method adds all object found in database to Elastic Search index.
      *
@@ -261,6 +342,51 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             throws CustomResponseException, DAOException, DataException, IOException {
     }
 
+    /**
+     * Method saves relations which can be potentially modified together with
+     * list of objects. Services which can group the relations of many objects
+     * should override it, otherwise relations are saved for every object.
+     *
+     * @param baseIndexedBeans
+     *            list of objects
+     */
+    protected void manageDependenciesForIndex(List<T> baseIndexedBeans)
+            throws CustomResponseException, DAOException, DataException, IOException {
+        for (T baseIndexedBean : baseIndexedBeans) {
+            manageDependenciesForIndex(baseIndexedBean);
+        }
+    }
+
+    /**
+     * Method saves list of objects to database and documents to the index of
+     * Elastic Search. It works like save(), but all objects are written to
+     * database in one transaction and to the index in one bulk request, so it
+     * should be used if many objects were modified together.
+     *
+     * @param baseIndexedBeans
+     *            list of objects
+     */
+    public void saveAll(List<T> baseIndexedBeans) throws DataException {
+        if (baseIndexedBeans.isEmpty()) {
+            return;
+        }
+        try {
+            for (T baseIndexedBean : baseIndexedBeans) {
+                baseIndexedBean.setIndexAction(IndexAction.INDEX);
+            }
+            saveToDatabase(baseIndexedBeans);
+            saveToIndex(baseIndexedBeans, true);
+            manageDependenciesForIndex(baseIndexedBeans);
+            for (T baseIndexedBean : baseIndexedBeans) {
+                baseIndexedBean.setIndexAction(IndexAction.DONE);
+            }
+            saveToDatabase(baseIndexedBeans);
+        } catch (DAOException | CustomResponseException | IOException e) {
+            logger.debug(e);
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Method saves object to database and document to the index of Elastic Search.
      * This method binds three other methods: save to database, save to index and
@@ -516,6 +642,32 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Find next page of sorted DTO objects by query. Unlike offset and size,
+     * the cursor allows reading result sets of any size page by page.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object
+     * @param cursor
+     *            position in result set, moved behind the returned objects
+     * @param size
+     *            size of page
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @return list of found DTO objects, empty at the end of the result set
+     */
+    public List<S> findByQuery(QueryBuilder query, SortBuilder sort, SearchCursor cursor, int size, boolean related)
+            throws DataException {
+        try {
+            return convertJSONObjectsToDTOs(searcher.findDocumentsAfter(query, sort, cursor, size), related);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Convert list of JSONObject object to list of DTO objects.
      *
@@ -17,6 +17,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 
 import javax.xml.transform.Result;
@@ -38,6 +41,7 @@ import org.w3c.dom.Document;
 
 public class MetsService {
     private static final Logger logger = LogManager.getLogger(MetsService.class);
+    private static final String LASTMODDATE_ATTRIBUTE = "LASTMODDATE=\"";
 
     private static volatile MetsService instance = null;
     private final MetsXmlElementAccessInterface metsXmlElementAccess;
@@ -124,7 +128,8 @@ public class MetsService {
 
     /**
      * Function for writing METS files to URI. (URI target must allow writing
-     * operation.)
+     * operation.) The file is replaced atomically, so it is never left half
+     * written. If its content did not change, it is not written at all.
      *
      * @param workpiece
      *            data to be written
@@ -135,10 +140,43 @@ public class MetsService {
      *             supported, ...)
      */
     public void saveWorkpiece(Workpiece workpiece, URI uri) throws IOException {
-        try (OutputStream outputStream = ServiceManager.getFileService().write(uri)) {
-            logger.info("Saving {}", uri.toString());
-            save(workpiece, outputStream);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        save(workpiece, outputStream);
+        byte[] content = outputStream.toByteArray();
+        Path file = ServiceManager.getFileService().getFile(uri).toPath();
+        if (Files.isRegularFile(file) && equalsIgnoringModificationDate(Files.readAllBytes(file), content)) {
+            logger.info("{} is unchanged, not saving it", uri);
+            return;
+        }
+        logger.info("Saving {}", uri.toString());
+        ServiceManager.getFileService().writeAtomically(uri, content);
+    }
+
+    /**
+     * Compares two METS files. The modification date in the METS header is
+     * ignored, as it is set to the current time each time a file is written.
+     *
+     * @param saved
+     *            content of the saved METS file
+     * @param content
+     *            content about to be saved
+     * @return whether the files are equal apart from the modification date
+     */
+    static boolean equalsIgnoringModificationDate(byte[] saved, byte[] content) {
+        String savedString = new String(saved, StandardCharsets.ISO_8859_1);
+        String contentString = new String(content, StandardCharsets.ISO_8859_1);
+        int savedDate = savedString.indexOf(LASTMODDATE_ATTRIBUTE);
+        int contentDate = contentString.indexOf(LASTMODDATE_ATTRIBUTE);
+        if (savedDate < 0 || contentDate < 0) {
+            return savedString.equals(contentString);
         }
+        int savedDateEnd = savedString.indexOf('"', savedDate + LASTMODDATE_ATTRIBUTE.length());
+        int contentDateEnd = contentString.indexOf('"', contentDate + LASTMODDATE_ATTRIBUTE.length());
+        return savedDate == contentDate && savedDateEnd >= 0 && contentDateEnd >= 0
+                && savedString.regionMatches(0, contentString, 0, savedDate)
+                && savedString.length() - savedDateEnd == contentString.length() - contentDateEnd
+                && savedString.regionMatches(savedDateEnd, contentString, contentDateEnd,
+                    savedString.length() - savedDateEnd);
     }
 
     public void save(Workpiece workpiece, OutputStream outputStream) throws IOException {
@@ -17,23 +17,34 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileSystems;
-import java.nio.file.Paths;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.commons.httpclient.util.URIUtil;
-import org.apache.commons.io.FilenameUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandResult;
@@ -47,10 +58,12 @@ import org.kitodo.api.filemanagement.ProcessSubType;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
+import org.kitodo.data.database.beans.FolderFingerprint;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.CommandException;
 import org.kitodo.exceptions.InvalidImagesException;
 import org.kitodo.production.dto.ProcessDTO;
@@ -63,6 +76,7 @@ import org.kitodo.production.metadata.comparator.MetadataImageComparator;
 import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.command.CommandService;
+import org.kitodo.production.services.data.FolderFingerprintService;
 import org.kitodo.production.services.data.RulesetService;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
@@ -78,7 +92,17 @@ public class FileService {
      * Attachment to filename for the year anchor file in Production v. 2.
      */
     private static final String APPENDIX_YEAR = "_year";
-    private static final String TEMPORARY_FILENAME_PREFIX = "temporary_";
+
+    /**
+     * Coarsest resolution of modification times of network file systems.
+     */
+    private static final long FOLDER_MODIFICATION_TIME_RESOLUTION = TimeUnit.SECONDS.toMillis(2);
+
+    /**
+     * Maximum number of directories passed to one call of the create directory
+     * script.
+     */
+    private static final int CREATE_DIRECTORIES_BATCH_SIZE = 100;
     private final FileManagementInterface fileManagementModule = new KitodoServiceLoader<FileManagementInterface>(
             FileManagementInterface.class).loadModule();
 
@@ -112,15 +136,8 @@ public class FileService {
             logger.info("Metadata directory: {} already existed! No new directory was created", directoryName);
         } else {
             CommandService commandService = ServiceManager.getCommandService();
-            String path = FileSystems.getDefault()
-                    .getPath(ConfigCore.getKitodoDataDirectory(), parentFolderUri.getRawPath(), directoryName)
-                    .normalize().toAbsolutePath().toString();
-            List<String> commandParameter = Collections.singletonList(path);
-            File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
-            if (!script.exists()) {
-                throw new CommandException(Helper.getTranslation("fileNotFound", Collections.singletonList(script.getName())));
-            }
-            CommandResult commandResult = commandService.runCommand(script, commandParameter);
+            List<String> commandParameter = Collections.singletonList(getMetaDirectoryPath(parentFolderUri, directoryName));
+            CommandResult commandResult = commandService.runCommand(getCreateDirMetaScript(), commandParameter);
             if (!commandResult.isSuccessful()) {
                 String message = MessageFormat.format(
                     "Could not create directory {0} in {1}! No new directory was created", directoryName,
@@ -132,6 +149,48 @@ public class FileService {
         return directoryUri;
     }
 
+    /**
+     * Creates the given directories with as few calls of the create directory
+     * script as possible. Directories which already exist are skipped. If the
+     * script fails on a batch, the directories it did not create are created
+     * one by one later on by {@link #createMetaDirectory(URI, String)}.
+     *
+     * @param paths
+     *            absolute paths of the directories, parents before their
+     *            subdirectories
+     */
+    private void createMetaDirectories(Collection<String> paths) throws IOException, CommandException {
+        List<String> missingPaths = paths.stream().filter(path -> !new File(path).exists())
+                .collect(Collectors.toList());
+        if (missingPaths.isEmpty()) {
+            return;
+        }
+        File script = getCreateDirMetaScript();
+        CommandService commandService = ServiceManager.getCommandService();
+        for (int from = 0; from < missingPaths.size(); from += CREATE_DIRECTORIES_BATCH_SIZE) {
+            List<String> batch = missingPaths.subList(from,
+                Math.min(from + CREATE_DIRECTORIES_BATCH_SIZE, missingPaths.size()));
+            CommandResult commandResult = commandService.runCommand(script, batch);
+            if (!commandResult.isSuccessful()) {
+                logger.warn("Could not create {} directories in one batch, creating them one by one", batch.size());
+            }
+        }
+    }
+
+    private String getMetaDirectoryPath(URI parentFolderUri, String directoryName) {
+        return FileSystems.getDefault()
+                .getPath(ConfigCore.getKitodoDataDirectory(), parentFolderUri.getRawPath(), directoryName)
+                .normalize().toAbsolutePath().toString();
+    }
+
+    private File getCreateDirMetaScript() throws CommandException {
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        if (!script.exists()) {
+            throw new CommandException(Helper.getTranslation("fileNotFound", Collections.singletonList(script.getName())));
+        }
+        return script;
+    }
+
     /**
      * Generates the URI to the anchor file for Production v. 2 hierarchical
      * processes. This should not be used except for migration of legacy data.
@@ -216,6 +275,39 @@ public class FileService {
         return processLocationUri;
     }
 
+    /**
+     * Creates the folder structures needed for several processes. All missing
+     * directories of the processes are created in batches first, so that the
+     * create directory script is not started once for every single directory.
+     *
+     * @param processes
+     *            the processes
+     * @return the URIs to the process locations, in the order of the processes
+     */
+    public List<URI> createProcessLocations(List<Process> processes) throws IOException, CommandException {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Process process : processes) {
+            String processId = process.getId().toString();
+            paths.add(getMetaDirectoryPath(URI.create(""), processId));
+            for (Folder folder : process.getProject().getFolders()) {
+                if (folder.isCreateFolder()) {
+                    URI parentFolderUri = fileManagementModule.createUriForExistingProcess(processId);
+                    for (String singleFolder : new Subfolder(process, folder).getRelativeDirectoryPath()
+                            .split(Pattern.quote(File.separator))) {
+                        paths.add(getMetaDirectoryPath(parentFolderUri, singleFolder));
+                        parentFolderUri = asDirectory(parentFolderUri).resolve(URIUtil.encodePath(singleFolder));
+                    }
+                }
+            }
+        }
+        createMetaDirectories(paths);
+        List<URI> processLocationUris = new ArrayList<>();
+        for (Process process : processes) {
+            processLocationUris.add(createProcessLocation(process));
+        }
+        return processLocationUris;
+    }
+
     /**
      * Creates the folders inside a process location.
      *
@@ -313,6 +405,54 @@ public class FileService {
         return fileManagementModule.write(uri);
     }
 
+    /**
+     * Replaces the content of a file at a given URI atomically. The content is
+     * written to a temporary file in the same directory, forced to disk and
+     * then moved over the file. Readers and a crash during writing see either
+     * the old or the new content, never a partially written file.
+     *
+     * @param uri
+     *            the URI, to write to
+     * @param content
+     *            the new content of the file
+     * @throws IOException
+     *             if the file cannot be written
+     */
+    public void writeAtomically(URI uri, byte[] content) throws IOException {
+        Path file = getFile(uri).toPath().toAbsolutePath();
+        Path directory = file.getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = directory.resolve("." + file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                logger.warn("Atomic move not supported for {}, replacing it", file);
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        forceDirectory(directory);
+    }
+
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on every platform, the rename is durable sooner or later anyway
+            logger.debug("Cannot force directory {} to disk: {}", directory, e.getMessage());
+        }
+    }
+
     /**
      * Reads a file at a given URI.
      *
@@ -604,18 +744,6 @@ public class FileService {
         return fileManagementModule.getSubUris(filter, uri);
     }
 
-    /**
-     * Lists all Files at the given Path.
-     *
-     * @param file
-     *            the directory to get the Files from
-     * @return an Array of Files.
-     */
-    private File[] listFiles(File file) {
-        File[] unchecked = file.listFiles();
-        return Objects.nonNull(unchecked) ? unchecked : new File[0];
-    }
-
     /**
      * Writes a metadata file.
      *
@@ -633,36 +761,10 @@ public class FileService {
         Ruleset ruleset = process.getRuleset();
         ff = new LegacyMetsModsDigitalDocumentHelper(rulesetService.getPreferences(ruleset).getRuleset());
 
-        // createBackupFile();
         URI metadataFileUri = getMetadataFilePath(process, false, false);
-        String temporaryMetadataFileName = getTemporaryMetadataFileName(metadataFileUri);
-
         ff.setDigitalDocument(gdzfile.getDigitalDocument());
-        // ff.write(getMetadataFilePath());
-        ff.write(temporaryMetadataFileName);
-        File temporaryMetadataFile = new File(temporaryMetadataFileName);
-        boolean backupCondition = temporaryMetadataFile.exists() && temporaryMetadataFile.length() > 0;
-        if (backupCondition) {
-            createBackupFile(process);
-            renameFile(Paths.get(temporaryMetadataFileName).toUri(), metadataFileUri.getRawPath());
-            removePrefixFromRelatedMetsAnchorFilesFor(Paths.get(temporaryMetadataFileName).toUri());
-        }
-    }
-
-    private void removePrefixFromRelatedMetsAnchorFilesFor(URI temporaryMetadataFilename) throws IOException {
-        File temporaryFile = new File(temporaryMetadataFilename);
-        File directoryPath = new File(temporaryFile.getParentFile().getPath());
-        for (File temporaryAnchorFile : listFiles(directoryPath)) {
-            String temporaryAnchorFileName = temporaryAnchorFile.toString();
-            if (temporaryAnchorFile.isFile()
-                    && FilenameUtils.getBaseName(temporaryAnchorFileName).startsWith(TEMPORARY_FILENAME_PREFIX)) {
-                String anchorFileName = FilenameUtils.concat(FilenameUtils.getFullPath(temporaryAnchorFileName),
-                    temporaryAnchorFileName.replace(TEMPORARY_FILENAME_PREFIX, ""));
-                temporaryAnchorFileName = FilenameUtils.concat(FilenameUtils.getFullPath(temporaryAnchorFileName),
-                    temporaryAnchorFileName);
-                renameFile(Paths.get(temporaryAnchorFileName).toUri(), new File(anchorFileName).toURI().getRawPath());
-            }
-        }
+        createBackupFile(process);
+        ff.write(getFile(metadataFileUri).getPath());
     }
 
     /**
@@ -743,14 +845,6 @@ public class FileService {
         return metadataFilePath;
     }
 
-    private String getTemporaryMetadataFileName(URI fileName) {
-        File temporaryFile = getFile(fileName);
-        String directoryPath = temporaryFile.getParentFile().getPath();
-        String temporaryFileName = TEMPORARY_FILENAME_PREFIX + temporaryFile.getName();
-
-        return directoryPath + File.separator + temporaryFileName;
-    }
-
     /**
      * Gets the specific IMAGE sub type.
      *
@@ -1078,17 +1172,13 @@ public class FileService {
         for (Folder folder : folders) {
             subfolders.put(folder.getFileGroup(), new Subfolder(process, folder));
         }
-        Map<String, Map<Subfolder, URI>> mediaToAdd = new TreeMap<>(new MetadataImageComparator());
-        for (Subfolder subfolder : subfolders.values()) {
-            for (Entry<String, URI> element : subfolder.listContents(false).entrySet()) {
-                mediaToAdd.computeIfAbsent(element.getKey(), any -> new HashMap<>(mapCapacity));
-                mediaToAdd.get(element.getKey()).put(subfolder, element.getValue());
-            }
-        }
-        List<String> canonicals = getCanonicalFileNamePartsAndSanitizeAbsoluteURIs(workpiece, subfolders,
+        Map<String, Map<Subfolder, URI>> mediaToAdd = listChangedFolders(process, workpiece, subfolders.values(),
+            mapCapacity);
+        List<MediaUnit> mediaUnits = workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted();
+        List<String> canonicals = getCanonicalFileNamePartsAndSanitizeAbsoluteURIs(mediaUnits, subfolders,
             process.getProcessBaseUri());
-        addNewURIsToExistingMediaUnits(mediaToAdd, workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted(), canonicals);
-        mediaToAdd.keySet().removeAll(canonicals);
+        addNewURIsToExistingMediaUnits(mediaToAdd, mediaUnits, canonicals);
+        mediaToAdd.keySet().removeAll(new HashSet<>(canonicals));
         addNewMediaToWorkpiece(canonicals, mediaToAdd, workpiece);
         renumberMediaUnits(workpiece, true);
         if (ConfigCore.getBooleanParameter(ParameterCore.WITH_AUTOMATIC_PAGINATION)) {
@@ -1103,6 +1193,110 @@ public class FileService {
         }
     }
 
+    /**
+     * Lists the contents of the folders of the process, except for those not
+     * modified since they were last listed and whose files are all in the
+     * workpiece.
+     */
+    private Map<String, Map<Subfolder, URI>> listChangedFolders(Process process, Workpiece workpiece,
+            Collection<Subfolder> subfolders, int mapCapacity) {
+
+        Map<String, Map<Subfolder, URI>> mediaToAdd = new TreeMap<>(new MetadataImageComparator());
+        Folder generatorSource = process.getProject().getGeneratorSource();
+        Map<Integer, FolderFingerprint> fingerprints = getFolderFingerprints(process);
+        for (Subfolder subfolder : subfolders) {
+            Integer folderId = subfolder.getFolder().getId();
+            long lastModified = subfolder.getLastModified();
+            if (fingerprints.containsKey(folderId) && FolderFingerprintService.isUnchanged(
+                fingerprints.get(folderId), lastModified, getCanonicalsInWorkpiece(workpiece, subfolder))) {
+                logger.debug("Skipping unchanged folder {}", subfolder);
+                continue;
+            }
+            long listed = System.currentTimeMillis();
+            Map<String, URI> contents = subfolder.listContents(false);
+            for (Entry<String, URI> element : contents.entrySet()) {
+                mediaToAdd.computeIfAbsent(element.getKey(), any -> new HashMap<>(mapCapacity));
+                mediaToAdd.get(element.getKey()).put(subfolder, element.getValue());
+            }
+            if (Objects.equals(subfolder.getFolder(), generatorSource)) {
+                updateHasImages(process, !contents.isEmpty());
+            }
+            if (Objects.nonNull(folderId) && listed - lastModified > FOLDER_MODIFICATION_TIME_RESOLUTION) {
+                updateFolderFingerprint(process, folderId, fingerprints.get(folderId), lastModified,
+                    contents.keySet());
+            }
+        }
+        return mediaToAdd;
+    }
+
+    /**
+     * Returns the fingerprints of the folders of the process from the last
+     * search for media. Returns an empty map if fingerprints are not used.
+     */
+    private Map<Integer, FolderFingerprint> getFolderFingerprints(Process process) {
+        if (!ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.USE_FOLDER_FINGERPRINTS)
+                || Objects.isNull(process.getId())
+                || process.getProject().getFolders().stream().map(Folder::getId).allMatch(Objects::isNull)) {
+            return Collections.emptyMap();
+        }
+        return ServiceManager.getFolderFingerprintService().getByProcess(process.getId());
+    }
+
+    /**
+     * Returns the canonical file name parts of all media files of the
+     * workpiece which belong to the given subfolder.
+     */
+    private static List<String> getCanonicalsInWorkpiece(Workpiece workpiece, Subfolder subfolder) {
+        String use = subfolder.getFolder().getFileGroup();
+        return Workpiece.treeStream(workpiece.getMediaUnit())
+                .flatMap(mediaUnit -> mediaUnit.getMediaFiles().entrySet().stream())
+                .filter(entry -> Objects.equals(entry.getKey().getUse(), use))
+                .map(entry -> subfolder.getCanonical(entry.getValue())).collect(Collectors.toList());
+    }
+
+    /**
+     * Stores the state of a folder just listed, if it has changed. A folder
+     * modified during the last moments is not stored, as a modification in
+     * the same clock tick could be missed next time.
+     */
+    private void updateFolderFingerprint(Process process, int folderId, FolderFingerprint folderFingerprint,
+            long lastModified, Collection<String> canonicals) {
+        if (!ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.USE_FOLDER_FINGERPRINTS)
+                || FolderFingerprintService.isUnchanged(folderFingerprint, lastModified, canonicals)) {
+            return;
+        }
+        FolderFingerprint updated = Objects.nonNull(folderFingerprint) ? folderFingerprint : new FolderFingerprint();
+        updated.setProcessId(process.getId());
+        updated.setFolderId(folderId);
+        updated.setLastModified(lastModified);
+        updated.setEntryCount(canonicals.size());
+        updated.setListingHash(FolderFingerprintService.hashListing(canonicals));
+        try {
+            ServiceManager.getFolderFingerprintService().saveToDatabase(updated);
+        } catch (DAOException e) {
+            logger.warn("Fingerprint of folder {} of process {} could not be saved: {}", folderId,
+                process.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Stores whether the generator source folder contains images, if this has
+     * changed. The folder has just been listed, so the process list can show
+     * it without looking at the file system.
+     */
+    private void updateHasImages(Process process, boolean hasImages) {
+        if (Objects.equals(process.getHasImages(), hasImages)) {
+            return;
+        }
+        process.setHasImages(hasImages);
+        try {
+            ServiceManager.getProcessService().saveImageInformation(process);
+        } catch (DAOException | DataException e) {
+            logger.warn("Image information of process {} could not be saved: {}", process.getId(),
+                e.getMessage());
+        }
+    }
+
     private void automaticallyAssignMediaUnitsToEffectiveRootRecursive(Workpiece workpiece,
             IncludedStructuralElement includedStructuralElement) {
 
@@ -1120,15 +1314,15 @@ public class FileService {
      * units. Because we need to do this to be able to parse correctly, old
      * absolute URIs are converted to relative URIs.
      */
-    private List<String> getCanonicalFileNamePartsAndSanitizeAbsoluteURIs(Workpiece workpiece,
+    private List<String> getCanonicalFileNamePartsAndSanitizeAbsoluteURIs(List<MediaUnit> mediaUnits,
             Map<String, Subfolder> subfolders, URI processBaseUri) throws InvalidImagesException {
 
-        List<String> canonicals = new LinkedList<>();
+        List<String> canonicals = new ArrayList<>(mediaUnits.size());
         String baseUriString = processBaseUri.toString();
         if (!baseUriString.endsWith("/")) {
             baseUriString = baseUriString.concat("/");
         }
-        for (MediaUnit mediaUnit : workpiece.getAllMediaUnitChildrenFilteredByTypePageAndSorted()) {
+        for (MediaUnit mediaUnit : mediaUnits) {
             String unitCanonical = "";
             for (Entry<MediaVariant, URI> entry : mediaUnit.getMediaFiles().entrySet()) {
                 Subfolder subfolder = subfolders.get(entry.getKey().getUse());
@@ -1177,28 +1371,40 @@ public class FileService {
 
     /**
      * Adds the new media to the workpiece. The media are sorted in according to
-     * the canonical part of the file name.
+     * the canonical part of the file name. As the new media are already
+     * sorted, they are merged with the existing media units in one pass.
      */
     private void addNewMediaToWorkpiece(List<String> canonicals, Map<String, Map<Subfolder, URI>> mediaToAdd,
             Workpiece workpiece) {
 
+        if (mediaToAdd.isEmpty()) {
+            return;
+        }
+        MetadataImageComparator comparator = new MetadataImageComparator();
+        List<MediaUnit> children = workpiece.getMediaUnit().getChildren();
+        List<MediaUnit> merged = new ArrayList<>(children.size() + mediaToAdd.size());
+        Iterator<MediaUnit> existing = children.iterator();
+        int canonicalsPassed = 0;
+        int inserted = 0;
         for (Entry<String, Map<Subfolder, URI>> entry : mediaToAdd.entrySet()) {
-            int insertionPoint = 0;
-            for (String canonical : canonicals) {
-                if (new MetadataImageComparator().compare(entry.getKey(), canonical) > 0) {
-                    insertionPoint++;
-                } else {
-                    break;
-                }
+            while (canonicalsPassed < canonicals.size()
+                    && comparator.compare(entry.getKey(), canonicals.get(canonicalsPassed)) > 0) {
+                canonicalsPassed++;
+            }
+            while (merged.size() < canonicalsPassed + inserted && existing.hasNext()) {
+                merged.add(existing.next());
             }
             MediaUnit mediaUnit = createMediaUnit(entry.getValue());
-            workpiece.getMediaUnit().getChildren().add(insertionPoint, mediaUnit);
+            merged.add(mediaUnit);
+            inserted++;
             View view = new View();
             view.setMediaUnit(mediaUnit);
             workpiece.getRootElement().getViews().add(view);
             view.getMediaUnit().getIncludedStructuralElements().add(workpiece.getRootElement());
-            canonicals.add(insertionPoint, entry.getKey());
         }
+        existing.forEachRemaining(merged::add);
+        children.clear();
+        children.addAll(merged);
     }
 
     /**
@@ -19,6 +19,7 @@ import org.kitodo.data.database.beans.User;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.security.SecurityUserDetails;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.security.AuthorityBitSets;
 import org.kitodo.security.SecurityAccess;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -52,6 +53,16 @@ public class SecurityAccessService extends SecurityAccess {
         return ServiceManager.getUserService().getSessionClientId();
     }
 
+    @Override
+    protected AuthorityBitSets getAuthorityBitSets() {
+        Authentication authentication = getCurrentAuthentication();
+        if (Objects.nonNull(authentication) && authentication.getPrincipal() instanceof SecurityUserDetails) {
+            return ((SecurityUserDetails) authentication.getPrincipal())
+                    .getAuthorityBitSets(authentication.getAuthorities());
+        }
+        return super.getAuthorityBitSets();
+    }
+
     /**
      * Get the current authenticated user of current threads security context.
      *
@@ -14,17 +14,24 @@ package org.kitodo.production.services.validation;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
@@ -178,27 +185,91 @@ public class MetadataValidationService {
             throws DAOException {
 
         Collection<ValidationResult> results = new ArrayList<>();
-        results.add(checkTheIdentifier(workpiece));
+        results.add(checkTheIdentifier(workpiece.getId()));
         results.add(metadataValidation.validate(workpiece, ruleset, getMetadataLanguage(),
             getTranslations()));
         return merge(results);
     }
 
+    /**
+     * Validates the metadata of several processes. The METS files are read and
+     * checked concurrently by a pool of threads, the size of which is
+     * configured in {@code metadataValidationThreads}.
+     *
+     * @param processes
+     *            processes to validate
+     * @return the validation result of each process, in the order given
+     */
+    public Map<Process, ValidationResult> validate(List<Process> processes) {
+        List<LanguageRange> metadataLanguage = getMetadataLanguage();
+        Map<String, String> translations = getTranslations();
+        Map<Integer, RulesetManagementInterface> rulesets = new HashMap<>();
+        Map<Process, ValidationResult> errors = new HashMap<>();
+        Map<Process, Future<Pair<String, ValidationResult>>> validations = new HashMap<>();
+        Map<Process, ValidationResult> results = new LinkedHashMap<>();
+        int threads = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.METADATA_VALIDATION_THREADS));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, processes.size())));
+        try {
+            for (Process process : processes) {
+                try {
+                    RulesetManagementInterface ruleset = rulesets.get(process.getRuleset().getId());
+                    if (Objects.isNull(ruleset)) {
+                        ruleset = ServiceManager.getRulesetService().openRuleset(process.getRuleset());
+                        rulesets.put(process.getRuleset().getId(), ruleset);
+                    }
+                    RulesetManagementInterface processRuleset = ruleset;
+                    URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
+                    validations.put(process, executor.submit(() -> {
+                        Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
+                        return Pair.of(workpiece.getId(), metadataValidation.validate(workpiece, processRuleset,
+                            metadataLanguage, translations));
+                    }));
+                } catch (IOException | RuntimeException e) {
+                    errors.put(process, readError(process, e));
+                }
+            }
+            for (Process process : processes) {
+                Future<Pair<String, ValidationResult>> validation = validations.get(process);
+                if (Objects.isNull(validation)) {
+                    results.put(process, errors.get(process));
+                    continue;
+                }
+                try {
+                    Pair<String, ValidationResult> validated = validation.get();
+                    results.put(process,
+                        merge(Arrays.asList(checkTheIdentifier(validated.getKey()), validated.getValue())));
+                } catch (ExecutionException | DAOException e) {
+                    results.put(process, readError(process, e));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static ValidationResult readError(Process process, Exception e) {
+        logger.error(e.getMessage(), e);
+        return new ValidationResult(State.ERROR, Collections.singletonList(
+            Helper.getTranslation("metadataReadError", Collections.singletonList(process.getTitle()))));
+    }
+
     /**
      * Verifies that the rules for the identifier are met.
      *
-     * @param workpiece
-     *            METS file
+     * @param workpieceId
+     *            ID of the METS file
      * @return the validation result
      * @throws DataException
      *             if an error occurs while reading from the search engine
      */
-    private ValidationResult checkTheIdentifier(Workpiece workpiece) throws DAOException {
+    private ValidationResult checkTheIdentifier(String workpieceId) throws DAOException {
         boolean error = false;
         boolean warning = false;
         Collection<String> messages = new HashSet<>();
 
-        String workpieceId = workpiece.getId();
         if (Objects.isNull(workpieceId)) {
             messages.add(Helper.getTranslation(MESSAGE_IDENTIFIER_MISSING));
             warning = true;
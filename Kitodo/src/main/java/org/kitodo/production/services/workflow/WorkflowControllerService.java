@@ -19,18 +19,17 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandResult;
@@ -50,6 +49,7 @@ import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.enums.WorkflowConditionType;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.VariableReplacer;
 import org.kitodo.production.helper.WebDav;
@@ -61,15 +61,18 @@ import org.kitodo.production.metadata.MetadataLock;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.TaskService;
 import org.kitodo.production.thread.TaskScriptThread;
-import org.kitodo.production.workflow.KitodoNamespaceContext;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
+import org.kitodo.production.workflow.XPathConditionEvaluator;
 
 public class WorkflowControllerService {
 
     private List<Task> automaticTasks = new ArrayList<>();
     private List<Task> tasksToFinish;
+    private boolean bulkTransition = false;
+    private final Map<Integer, Process> processesToSave = new LinkedHashMap<>();
+    private final Set<Integer> parentsToClose = new LinkedHashSet<>();
+    private final List<Task> automaticTasksToStart = new ArrayList<>();
+    private int transitionDepth = 0;
+    private final Map<Integer, Map<String, Boolean>> xpathConditionResults = new HashMap<>();
     private boolean flagWait = false;
     private final ReentrantLock flagWaitLock = new ReentrantLock();
     private final WebDav webDav = new WebDav();
@@ -87,24 +90,33 @@ public class WorkflowControllerService {
     }
 
     /**
-     * Set Task status up.
+     * Set Task status up. All resulting changes of tasks and processes are
+     * written together at the end and automatic tasks are started after that.
      *
      * @param tasks
      *            to change status up
      */
     public void setTaskStatusUp(List<Task> tasks) throws DataException, IOException, DAOException {
-        for (Task task : tasks) {
-            if (task.getProcessingStatus() != TaskStatus.DONE) {
-                setProcessingStatusUp(task);
-                task.setEditType(TaskEditType.ADMIN);
-                if (task.getProcessingStatus() == TaskStatus.DONE) {
-                    close(task);
-                } else {
-                    task.setProcessingTime(new Date());
-                    taskService.replaceProcessingUser(task, getCurrentUser());
-                    ServiceManager.getTaskService().save(task);
+        boolean startsBulkTransition = !bulkTransition;
+        bulkTransition = true;
+        try {
+            for (Task task : tasks) {
+                if (task.getProcessingStatus() != TaskStatus.DONE) {
+                    setProcessingStatusUp(task);
+                    task.setEditType(TaskEditType.ADMIN);
+                    if (task.getProcessingStatus() == TaskStatus.DONE) {
+                        close(task);
+                    } else {
+                        task.setProcessingTime(new Date());
+                        taskService.replaceProcessingUser(task, getCurrentUser());
+                        saveTask(task);
+                    }
                 }
             }
+        } finally {
+            if (startsBulkTransition) {
+                finishBulkTransition();
+            }
         }
     }
 
@@ -252,12 +264,17 @@ public class WorkflowControllerService {
         taskService.replaceProcessingUser(task, user);
         task.setProcessingEnd(new Date());
 
-        taskService.save(task);
+        saveTask(task);
 
         automaticTasks = new ArrayList<>();
         tasksToFinish = new ArrayList<>();
 
-        activateTasksForClosedTask(task);
+        transitionDepth++;
+        try {
+            activateTasksForClosedTask(task);
+        } finally {
+            endTransition();
+        }
     }
 
     /**
@@ -444,35 +461,89 @@ public class WorkflowControllerService {
             activateConcurrentTasks(concurrentTasksForOpen);
         }
 
-        process = ServiceManager.getProcessService().getById(process.getId());
-
-        URI imagesOrigDirectory = ServiceManager.getProcessService().getImagesOriginDirectory(true, process);
-        Integer numberOfFiles = ServiceManager.getFileService().getNumberOfFiles(imagesOrigDirectory);
-        if (!process.getSortHelperImages().equals(numberOfFiles)) {
-            process.setSortHelperImages(numberOfFiles);
+        if (bulkTransition) {
+            ServiceManager.getProcessService().refreshImageInformation(process);
+            processesToSave.putIfAbsent(process.getId(), process);
+        } else {
+            process = ServiceManager.getProcessService().getById(process.getId());
+            ServiceManager.getProcessService().refreshImageInformation(process);
             ServiceManager.getProcessService().save(process);
+            process = ServiceManager.getProcessService().getById(process.getId());
         }
 
-        ServiceManager.getProcessService().save(process);
-        process = ServiceManager.getProcessService().getById(process.getId());
-
         for (Task automaticTask : automaticTasks) {
             automaticTask.setProcessingBegin(new Date());
-            TaskScriptThread thread = new TaskScriptThread(automaticTask);
-            TaskManager.addTask(thread);
+            if (bulkTransition) {
+                automaticTasksToStart.add(automaticTask);
+            } else {
+                TaskScriptThread thread = new TaskScriptThread(automaticTask);
+                TaskManager.addTask(thread);
+            }
         }
         for (Task finish : tasksToFinish) {
             close(finish);
         }
 
-        closeParent(process);
+        if (!bulkTransition) {
+            closeParent(process);
+        } else if (Objects.nonNull(process.getParent())) {
+            // the children of the parent are checked after all changes were
+            // written, otherwise siblings changed in this transition are missed
+            parentsToClose.add(process.getParent().getId());
+        }
     }
 
     private void closeParent(Process process) throws DataException {
-        if (Objects.nonNull(process.getParent()) && allChildrenClosed(process.getParent())) {
-            process.getParent().setSortHelperStatus("100000000");
-            ServiceManager.getProcessService().save(process.getParent());
-            closeParent(process.getParent());
+        if (Objects.nonNull(process.getParent())) {
+            closeIfAllChildrenClosed(process.getParent());
+        }
+    }
+
+    private void closeIfAllChildrenClosed(Process process) throws DataException {
+        if (allChildrenClosed(process)) {
+            process.setSortHelperStatus("100000000");
+            ServiceManager.getProcessService().save(process);
+            closeParent(process);
+        }
+    }
+
+    /**
+     * Save task. During a bulk transition only its process is remembered, the
+     * task is written together with it in finishBulkTransition().
+     *
+     * @param task
+     *            to save
+     */
+    private void saveTask(Task task) throws DataException {
+        if (bulkTransition && Objects.nonNull(task.getProcess())) {
+            processesToSave.putIfAbsent(task.getProcess().getId(), task.getProcess());
+        } else {
+            taskService.save(task);
+        }
+    }
+
+    /**
+     * Write all processes changed during the bulk transition with their tasks
+     * in one transaction and one index request. After that the parents are
+     * closed if all their children are closed and the automatic tasks are
+     * started.
+     */
+    private void finishBulkTransition() throws DataException, DAOException {
+        bulkTransition = false;
+        try {
+            ServiceManager.getProcessService().saveAll(new ArrayList<>(processesToSave.values()));
+            for (Integer parentId : parentsToClose) {
+                closeIfAllChildrenClosed(ServiceManager.getProcessService().getById(parentId));
+            }
+            for (Task automaticTask : automaticTasksToStart) {
+                TaskScriptThread thread = new TaskScriptThread(automaticTask);
+                TaskManager.addTask(thread);
+            }
+        } finally {
+            processesToSave.clear();
+            parentsToClose.clear();
+            automaticTasksToStart.clear();
+            xpathConditionResults.clear();
         }
     }
 
@@ -574,8 +645,25 @@ public class WorkflowControllerService {
     public void activateNextTasks(List<Task> allHigherTasks) throws DataException, IOException, DAOException {
         List<Task> nextTasks = getNextTasks(allHigherTasks);
 
-        for (Task nextTask : nextTasks) {
-            activateTask(nextTask);
+        transitionDepth++;
+        try {
+            for (Task nextTask : nextTasks) {
+                activateTask(nextTask);
+            }
+        } finally {
+            endTransition();
+        }
+    }
+
+    /**
+     * Forget the results of XPath conditions when the outermost transition
+     * has ended, as the meta.xml files may change afterwards. During a bulk
+     * transition they are kept until finishBulkTransition().
+     */
+    private void endTransition() {
+        transitionDepth--;
+        if (transitionDepth == 0 && !bulkTransition) {
+            xpathConditionResults.clear();
         }
     }
 
@@ -637,7 +725,7 @@ public class WorkflowControllerService {
 
             verifyTask(task);
 
-            taskService.save(task);
+            saveTask(task);
         } else {
             // close task as it is not going to be executed
             task.setProcessingStatus(TaskStatus.DONE);
@@ -645,7 +733,7 @@ public class WorkflowControllerService {
             task.setProcessingEnd(new Date());
             task.setEditType(TaskEditType.AUTOMATIC);
 
-            taskService.save(task);
+            saveTask(task);
 
             activateTasksForClosedTask(task);
         }
@@ -657,6 +745,8 @@ public class WorkflowControllerService {
             return true;
         } else {
             if (workflowCondition.getType().equals(WorkflowConditionType.SCRIPT)) {
+                // the script may have changed the meta.xml file
+                xpathConditionResults.remove(process.getId());
                 return runScriptCondition(workflowCondition.getValue(), process);
             }
 
@@ -682,21 +772,34 @@ public class WorkflowControllerService {
         return commandResult.isSuccessful();
     }
 
+    /**
+     * Get the result of an XPath condition. On first use for a process, the
+     * XPath conditions of all its tasks are evaluated together, so its
+     * meta.xml file is read only once per transition.
+     */
     private boolean runXPathCondition(Process process, String xpath) throws IOException {
-        try (InputStream fileInputStream = ServiceManager.getFileService().readMetadataFile(process)) {
-            DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
-            builderFactory.setNamespaceAware(true);
-            DocumentBuilder builder = builderFactory.newDocumentBuilder();
-            Document xmlDocument = builder.parse(fileInputStream);
-
-            XPath xPath = XPathFactory.newInstance().newXPath();
-            xPath.setNamespaceContext(new KitodoNamespaceContext());
-            NodeList nodeList = (NodeList) xPath.compile(xpath).evaluate(xmlDocument, XPathConstants.NODESET);
-            return nodeList.getLength() > 0;
-        } catch (ParserConfigurationException | SAXException | XPathExpressionException e) {
-            logger.error(e.getMessage(), e);
-            throw new IOException(e);
+        Map<String, Boolean> results = xpathConditionResults.get(process.getId());
+        if (Objects.isNull(results) || !results.containsKey(xpath)) {
+            Set<String> xpaths = new LinkedHashSet<>();
+            xpaths.add(xpath);
+            for (Task task : process.getTasks()) {
+                WorkflowCondition workflowCondition = task.getWorkflowCondition();
+                if (Objects.nonNull(workflowCondition)
+                        && WorkflowConditionType.XPATH.equals(workflowCondition.getType())) {
+                    xpaths.add(workflowCondition.getValue());
+                }
+            }
+            try (InputStream fileInputStream = ServiceManager.getFileService().readMetadataFile(process)) {
+                results = XPathConditionEvaluator.evaluate(fileInputStream, xpaths);
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+                throw e;
+            }
+            if (Objects.nonNull(process.getId()) && transitionDepth > 0) {
+                xpathConditionResults.put(process.getId(), results);
+            }
         }
+        return results.get(xpath);
     }
 
     private void verifyTask(Task task) {
@@ -741,17 +844,67 @@ public class WorkflowControllerService {
     }
 
     /**
-     * Set up processing status for given list of processes.
+     * Set up processing status for given list of processes. The changes of all
+     * processes are written together in one transaction and one index request.
      */
     public void setTaskStatusUpForProcesses(List<Process> processes) {
+        bulkTransition = true;
         for (Process processForStatus : processes) {
+            Set<Integer> processesSaved = new HashSet<>(processesToSave.keySet());
+            Set<Integer> parentsClosed = new HashSet<>(parentsToClose);
+            int automaticTasksStarted = automaticTasksToStart.size();
             try {
                 setTasksStatusUp(processForStatus);
             } catch (DataException | IOException | DAOException e) {
                 Helper.setErrorMessage("errorChangeTaskStatus",
                         new Object[] {Helper.getTranslation("up"), processForStatus.getId() }, logger, e);
+                rollBackBulkTransition(processForStatus, processesSaved, parentsClosed, automaticTasksStarted);
             }
         }
+        try {
+            finishBulkTransition();
+        } catch (DataException | DAOException e) {
+            Helper.setErrorMessage("errorSaving", new Object[] {ObjectType.PROCESS.getTranslationPlural() }, logger,
+                e);
+        }
+    }
+
+    /**
+     * Take back the changes of a process whose transition failed during a
+     * bulk transition, so that it is not written half done together with the
+     * others. All processes first changed by this transition are excluded
+     * from the write and reloaded from the database, which also discards the
+     * changes of their tasks.
+     *
+     * @param failedProcess
+     *            process whose transition failed
+     * @param processesSaved
+     *            IDs of the processes to save before its transition
+     * @param parentsClosed
+     *            IDs of the parents to check before its transition
+     * @param automaticTasksStarted
+     *            number of automatic tasks to start before its transition
+     */
+    private void rollBackBulkTransition(Process failedProcess, Set<Integer> processesSaved,
+            Set<Integer> parentsClosed, int automaticTasksStarted) {
+        List<Process> processesToRollBack = new ArrayList<>();
+        processesToRollBack.add(failedProcess);
+        for (Iterator<Process> iterator = processesToSave.values().iterator(); iterator.hasNext();) {
+            Process process = iterator.next();
+            if (!processesSaved.contains(process.getId())) {
+                iterator.remove();
+                if (!Objects.equals(process.getId(), failedProcess.getId())) {
+                    processesToRollBack.add(process);
+                }
+            }
+        }
+        processesToSave.remove(failedProcess.getId());
+        parentsToClose.retainAll(parentsClosed);
+        automaticTasksToStart.subList(automaticTasksStarted, automaticTasksToStart.size()).clear();
+        xpathConditionResults.clear();
+        for (Process process : processesToRollBack) {
+            ServiceManager.getProcessService().refresh(process);
+        }
     }
 
     /**
@@ -0,0 +1,313 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.workflow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Evaluates XPath workflow conditions on meta.xml files. A condition is
+ * fulfilled if its expression selects at least one node. All conditions given
+ * together are evaluated with one read of the file. If all of them are simple
+ * location paths like {@code //kitodo:metadata[@name='TitleDocMain']}, the
+ * file is read with a streaming parser and never held in memory, otherwise it
+ * is parsed to DOM once. Compiled expressions are cached per condition.
+ */
+public class XPathConditionEvaluator {
+
+    private static final NamespaceContext NAMESPACE_CONTEXT = new KitodoNamespaceContext();
+    private static final Map<String, XPathExpression> compiledExpressions = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<LocationPath>> locationPaths = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private XPathConditionEvaluator() {
+
+    }
+
+    /**
+     * Evaluate XPath conditions on the given meta.xml file.
+     *
+     * @param metsFile
+     *            input stream of meta.xml file
+     * @param xpaths
+     *            XPath expressions of conditions
+     * @return map of XPath expression to information if condition is fulfilled
+     * @throws IOException
+     *             if file can't be read or expression is not valid
+     */
+    public static Map<String, Boolean> evaluate(InputStream metsFile, Collection<String> xpaths) throws IOException {
+        List<LocationPath> paths = new ArrayList<>();
+        for (String xpath : new LinkedHashSet<>(xpaths)) {
+            Optional<LocationPath> locationPath = locationPaths.computeIfAbsent(xpath, LocationPath::parse);
+            if (!locationPath.isPresent()) {
+                return evaluateOnDocument(metsFile, xpaths);
+            }
+            paths.add(locationPath.get());
+        }
+        return evaluateStreaming(metsFile, paths);
+    }
+
+    /**
+     * Check if the given XPath expression can be evaluated with the streaming
+     * parser.
+     *
+     * @param xpath
+     *            XPath expression of condition
+     * @return true if expression is a simple location path
+     */
+    public static boolean isStreamable(String xpath) {
+        return locationPaths.computeIfAbsent(xpath, LocationPath::parse).isPresent();
+    }
+
+    private static Map<String, Boolean> evaluateOnDocument(InputStream metsFile, Collection<String> xpaths)
+            throws IOException {
+        try {
+            DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
+            builderFactory.setNamespaceAware(true);
+            DocumentBuilder builder = builderFactory.newDocumentBuilder();
+            Document xmlDocument = builder.parse(metsFile);
+
+            Map<String, Boolean> results = new HashMap<>();
+            for (String xpath : xpaths) {
+                XPathExpression expression = compile(xpath);
+                // compiled expressions are not thread safe
+                synchronized (expression) {
+                    NodeList nodeList = (NodeList) expression.evaluate(xmlDocument, XPathConstants.NODESET);
+                    results.put(xpath, nodeList.getLength() > 0);
+                }
+            }
+            return results;
+        } catch (ParserConfigurationException | SAXException | XPathExpressionException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static XPathExpression compile(String xpath) throws XPathExpressionException {
+        XPathExpression expression = compiledExpressions.get(xpath);
+        if (Objects.isNull(expression)) {
+            XPath xPath = XPathFactory.newInstance().newXPath();
+            xPath.setNamespaceContext(NAMESPACE_CONTEXT);
+            expression = xPath.compile(xpath);
+            compiledExpressions.putIfAbsent(xpath, expression);
+        }
+        return expression;
+    }
+
+    private static Map<String, Boolean> evaluateStreaming(InputStream metsFile, List<LocationPath> paths)
+            throws IOException {
+        Map<String, Boolean> results = new HashMap<>();
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (LocationPath path : paths) {
+            results.put(path.xpath, Boolean.FALSE);
+            matchers.add(new PathMatcher(path));
+        }
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = null;
+        try {
+            reader = inputFactory.createXMLStreamReader(metsFile);
+            int unmatched = matchers.size();
+            while (reader.hasNext() && unmatched > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    for (PathMatcher matcher : matchers) {
+                        if (!matcher.matched && matcher.startElement(reader)) {
+                            results.put(matcher.path.xpath, Boolean.TRUE);
+                            unmatched--;
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    for (PathMatcher matcher : matchers) {
+                        matcher.endElement();
+                    }
+                }
+            }
+            return results;
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            if (Objects.nonNull(reader)) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Location path consisting only of element steps on the child or
+     * descendant axis, each with an optional attribute value predicate.
+     */
+    private static final class LocationPath {
+        private static final String NAME = "[A-Za-z_][\\w.-]*(?::[A-Za-z_][\\w.-]*)?";
+        private static final Pattern STEP = Pattern.compile("(//|/)(\\*|" + NAME + ")(?:\\[@(" + NAME
+                + ")\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")\\])?");
+
+        private final String xpath;
+        private final List<Step> steps = new ArrayList<>();
+
+        private LocationPath(String xpath) {
+            this.xpath = xpath;
+        }
+
+        private static Optional<LocationPath> parse(String xpath) {
+            String trimmed = xpath.trim();
+            LocationPath locationPath = new LocationPath(xpath);
+            Matcher matcher = STEP.matcher(trimmed);
+            int position = 0;
+            while (position < trimmed.length()) {
+                matcher.region(position, trimmed.length());
+                if (!matcher.lookingAt()) {
+                    return Optional.empty();
+                }
+                String[] name = qualifiedName(matcher.group(2));
+                String[] attribute = Objects.nonNull(matcher.group(3)) ? qualifiedName(matcher.group(3)) : null;
+                if (Objects.isNull(name) || (Objects.nonNull(matcher.group(3)) && Objects.isNull(attribute))) {
+                    return Optional.empty();
+                }
+                String value = Objects.nonNull(matcher.group(4)) ? matcher.group(4) : matcher.group(5);
+                locationPath.steps.add(new Step("//".equals(matcher.group(1)), name, attribute, value));
+                position = matcher.end();
+            }
+            return locationPath.steps.isEmpty() ? Optional.empty() : Optional.of(locationPath);
+        }
+
+        /**
+         * Resolve name to namespace URI and local name. Returns null if the
+         * prefix is unknown, the expression is left to the XPath processor
+         * then.
+         */
+        private static String[] qualifiedName(String name) {
+            int colon = name.indexOf(':');
+            if (colon < 0) {
+                return new String[] {XMLConstants.NULL_NS_URI, name };
+            }
+            String namespace = NAMESPACE_CONTEXT.getNamespaceURI(name.substring(0, colon));
+            return Objects.isNull(namespace) ? null : new String[] {namespace, name.substring(colon + 1) };
+        }
+    }
+
+    private static final class Step {
+        private final boolean descendant;
+        private final String[] name;
+        private final String[] attribute;
+        private final String value;
+
+        private Step(boolean descendant, String[] name, String[] attribute, String value) {
+            this.descendant = descendant;
+            this.name = name;
+            this.attribute = attribute;
+            this.value = value;
+        }
+
+        private boolean matches(XMLStreamReader reader) {
+            if (!"*".equals(name[1]) && !(name[1].equals(reader.getLocalName())
+                    && name[0].equals(Objects.toString(reader.getNamespaceURI(), XMLConstants.NULL_NS_URI)))) {
+                return false;
+            }
+            if (Objects.isNull(attribute)) {
+                return true;
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (attribute[1].equals(reader.getAttributeLocalName(i))
+                        && attribute[0].equals(Objects.toString(reader.getAttributeNamespace(i),
+                            XMLConstants.NULL_NS_URI))
+                        && value.equals(reader.getAttributeValue(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Matches a location path against the open elements of a stream. For
+     * every open element it is remembered which steps end at it and which
+     * steps end at it or one of its ancestors, so each element is checked in
+     * time proportional to the number of steps.
+     */
+    private static final class PathMatcher {
+        private final LocationPath path;
+        private final Deque<boolean[][]> openElements = new ArrayDeque<>();
+        private boolean matched;
+
+        private PathMatcher(LocationPath path) {
+            this.path = path;
+        }
+
+        private boolean startElement(XMLStreamReader reader) {
+            int count = path.steps.size();
+            boolean[][] parent = openElements.peek();
+            boolean[] endsHere = new boolean[count];
+            boolean[] endsHereOrAbove = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                Step step = path.steps.get(i);
+                boolean previousMatched;
+                if (i == 0) {
+                    previousMatched = step.descendant || Objects.isNull(parent);
+                } else if (Objects.isNull(parent)) {
+                    previousMatched = false;
+                } else {
+                    previousMatched = step.descendant ? parent[1][i - 1] : parent[0][i - 1];
+                }
+                endsHere[i] = previousMatched && step.matches(reader);
+                endsHereOrAbove[i] = endsHere[i] || (Objects.nonNull(parent) && parent[1][i]);
+            }
+            openElements.push(new boolean[][] {endsHere, endsHereOrAbove });
+            matched = endsHere[count - 1];
+            return matched;
+        }
+
+        private void endElement() {
+            if (!matched) {
+                openElements.pop();
+            }
+        }
+    }
+}
@@ -75,7 +75,7 @@ public class DummyStructuralElementView implements StructuralElementViewInterfac
 
     @Override
     public boolean isUndefined() {
-        throw new UnsupportedOperationException();
+        return false;
     }
 
     @Override
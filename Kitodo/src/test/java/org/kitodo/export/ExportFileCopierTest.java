@@ -0,0 +1,71 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExportFileCopierTest {
+
+    private static final int FILES = 20;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldCopyOnlyChangedFiles() throws Exception {
+        Path source = temporaryFolder.newFolder("source").toPath();
+        Path destination = temporaryFolder.newFolder("destination").toPath();
+        Random random = new Random(42);
+        for (int i = 0; i < FILES; i++) {
+            byte[] content = new byte[1000 + random.nextInt(100000)];
+            random.nextBytes(content);
+            Files.write(source.resolve(String.format("%08d.tif", i)), content);
+        }
+
+        ExportFileCopier copier = copy(source, destination);
+        assertEquals("All files should have been copied!", FILES, copier.getCopied());
+        for (int i = 0; i < FILES; i++) {
+            String fileName = String.format("%08d.tif", i);
+            assertArrayEquals("Copied file differs!", Files.readAllBytes(source.resolve(fileName)),
+                Files.readAllBytes(destination.resolve(fileName)));
+        }
+
+        Files.write(destination.resolve("00000003.tif"), new byte[] {1, 2, 3 });
+        copier = copy(source, destination);
+        assertEquals("Only the changed file should have been copied!", 1, copier.getCopied());
+        assertEquals("Unchanged files should have been skipped!", FILES - 1, copier.getSkipped());
+        assertArrayEquals("Changed file was not copied again!", Files.readAllBytes(source.resolve("00000003.tif")),
+            Files.readAllBytes(destination.resolve("00000003.tif")));
+    }
+
+    private static ExportFileCopier copy(Path source, Path destination) throws IOException, InterruptedException {
+        ExportFileCopier copier = new ExportFileCopier(4);
+        for (int i = 0; i < FILES; i++) {
+            String fileName = String.format("%08d.tif", i);
+            copier.add(source.resolve(fileName), destination.resolve(fileName));
+        }
+        int[] finished = new int[1];
+        copier.copy((file, done, total) -> finished[0] = done);
+        assertEquals("Progress was not reported for every file!", FILES, finished[0]);
+        return copier;
+    }
+}
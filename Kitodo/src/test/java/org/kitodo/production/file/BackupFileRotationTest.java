@@ -22,6 +22,7 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.After;
 import org.junit.Before;
@@ -95,7 +96,7 @@ public class BackupFileRotationTest {
 
         runBackup(numberOfBackups, process);
 
-        fileService.createResource(processService.getProcessDataDirectory(process), BACKUP_FILE_NAME);
+        saveNewVersion(process);
         runBackup(numberOfBackups, process);
         assertFileExists(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".1");
         assertFileExists(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".2");
@@ -114,7 +115,7 @@ public class BackupFileRotationTest {
 
         assertFileHasContent(processService.getProcessDataDirectory(process) + "/" +  BACKUP_FILE_NAME + ".1", content1);
 
-        fileService.createResource(processService.getProcessDataDirectory(process), BACKUP_FILE_NAME);
+        saveNewVersion(process);
         runBackup(numberOfBackups, process);
 
         assertFileHasContent(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".2", content1);
@@ -131,7 +132,7 @@ public class BackupFileRotationTest {
                 processService.getProcessDataDirectory(process) + BACKUP_FILE_NAME);
 
         runBackup(numberOfBackups, process);
-        fileService.createResource(processService.getProcessDataDirectory(process), BACKUP_FILE_NAME);
+        saveNewVersion(process);
         runBackup(numberOfBackups, process);
 
         assertLastModifiedDate(processService.getProcessDataDirectory(process) + BACKUP_FILE_NAME + ".2",
@@ -146,9 +147,9 @@ public class BackupFileRotationTest {
         process.setId(12);
         process.setProcessBaseUri(URI.create("12"));
         runBackup(numberOfBackups, process);
-        fileService.createResource(processService.getProcessDataDirectory(process), BACKUP_FILE_NAME);
+        saveNewVersion(process);
         runBackup(numberOfBackups, process);
-        fileService.createResource(processService.getProcessDataDirectory(process), BACKUP_FILE_NAME);
+        saveNewVersion(process);
         runBackup(numberOfBackups, process);
 
         assertFileExists(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".1");
@@ -167,14 +168,47 @@ public class BackupFileRotationTest {
         URI correctURI = URI.create(processService.getProcessDataDirectory(process).toString() + "/" + BACKUP_FILE_NAME);
         writeFile(correctURI, content1);
         runBackup(numberOfBackups, process);
-        fileService.createResource(processService.getProcessDataDirectory(process), BACKUP_FILE_NAME);
+        saveNewVersion(process);
         runBackup(numberOfBackups, process);
-        fileService.createResource(processService.getProcessDataDirectory(process), BACKUP_FILE_NAME);
+        saveNewVersion(process);
         runBackup(numberOfBackups, process);
 
         assertFileHasContent(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".3", content1);
     }
 
+    @Test
+    public void shouldNotRotateBackupsOfUnchangedFile() throws IOException {
+        int numberOfBackups = 2;
+        Process process = new Process();
+        process.setId(12);
+        process.setProcessBaseUri(URI.create("12"));
+        runBackup(numberOfBackups, process);
+        runBackup(numberOfBackups, process);
+
+        assertFileExists(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".1");
+        assertFileNotExists(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".2");
+    }
+
+    @Test
+    public void backupShouldKeepContentWhenOriginalIsWrittenInPlaceAfterSkippedBackup() throws IOException {
+        String content1 = "Test One.";
+        String content2 = "Test Two.";
+        int numberOfBackups = 2;
+        Process process = new Process();
+        process.setId(12);
+        process.setProcessBaseUri(URI.create("12"));
+        URI originalUri = URI.create(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME);
+        writeFile(originalUri, content1);
+        runBackup(numberOfBackups, process);
+        // the original is unchanged, so this backup is skipped
+        runBackup(numberOfBackups, process);
+
+        writeFile(originalUri, content2);
+
+        assertFileHasContent(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME + ".1", content1);
+        assertFileHasContent(originalUri.toString(), content2);
+    }
+
     @Test
     public void noBackupIsPerformedWithNumberOfBackupsSetToZero() throws Exception {
         int numberOfBackups = 0;
@@ -240,6 +274,11 @@ public class BackupFileRotationTest {
         assertFalse("File " + fileName + " should not exist.", fileService.fileExist(URI.create(fileName)));
     }
 
+    private void saveNewVersion(Process process) throws IOException {
+        URI uri = URI.create(processService.getProcessDataDirectory(process) + "/" + BACKUP_FILE_NAME);
+        fileService.writeAtomically(uri, String.valueOf(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+    }
+
     private void writeFile(URI uri, String content) throws IOException {
         OutputStream outputStream = fileService.write(uri);
         final PrintStream printStream = new PrintStream(outputStream);
@@ -14,11 +14,18 @@ package org.kitodo.production.forms.dataeditor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.kitodo.DummyRulesetManagement;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.MediaUnit;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Template;
@@ -54,4 +61,113 @@ public class StructurePanelTest {
 
         Assert.assertTrue(((StructureTreeNode) result.getChildren().get(0).getData()).isLinked());
     }
+
+    @Test
+    public void shouldBuildStructureTreeForManyLinkedChildren() throws Exception {
+        DataEditorForm dummyDataEditorForm = new DataEditorForm();
+        Process process = new Process();
+        Template template = new Template();
+        template.setWorkflow(new Workflow());
+        process.setTemplate(template);
+        dummyDataEditorForm.setProcess(process);
+        Field ruleset = DataEditorForm.class.getDeclaredField("ruleset");
+        ruleset.setAccessible(true);
+        ruleset.set(dummyDataEditorForm, new DummyRulesetManagement());
+        List<Collection<Integer>> baseTypeQueries = new ArrayList<>();
+        final StructurePanel underTest = new StructurePanel(dummyDataEditorForm) {
+            @Override
+            Map<Integer, String> getBaseTypes(Collection<Integer> processIds) {
+                baseTypeQueries.add(new ArrayList<>(processIds));
+                return processIds.stream().collect(Collectors.toMap(Function.identity(), id -> "Issue" + id));
+            }
+        };
+
+        IncludedStructuralElement structure = new IncludedStructuralElement();
+        for (int id = 1; id <= 1000; id++) {
+            Process child = new Process();
+            child.setId(id);
+            child.setTitle("Issue " + id);
+            dummyDataEditorForm.getCurrentChildren().add(child);
+
+            IncludedStructuralElement linkedChild = new IncludedStructuralElement();
+            LinkedMetsResource link = new LinkedMetsResource();
+            link.setUri(URI.create("database://?process.id=" + id));
+            linkedChild.setLink(link);
+            linkedChild.setOrder(id);
+            structure.getChildren().add(linkedChild);
+        }
+        Field structureField = StructurePanel.class.getDeclaredField("structure");
+        structureField.setAccessible(true);
+        structureField.set(underTest, structure);
+
+        Method buildStructureTree = StructurePanel.class.getDeclaredMethod("buildStructureTree");
+        buildStructureTree.setAccessible(true);
+        TreeNode result = (TreeNode) buildStructureTree.invoke(underTest);
+
+        Assert.assertEquals("Base types should have been queried once", 1, baseTypeQueries.size());
+        Assert.assertEquals(1000, baseTypeQueries.get(0).size());
+        List<TreeNode> linkedNodes = result.getChildren().get(0).getChildren();
+        Assert.assertEquals(1000, linkedNodes.size());
+        for (int i = 0; i < 1000; i++) {
+            StructureTreeNode node = (StructureTreeNode) linkedNodes.get(i).getData();
+            Assert.assertTrue(node.isLinked());
+            Assert.assertEquals("Issue" + (i + 1), node.getLabel());
+        }
+
+        buildStructureTree.invoke(underTest);
+        Assert.assertEquals("Known base types should not have been queried again", 1, baseTypeQueries.size());
+    }
+
+    @Test
+    public void shouldUpdateMediaUnitLabelsWithoutRebuildingTheTree() throws Exception {
+        DataEditorForm dummyDataEditorForm = new DataEditorForm();
+        Field ruleset = DataEditorForm.class.getDeclaredField("ruleset");
+        ruleset.setAccessible(true);
+        ruleset.set(dummyDataEditorForm, new DummyRulesetManagement());
+        final StructurePanel underTest = new StructurePanel(dummyDataEditorForm);
+
+        MediaUnit mediaRoot = new MediaUnit();
+        for (int order = 1; order <= 3; order++) {
+            MediaUnit page = new MediaUnit();
+            page.setType(MediaUnit.TYPE_PAGE);
+            page.setOrder(order);
+            page.setOrderlabel(Integer.toString(order));
+            mediaRoot.getChildren().add(page);
+        }
+        Method buildMediaTree = StructurePanel.class.getDeclaredMethod("buildMediaTree", MediaUnit.class);
+        buildMediaTree.setAccessible(true);
+        TreeNode physicalTree = (TreeNode) buildMediaTree.invoke(underTest, mediaRoot);
+        List<TreeNode> pageNodes = physicalTree.getChildren().get(0).getChildren();
+        Assert.assertEquals(3, pageNodes.size());
+        Assert.assertEquals("0_2", pageNodes.get(2).getRowKey());
+        TreeNode secondPageNode = pageNodes.get(1);
+        Assert.assertEquals("page 2", ((StructureTreeNode) secondPageNode.getData()).getLabel());
+
+        mediaRoot.getChildren().get(1).setOrderlabel("II");
+        Method updateMediaUnitLabelsRecursive = StructurePanel.class.getDeclaredMethod(
+            "updateMediaUnitLabelsRecursive", TreeNode.class);
+        updateMediaUnitLabelsRecursive.setAccessible(true);
+        updateMediaUnitLabelsRecursive.invoke(underTest, physicalTree);
+
+        Assert.assertSame(secondPageNode, physicalTree.getChildren().get(0).getChildren().get(1));
+        Assert.assertEquals("page II", ((StructureTreeNode) secondPageNode.getData()).getLabel());
+    }
+
+    @Test
+    public void shouldFindSeveralAssignmentsIndex() {
+        final StructurePanel underTest = new StructurePanel(new DataEditorForm());
+        MediaUnit first = new MediaUnit();
+        MediaUnit second = new MediaUnit();
+        MediaUnit equalToSecond = new MediaUnit();
+        underTest.getSeveralAssignments().add(first);
+        underTest.getSeveralAssignments().add(second);
+
+        Assert.assertEquals(0, underTest.getSeveralAssignmentsIndex(first));
+        Assert.assertEquals(1, underTest.getSeveralAssignmentsIndex(second));
+        Assert.assertEquals(-1, underTest.getSeveralAssignmentsIndex(equalToSecond));
+
+        underTest.getSeveralAssignments().remove(0);
+        Assert.assertEquals(-1, underTest.getSeveralAssignmentsIndex(first));
+        Assert.assertEquals(0, underTest.getSeveralAssignmentsIndex(second));
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ProcessService;
+
+public class IndexWorkerIT {
+
+    private static final ProcessService processService = ServiceManager.getProcessService();
+    private static final int INDEX_LIMIT = 2;
+
+    @BeforeClass
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @After
+    public void resetIndexLimit() {
+        ConfigCore.getConfig().clearProperty(ParameterCore.ELASTICSEARCH_INDEXLIMIT.getName());
+    }
+
+    @Test
+    public void shouldIndexAllNotIndexedObjectsWithSeveralWorkers() throws Exception {
+        for (Process process : processService.getAll()) {
+            process.setIndexAction(IndexAction.INDEX);
+            processService.saveToDatabase(process);
+        }
+        int notIndexed = processService.countNotIndexedDatabaseRows().intValue();
+        assertTrue("There should be more than one worker's share to index", notIndexed > INDEX_LIMIT);
+        ConfigCore.getConfig().setProperty(ParameterCore.ELASTICSEARCH_INDEXLIMIT.getName(), INDEX_LIMIT);
+
+        // the workers are set up and run one after another as the indexing service does
+        int indexed = 0;
+        for (int start = 0; start < notIndexed; start += INDEX_LIMIT) {
+            IndexWorker indexWorker = new IndexWorker(processService, start);
+            indexWorker.setIndexAllObjects(false);
+            indexWorker.run();
+            indexed += indexWorker.getIndexedObjects() - start;
+        }
+
+        assertEquals("Not all objects were indexed", notIndexed, indexed);
+        assertEquals("Objects are left to index", Long.valueOf(0), processService.countNotIndexedDatabaseRows());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.SystemUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.ExecutionPermission;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.production.security.SecurityUserDetails;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.file.FileService;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class WebDavTest {
+
+    private static final FileService fileService = ServiceManager.getFileService();
+    private static final List<ParameterCore> SCRIPTS = Arrays.asList(ParameterCore.SCRIPT_CREATE_DIR_USER_HOME,
+        ParameterCore.SCRIPT_CREATE_SYMLINK, ParameterCore.SCRIPT_DELETE_SYMLINK);
+
+    private final File usersDirectory = new File(ConfigCore.getParameter(ParameterCore.DIR_USERS));
+    private final Project project = new Project();
+    private User user;
+
+    @Before
+    public void setUp() throws IOException {
+        assumeTrue(!SystemUtils.IS_OS_WINDOWS && !SystemUtils.IS_OS_MAC);
+
+        for (ParameterCore script : SCRIPTS) {
+            ExecutionPermission.setExecutePermission(new File(ConfigCore.getParameter(script)));
+        }
+        Files.createDirectories(usersDirectory.toPath());
+        project.setTitle("WebDavProject");
+        User login = new User();
+        login.setLogin(SystemUtils.USER_NAME);
+        SecurityUserDetails securityUserDetails = new SecurityUserDetails(login);
+        user = securityUserDetails;
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                securityUserDetails, null, securityUserDetails.getAuthorities()));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (SystemUtils.IS_OS_WINDOWS || SystemUtils.IS_OS_MAC) {
+            return;
+        }
+        SecurityContextHolder.clearContext();
+        FileUtils.deleteDirectory(usersDirectory);
+        for (int processId = 9881; processId <= 9883; processId++) {
+            fileService.delete(URI.create(Integer.toString(processId)));
+        }
+        for (ParameterCore script : SCRIPTS) {
+            ExecutionPermission.setNoExecutePermission(new File(ConfigCore.getParameter(script)));
+        }
+    }
+
+    @Test
+    public void shouldDownloadToHomeAndUploadFromHome() throws IOException {
+        Process first = createProcess(9881, "First");
+        Process second = createProcess(9882, "Second");
+        Map<Process, Boolean> processes = new LinkedHashMap<>();
+        processes.put(first, false);
+        processes.put(second, false);
+
+        new WebDav().downloadToHome(processes);
+
+        Path home = getHome();
+        assertTrue("First process was not linked!", Files.isSymbolicLink(home.resolve("First__[9881]")));
+        assertTrue("Second process was not linked!", Files.isSymbolicLink(home.resolve("Second__[9882]")));
+
+        new WebDav().uploadFromHome(user, Arrays.asList(first, second));
+
+        assertFalse("First process link was not removed!", Files.exists(home.resolve("First__[9881]"),
+            LinkOption.NOFOLLOW_LINKS));
+        assertFalse("Second process link was not removed!", Files.exists(home.resolve("Second__[9882]"),
+            LinkOption.NOFOLLOW_LINKS));
+    }
+
+    @Test
+    public void shouldDownloadToProjectDirectoryForMassDownload() throws IOException {
+        user.setWithMassDownload(true);
+        Map<Process, Boolean> processes = new LinkedHashMap<>();
+        processes.put(createProcess(9881, "First"), false);
+        processes.put(createProcess(9882, "Second"), false);
+
+        new WebDav().downloadToHome(processes);
+
+        Path projectDirectory = getHome().resolve("WebDavProject");
+        assertTrue("Project directory was not created!", Files.isDirectory(projectDirectory));
+        assertTrue("Done directory was not created!", Files.isDirectory(getHome().resolve("fertig")));
+        assertTrue("First process was not linked!", Files.isSymbolicLink(projectDirectory.resolve("First__[9881]")));
+        assertTrue("Second process was not linked!",
+            Files.isSymbolicLink(projectDirectory.resolve("Second__[9882]")));
+    }
+
+    @Test
+    public void shouldDownloadOtherProcessesIfOneCannotBePrepared() throws IOException {
+        Process withoutDirectory = new Process() {
+            @Override
+            public URI getProcessBaseUri() {
+                throw new IllegalStateException("Process directory not available");
+            }
+        };
+        withoutDirectory.setId(9881);
+        withoutDirectory.setTitle("First");
+        Map<Process, Boolean> processes = new LinkedHashMap<>();
+        processes.put(withoutDirectory, false);
+        processes.put(createProcess(9882, "Second"), false);
+
+        new WebDav().downloadToHome(processes);
+
+        assertFalse("First process should not have been linked!", Files.exists(getHome().resolve("First__[9881]"),
+            LinkOption.NOFOLLOW_LINKS));
+        assertTrue("Second process was not linked!", Files.isSymbolicLink(getHome().resolve("Second__[9882]")));
+    }
+
+    @Test
+    public void shouldGetEachMassDownloadDirectoryOnce() {
+        Project otherProject = new Project();
+        otherProject.setTitle("OtherProject");
+        Process first = new Process();
+        first.setProject(project);
+        Process second = new Process();
+        second.setProject(otherProject);
+        Process third = new Process();
+        third.setProject(project);
+
+        assertEquals("Wrong directories for mass download!", Arrays.asList("WebDavProject", "OtherProject", "fertig/"),
+            Arrays.asList(WebDav.getMassDownloadDirectories(Arrays.asList(first, second, third), "fertig/")
+                    .toArray()));
+    }
+
+    @Test
+    public void shouldCountSuccessfulLinkScripts() {
+        long successful = WebDav.runLinkScripts(Arrays.asList(1, 2, 3, 4, 5, 6), number -> {
+            if (number == 5) {
+                throw new IllegalStateException("Script failed");
+            }
+            return number % 2 == 0;
+        });
+
+        assertEquals("Wrong number of successful link scripts!", 3, successful);
+    }
+
+    private Process createProcess(int id, String title) throws IOException {
+        Process process = new Process();
+        process.setId(id);
+        process.setTitle(title);
+        process.setProject(project);
+        process.setProcessBaseUri(URI.create(Integer.toString(id)));
+        fileService.createDirectories(fileService.getImagesDirectory(process));
+        return process;
+    }
+
+    private Path getHome() {
+        return Paths.get(usersDirectory.getAbsolutePath(), user.getLogin());
+    }
+}
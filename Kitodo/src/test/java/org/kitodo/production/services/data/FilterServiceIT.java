@@ -482,6 +482,100 @@ public class FilterServiceIT {
             taskService.findByQuery(secondQuery, true).size());
     }
 
+    @Test
+    public void shouldBuildQueryAndFindByProcessServiceByTasksWithSingleSearch() throws Exception {
+        ProcessService processService = ServiceManager.getProcessService();
+
+        QueryBuilder firstQuery = filterService.queryBuilder("\"stepdone:1\"", ObjectType.PROCESS, false, false);
+        assertEquals("Incorrect amount of processes with closed task with ordering 1!", 2,
+            processService.findByQuery(firstQuery, true).size());
+        assertEquals("Incorrect amount of searches for closed tasks!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder secondQuery = filterService.queryBuilder("\"stepinwork:2\"", ObjectType.PROCESS, false, false);
+        assertEquals("Incorrect amount of processes with task in progress with ordering 2!", 1,
+            processService.findByQuery(secondQuery, true).size());
+        assertEquals("Incorrect amount of searches for tasks in progress!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder thirdQuery = filterService.queryBuilder("\"stepopen:Next Open\"", ObjectType.PROCESS, false,
+            false);
+        assertEquals("Incorrect amount of processes with open task with title 'Next Open'!", 1,
+            processService.findByQuery(thirdQuery, true).size());
+        assertEquals("Incorrect amount of searches for open tasks!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder fourthQuery = filterService.queryBuilder("\"steplocked:4-5\"", ObjectType.PROCESS, false,
+            false);
+        assertEquals("Incorrect amount of processes with locked task with ordering from 4 to 5!", 1,
+            processService.findByQuery(fourthQuery, true).size());
+        assertEquals("Incorrect amount of searches for locked tasks!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder fifthQuery = filterService.queryBuilder("\"stepautomatic:true\"", ObjectType.PROCESS, false,
+            false);
+        assertEquals("Incorrect amount of processes with automatic task!", 0,
+            processService.findByQuery(fifthQuery, true).size());
+        assertEquals("Incorrect amount of searches for automatic tasks!", 1, filterService.getNumberOfSearches());
+    }
+
+    @Test
+    public void shouldBuildQueryAndFindByTaskServiceByBatchId() throws Exception {
+        TaskService taskService = ServiceManager.getTaskService();
+
+        QueryBuilder firstQuery = filterService.queryBuilder("\"batch:1\"", ObjectType.TASK, false, false);
+        assertEquals("Incorrect amount of tasks for batch with id 1!", 2,
+            taskService.findByQuery(firstQuery, true).size());
+        assertEquals("Incorrect amount of searches for batch with id 1!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder secondQuery = filterService.queryBuilder("\"batch:1 3\"", ObjectType.TASK, false, false);
+        assertEquals("Incorrect amount of tasks for batch with id 1 or 3!", 4,
+            taskService.findByQuery(secondQuery, true).size());
+
+        QueryBuilder thirdQuery = filterService.queryBuilder("\"-batch:1\"", ObjectType.TASK, false, false);
+        assertEquals("Incorrect amount of tasks for batch with not id 1!", 2,
+            taskService.findByQuery(thirdQuery, true).size());
+        assertEquals("Incorrect amount of searches for batch with not id 1!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder fourthQuery = filterService.queryBuilder("\"-batch:1 3\"", ObjectType.TASK, false, false);
+        assertTrue("Incorrect amount of tasks for batch with not id 1 or 3!",
+            taskService.findByQuery(fourthQuery, true).isEmpty());
+    }
+
+    @Test
+    public void shouldBuildQueryAndFindByTaskServiceByProcessProperty() throws Exception {
+        TaskService taskService = ServiceManager.getTaskService();
+
+        QueryBuilder firstQuery = filterService.queryBuilder("\"property:Korrektur notwendig:fix it\"",
+            ObjectType.TASK, false, false);
+        assertEquals("Incorrect amount of tasks for process property with title 'Korrektur notwendig' and value "
+                + "'fix it'!", 2, taskService.findByQuery(firstQuery, true).size());
+        assertEquals("Incorrect amount of searches for process property!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder secondQuery = filterService.queryBuilder("\"property:Korrektur notwendig:improved ids\"",
+            ObjectType.TASK, true, false);
+        assertEquals("Incorrect amount of open tasks for process property with title 'Korrektur notwendig' and value "
+                + "'improved ids'!", 1, taskService.findByQuery(secondQuery, true).size());
+
+        QueryBuilder thirdQuery = filterService.queryBuilder("\"property:Korrektur notwendig:unknown\"",
+            ObjectType.TASK, false, false);
+        assertTrue("Incorrect amount of tasks for process property with value 'unknown'!",
+            taskService.findByQuery(thirdQuery, true).isEmpty());
+    }
+
+    @Test
+    public void shouldBuildQueryAndFindByTaskServiceByProcessTitleAsDefault() throws Exception {
+        TaskService taskService = ServiceManager.getTaskService();
+
+        QueryBuilder firstQuery = filterService.queryBuilder("\"Second\"", ObjectType.TASK, false, false);
+        assertEquals("Incorrect amount of tasks for process with title containing 'Second'!", 2,
+            taskService.findByQuery(firstQuery, true).size());
+        assertEquals("Incorrect amount of searches for process title!", 1, filterService.getNumberOfSearches());
+
+        QueryBuilder secondQuery = filterService.queryBuilder("\"Second\" \"batch:1\"", ObjectType.TASK, false,
+            false);
+        assertTrue("Incorrect amount of tasks for process with title containing 'Second' in batch with id 1!",
+            taskService.findByQuery(secondQuery, true).isEmpty());
+        assertEquals("Incorrect amount of searches for process title and batch!", 1,
+            filterService.getNumberOfSearches());
+    }
+
     @Test
     public void shouldBuildQueryForDefaultConditions() throws Exception {
         ProcessService processService = ServiceManager.getProcessService();
@@ -0,0 +1,126 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.junit.After;
+import org.junit.Test;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.Role;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.security.SecurityUserDetails;
+import org.kitodo.production.services.ServiceManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class FilterServiceTest {
+
+    private static final FilterService filterService = ServiceManager.getFilterService();
+
+    @After
+    public void clearCache() {
+        filterService.clearQueryCache();
+        SecurityTestUtils.cleanSecurityContext();
+    }
+
+    @Test
+    public void shouldReturnCachedQueryUnaffectedByChangesOfCaller() throws Exception {
+        BoolQueryBuilder firstQuery = filterService.queryBuilder("\"id:1 2\" \"batch:3\"", ObjectType.PROCESS, false,
+            false);
+        String expected = firstQuery.toString();
+        firstQuery.mustNot(QueryBuilders.termQuery("project.active", false));
+
+        BoolQueryBuilder secondQuery = filterService.queryBuilder("\"id:1 2\" \"batch:3\"", ObjectType.PROCESS, false,
+            false);
+        assertEquals("Cached query should not contain the changes of the caller", expected, secondQuery.toString());
+    }
+
+    @Test
+    public void shouldCacheQueriesByFilterAndObjectType() throws Exception {
+        String processQuery = filterService.queryBuilder("\"id:1\"", ObjectType.PROCESS, false, false).toString();
+        String otherProcessQuery = filterService.queryBuilder("\"id:2\"", ObjectType.PROCESS, false, false)
+                .toString();
+        assertNotEquals("Queries for different filters should differ", processQuery, otherProcessQuery);
+
+        String templateQuery = filterService.queryBuilder("\"id:1\"", ObjectType.TEMPLATE, false, false).toString();
+        assertNotEquals("Queries for different object types should differ", processQuery, templateQuery);
+    }
+
+    @Test
+    public void shouldReuseCachedQuery() throws Exception {
+        QueryBuilder firstQuery = getCachedQuery("\"id:1 2\" \"batch:3\"", ObjectType.PROCESS);
+        QueryBuilder secondQuery = getCachedQuery("\"id:1 2\" \"batch:3\"", ObjectType.PROCESS);
+        assertSame("Repeated call should reuse the cached query", firstQuery, secondQuery);
+    }
+
+    @Test
+    public void shouldCacheTaskQueriesByUserAndRoles() throws Exception {
+        Role firstRole = createRole(1);
+        Role secondRole = createRole(2);
+        authenticate(createUser(1, firstRole));
+        QueryBuilder firstUserQuery = getCachedQuery("\"id:1\"", ObjectType.TASK);
+        assertSame("Query of same user should be cached", firstUserQuery, getCachedQuery("\"id:1\"", ObjectType.TASK));
+
+        authenticate(createUser(2, firstRole));
+        QueryBuilder secondUserQuery = getCachedQuery("\"id:1\"", ObjectType.TASK);
+        assertNotSame("Query of other user should not be taken from cache", firstUserQuery, secondUserQuery);
+        assertEquals("Query of other user with same roles should be equal", firstUserQuery.toString(),
+            secondUserQuery.toString());
+
+        authenticate(createUser(1, firstRole, secondRole));
+        QueryBuilder otherRolesQuery = getCachedQuery("\"id:1\"", ObjectType.TASK);
+        assertNotSame("Query for other roles should not be taken from cache", firstUserQuery, otherRolesQuery);
+        assertNotEquals("Query for other roles should differ", firstUserQuery.toString(), otherRolesQuery.toString());
+    }
+
+    @Test
+    public void shouldBuildQueryAgainAfterClearingCache() throws Exception {
+        QueryBuilder cachedQuery = getCachedQuery("\"id:1\"", ObjectType.PROCESS);
+        filterService.clearQueryCache();
+        QueryBuilder rebuiltQuery = getCachedQuery("\"id:1\"", ObjectType.PROCESS);
+        assertNotSame("Query should have been built again", cachedQuery, rebuiltQuery);
+        assertEquals("Rebuilt query should be equal", cachedQuery.toString(), rebuiltQuery.toString());
+    }
+
+    private static QueryBuilder getCachedQuery(String filter, ObjectType objectType) throws Exception {
+        return filterService.queryBuilder(filter, objectType, false, false).must().get(0);
+    }
+
+    private static Role createRole(int id) {
+        Role role = new Role();
+        role.setId(id);
+        return role;
+    }
+
+    private static User createUser(int id, Role... roles) {
+        User user = new User();
+        user.setId(id);
+        user.setRoles(Arrays.asList(roles));
+        return user;
+    }
+
+    private static void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(new SecurityUserDetails(user), null, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.kitodo.data.database.beans.FolderFingerprint;
+
+public class FolderFingerprintServiceTest {
+
+    @Test
+    public void shouldDetectChangedFolders() {
+        List<String> canonicals = Arrays.asList("00000001", "00000002", "00000003");
+        FolderFingerprint folderFingerprint = new FolderFingerprint();
+        folderFingerprint.setLastModified(1000L);
+        folderFingerprint.setEntryCount(canonicals.size());
+        folderFingerprint.setListingHash(FolderFingerprintService.hashListing(canonicals));
+
+        assertTrue("Unchanged folder was not detected!", FolderFingerprintService.isUnchanged(folderFingerprint,
+            1000L, Arrays.asList("00000003", "00000001", "00000002")));
+        assertFalse("Modified folder was not detected!",
+            FolderFingerprintService.isUnchanged(folderFingerprint, 2000L, canonicals));
+        assertFalse("Missing file was not detected!", FolderFingerprintService.isUnchanged(folderFingerprint,
+            1000L, Arrays.asList("00000001", "00000002")));
+        assertFalse("Different file was not detected!", FolderFingerprintService.isUnchanged(folderFingerprint,
+            1000L, Arrays.asList("00000001", "00000002", "00000004")));
+        assertFalse("Folder never listed was considered unchanged!",
+            FolderFingerprintService.isUnchanged(null, 1000L, canonicals));
+    }
+}
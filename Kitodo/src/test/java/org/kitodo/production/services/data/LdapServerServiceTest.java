@@ -0,0 +1,250 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.listener.SelfSignedCertificateGenerator;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSimpleBindRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.ssl.KeyStoreKeyManager;
+import com.unboundid.util.ssl.SSLUtil;
+import com.unboundid.util.ssl.TrustAllTrustManager;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Hashtable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.X509TrustManager;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.LdapGroup;
+import org.kitodo.data.database.beans.LdapServer;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.production.services.ServiceManager;
+
+public class LdapServerServiceTest {
+
+    private static final LdapServerService ldapServerService = ServiceManager.getLdapServerService();
+    private static final String USER_DN = "uid=kowal,ou=users,dc=kitodo,dc=org";
+    private static final String MANAGER_DN = "cn=manager,dc=kitodo,dc=org";
+    private static final String MANAGER_PASSWORD = "secret";
+    private static final Instant NOW = Instant.parse("2020-06-01T12:00:00Z");
+
+    private static final AtomicInteger managerBinds = new AtomicInteger();
+    private static final AtomicInteger tlsHandshakes = new AtomicInteger();
+    private static InMemoryDirectoryServer directoryServer;
+    private static SSLContext defaultSslContext;
+
+    @BeforeClass
+    public static void startDirectoryServer() throws Exception {
+        ObjectPair<File, char[]> keyStore = SelfSignedCertificateGenerator
+                .generateTemporarySelfSignedCertificate(LdapServerServiceTest.class.getSimpleName(), "JKS");
+        SSLUtil serverSslUtil = new SSLUtil(new KeyStoreKeyManager(keyStore.getFirst(), keyStore.getSecond(), "JKS",
+                null), new TrustAllTrustManager());
+
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig("dc=kitodo,dc=org");
+        config.setSchema(null);
+        config.addAdditionalBindCredentials(MANAGER_DN, MANAGER_PASSWORD);
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("LDAP", null, 0,
+            serverSslUtil.createSSLSocketFactory()));
+        config.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor() {
+            @Override
+            public void processSimpleBindRequest(InMemoryInterceptedSimpleBindRequest request) {
+                if (MANAGER_DN.equals(request.getRequest().getBindDN())) {
+                    managerBinds.incrementAndGet();
+                }
+            }
+        });
+        directoryServer = new InMemoryDirectoryServer(config);
+        directoryServer.add("dn: dc=kitodo,dc=org", "objectClass: top", "objectClass: domain", "dc: kitodo");
+        directoryServer.add("dn: ou=users,dc=kitodo,dc=org", "objectClass: top", "objectClass: organizationalUnit",
+            "ou: users");
+        directoryServer.add("dn: " + USER_DN, "objectClass: top", "objectClass: posixAccount", "uid: kowal",
+            "cn: Jan Kowalski", "uidNumber: 1001", "gidNumber: 1001", "homeDirectory: /home/kowal");
+        directoryServer.startListening();
+
+        // StartTLS is negotiated with the default socket factory
+        defaultSslContext = SSLContext.getDefault();
+        SSLContext.setDefault(new SSLUtil(new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+                // the client is not authenticated
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+                tlsHandshakes.incrementAndGet();
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        }).createSSLContext());
+    }
+
+    @AfterClass
+    public static void shutDownDirectoryServer() {
+        SSLContext.setDefault(defaultSslContext);
+        directoryServer.shutDown(true);
+    }
+
+    @After
+    public void clearCache() {
+        ldapServerService.clearAttributeCache();
+        ldapServerService.setClock(Clock.systemUTC());
+        ConfigCore.getConfig().clearProperty(ParameterCore.LDAP_USE_LOCAL_DIRECTORY.getName());
+        ConfigCore.getConfig().clearProperty(ParameterCore.LDAP_USE_TLS.getName());
+    }
+
+    @Test
+    public void shouldRequestPooledConnectionOnlyIfConfigured() {
+        LdapServer ldapServer = createLdapServer();
+        Hashtable<String, String> environment = ldapServerService.initializeWithLdapConnectionSettings(ldapServer);
+        assertFalse("Connection pool should not be used by default",
+            environment.containsKey(LdapServerService.CONNECTION_POOL));
+
+        ldapServer.setUseConnectionPool(true);
+        environment = ldapServerService.initializeWithLdapConnectionSettings(ldapServer);
+        assertEquals("Connection pool should be used", "true", environment.get(LdapServerService.CONNECTION_POOL));
+    }
+
+    @Test
+    public void shouldNotCacheAttributesIfDisabled() {
+        LdapServer ldapServer = createLdapServer();
+        ldapServerService.cacheAttribute(ldapServer, USER_DN, "homeDirectory", "/home/kowal");
+        assertNull("Attribute should not be cached",
+            ldapServerService.getCachedAttribute(ldapServer, USER_DN, "homeDirectory"));
+    }
+
+    @Test
+    public void shouldCacheAttributesForTimeToLive() {
+        LdapServer ldapServer = createLdapServer();
+        ldapServer.setAttributeCacheTtl(1);
+        ldapServerService.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        ldapServerService.cacheAttribute(ldapServer, USER_DN, "homeDirectory", "/home/kowal");
+        assertEquals("Attribute should be cached", "/home/kowal",
+            ldapServerService.getCachedAttribute(ldapServer, USER_DN, "homeDirectory"));
+        assertNull("Other attribute should not be cached",
+            ldapServerService.getCachedAttribute(ldapServer, USER_DN, "uidNumber"));
+
+        ldapServerService.setClock(Clock.fixed(NOW.plus(Duration.ofSeconds(1)), ZoneOffset.UTC));
+        assertEquals("Attribute should be cached until its time to live ends", "/home/kowal",
+            ldapServerService.getCachedAttribute(ldapServer, USER_DN, "homeDirectory"));
+
+        ldapServerService.setClock(Clock.fixed(NOW.plus(Duration.ofMillis(1001)), ZoneOffset.UTC));
+        assertNull("Attribute should have expired",
+            ldapServerService.getCachedAttribute(ldapServer, USER_DN, "homeDirectory"));
+    }
+
+    @Test
+    public void shouldConnectForEachRequestWithoutConnectionPool() {
+        ConfigCore.getConfig().setProperty(ParameterCore.LDAP_USE_LOCAL_DIRECTORY.getName(), false);
+        User user = createUser("kowal", createLdapServer());
+        int bindsBefore = managerBinds.get();
+
+        assertEquals("Wrong home directory", getLocalHomeDirectory("home/kowal"),
+            ldapServerService.getUserHomeDirectory(user));
+        assertEquals("Wrong home directory", getLocalHomeDirectory("home/kowal"),
+            ldapServerService.getUserHomeDirectory(user));
+        assertEquals("Manager should have bound for each request", 2, managerBinds.get() - bindsBefore);
+    }
+
+    @Test
+    public void shouldReuseConnectionFromConnectionPool() {
+        ConfigCore.getConfig().setProperty(ParameterCore.LDAP_USE_LOCAL_DIRECTORY.getName(), false);
+        LdapServer ldapServer = createLdapServer();
+        ldapServer.setUseConnectionPool(true);
+        User user = createUser("kowal", ldapServer);
+        int bindsBefore = managerBinds.get();
+
+        assertEquals("Wrong home directory", getLocalHomeDirectory("home/kowal"),
+            ldapServerService.getUserHomeDirectory(user));
+        assertEquals("Wrong home directory", getLocalHomeDirectory("home/kowal"),
+            ldapServerService.getUserHomeDirectory(user));
+        assertEquals("Manager should have bound only once", 1, managerBinds.get() - bindsBefore);
+    }
+
+    @Test
+    public void shouldReadHomeDirectoryWithTls() {
+        ConfigCore.getConfig().setProperty(ParameterCore.LDAP_USE_LOCAL_DIRECTORY.getName(), false);
+        ConfigCore.getConfig().setProperty(ParameterCore.LDAP_USE_TLS.getName(), true);
+        LdapServer ldapServer = createLdapServer();
+        ldapServer.setUseConnectionPool(true);
+        ldapServer.setAttributeCacheTtl(60);
+        User user = createUser("kowal", ldapServer);
+        int tlsHandshakesBefore = tlsHandshakes.get();
+
+        assertEquals("Wrong home directory", URI.create("/home/kowal"), ldapServerService.getUserHomeDirectory(user));
+        assertEquals("TLS should have been negotiated", 1, tlsHandshakes.get() - tlsHandshakesBefore);
+        assertEquals("Home directory should have been cached", "/home/kowal",
+            ldapServerService.getCachedAttribute(ldapServer, USER_DN, "homeDirectory"));
+    }
+
+    @Test
+    public void shouldUseLocalHomeDirectoryIfNotReadWithTls() {
+        ConfigCore.getConfig().setProperty(ParameterCore.LDAP_USE_LOCAL_DIRECTORY.getName(), false);
+        ConfigCore.getConfig().setProperty(ParameterCore.LDAP_USE_TLS.getName(), true);
+        LdapServer ldapServer = createLdapServer();
+        ldapServer.setAttributeCacheTtl(60);
+        User user = createUser("nowak", ldapServer);
+
+        assertEquals("Wrong home directory", getLocalHomeDirectory("nowak"),
+            ldapServerService.getUserHomeDirectory(user));
+        assertNull("Home directory should not have been cached", ldapServerService.getCachedAttribute(ldapServer,
+            "uid=nowak,ou=users,dc=kitodo,dc=org", "homeDirectory"));
+    }
+
+    private static LdapServer createLdapServer() {
+        LdapServer ldapServer = new LdapServer();
+        ldapServer.setUrl("ldap://localhost:" + directoryServer.getListenPort() + "/");
+        ldapServer.setManagerLogin(MANAGER_DN);
+        ldapServer.setManagerPassword(MANAGER_PASSWORD);
+        return ldapServer;
+    }
+
+    private static User createUser(String login, LdapServer ldapServer) {
+        LdapGroup ldapGroup = new LdapGroup();
+        ldapGroup.setUserDN("uid={login},ou=users,dc=kitodo,dc=org");
+        ldapGroup.setLdapServer(ldapServer);
+        User user = new User();
+        user.setLogin(login);
+        user.setName("Jan");
+        user.setSurname("Kowalski");
+        user.setLdapGroup(ldapGroup);
+        return user;
+    }
+
+    private static URI getLocalHomeDirectory(String path) {
+        return Paths.get(ConfigCore.getParameter(ParameterCore.DIR_USERS), path).toUri();
+    }
+}
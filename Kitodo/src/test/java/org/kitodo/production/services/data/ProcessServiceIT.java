@@ -26,6 +26,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang.SystemUtils;
 import org.elasticsearch.index.query.Operator;
@@ -451,6 +452,26 @@ public class ProcessServiceIT {
         processService.save(secondProcess);
     }
 
+    @Test
+    public void shouldGetBaseTypes() throws Exception {
+        Process process = processService.getById(1);
+        final String baseTypeOld = process.getBaseType();
+        process.setBaseType("Newspaper");
+        processService.save(process);
+        try {
+            Map<Integer, String> baseTypes = processService.getBaseTypes(Arrays.asList(1, 2, 9999));
+
+            assertEquals("Wrong number of base types!", 3, baseTypes.size());
+            assertEquals("Wrong base type of changed process!", "Newspaper", baseTypes.get(1));
+            assertEquals("Wrong base type of other process!", processService.getBaseType(2), baseTypes.get(2));
+            assertEquals("Wrong base type of process not in index!", "", baseTypes.get(9999));
+            assertTrue("Base types should be empty!", processService.getBaseTypes(Collections.emptyList()).isEmpty());
+        } finally {
+            process.setBaseType(baseTypeOld);
+            processService.save(process);
+        }
+    }
+
     @Test
     public void shouldGetProgressOpen() throws Exception {
         Process process = processService.getById(1);
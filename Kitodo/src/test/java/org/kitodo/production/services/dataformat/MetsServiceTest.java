@@ -0,0 +1,50 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.dataformat;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class MetsServiceTest {
+
+    private static final String SAVED = "<mets:mets><mets:metsHdr CREATEDATE=\"2020-01-01T10:00:00\" "
+            + "LASTMODDATE=\"2020-01-01T10:00:00\"/><mets:dmdSec ID=\"DMDLOG_0000\"/></mets:mets>";
+
+    @Test
+    public void shouldIgnoreModificationDate() {
+        String content = SAVED.replace("LASTMODDATE=\"2020-01-01T10:00:00\"",
+            "LASTMODDATE=\"2021-12-24T18:30:00.123+01:00\"");
+        assertTrue("Files differing in modification date only should be equal",
+            MetsService.equalsIgnoringModificationDate(bytes(SAVED), bytes(content)));
+    }
+
+    @Test
+    public void shouldNotIgnoreOtherChanges() {
+        String changedCreationDate = SAVED.replace("CREATEDATE=\"2020", "CREATEDATE=\"2019");
+        assertFalse("Changed creation date should be detected",
+            MetsService.equalsIgnoringModificationDate(bytes(SAVED), bytes(changedCreationDate)));
+        String changedContent = SAVED.replace("DMDLOG_0000", "DMDLOG_0001");
+        assertFalse("Changed content should be detected",
+            MetsService.equalsIgnoringModificationDate(bytes(SAVED), bytes(changedContent)));
+        String missingDate = SAVED.replace(" LASTMODDATE=\"2020-01-01T10:00:00\"", "");
+        assertFalse("Removed modification date should be detected",
+            MetsService.equalsIgnoringModificationDate(bytes(SAVED), bytes(missingDate)));
+    }
+
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+}
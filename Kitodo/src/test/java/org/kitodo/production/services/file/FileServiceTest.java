@@ -20,7 +20,12 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.SystemUtils;
 import org.apache.logging.log4j.LogManager;
@@ -29,11 +34,18 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.kitodo.ExecutionPermission;
+import org.kitodo.api.command.CommandResult;
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.exceptions.CommandException;
+import org.kitodo.production.services.ServiceManager;
 
 public class FileServiceTest {
 
@@ -72,6 +84,89 @@ public class FileServiceTest {
         assertTrue("Directory was not created!", file.exists());
     }
 
+    @Test
+    public void shouldCreateSeveralDirectoriesWithOneScriptCall() throws IOException {
+        assumeTrue(!SystemUtils.IS_OS_WINDOWS && !SystemUtils.IS_OS_MAC);
+
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        File parent = new File(ConfigCore.getKitodoDataDirectory(), "fileServiceTest/severalDirectories");
+        File child = new File(parent, "child");
+        ExecutionPermission.setExecutePermission(script);
+        CommandResult commandResult = ServiceManager.getCommandService().runCommand(script,
+            Arrays.asList(parent.getAbsolutePath(), child.getAbsolutePath()));
+        ExecutionPermission.setNoExecutePermission(script);
+
+        assertTrue("Script was not successful!", commandResult.isSuccessful());
+        assertTrue("Parent directory was not created!", parent.isDirectory());
+        assertTrue("Child directory was not created!", child.isDirectory());
+    }
+
+    @Test
+    public void shouldCreateProcessLocations() throws IOException, CommandException {
+        assumeTrue(!SystemUtils.IS_OS_WINDOWS && !SystemUtils.IS_OS_MAC);
+
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        ExecutionPermission.setExecutePermission(script);
+        try {
+            assertProcessLocationsCreated(9877, 9878);
+        } finally {
+            ExecutionPermission.setNoExecutePermission(script);
+        }
+    }
+
+    @Test
+    public void shouldCreateProcessLocationsWithSingleArgumentScript() throws IOException, CommandException {
+        assumeTrue(!SystemUtils.IS_OS_WINDOWS && !SystemUtils.IS_OS_MAC);
+
+        String scriptParameter = ConfigCore.getConfig().getString(ParameterCore.SCRIPT_CREATE_DIR_META.getName());
+        ConfigCore.getConfig().setProperty(ParameterCore.SCRIPT_CREATE_DIR_META.getName(),
+            "src/test/resources/scripts/script_createDirMeta_single.sh");
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        ExecutionPermission.setExecutePermission(script);
+        try {
+            assertProcessLocationsCreated(9879, 9880);
+        } finally {
+            ExecutionPermission.setNoExecutePermission(script);
+            ConfigCore.getConfig().setProperty(ParameterCore.SCRIPT_CREATE_DIR_META.getName(), scriptParameter);
+        }
+    }
+
+    private static void assertProcessLocationsCreated(int... processIds) throws IOException, CommandException {
+        Project project = new Project();
+        Folder scans = createFolder("LOCAL", "images" + File.separator + "scans", "image/tiff");
+        scans.setCreateFolder(true);
+        project.getFolders().add(scans);
+        Folder ocr = createFolder("FULLTEXT", "ocr", "text/xml");
+        ocr.setCreateFolder(false);
+        project.getFolders().add(ocr);
+        List<Process> processes = new ArrayList<>();
+        for (int processId : processIds) {
+            Process process = new Process();
+            process.setId(processId);
+            process.setTitle("Process" + processId);
+            process.setProject(project);
+            processes.add(process);
+        }
+        try {
+            List<URI> processLocations = fileService.createProcessLocations(processes);
+
+            assertEquals("Wrong number of process locations!", processIds.length, processLocations.size());
+            for (int i = 0; i < processIds.length; i++) {
+                URI processLocation = URI.create(processIds[i] + "/");
+                assertEquals("Wrong process location!", processLocation, processLocations.get(i));
+                assertTrue("Process directory was not created!", fileService.isDirectory(processLocation));
+                assertTrue("Subfolder was not created!",
+                    fileService.isDirectory(URI.create(processIds[i] + "/images/scans")));
+                assertFalse("Folder without createFolder was created!",
+                    fileService.fileExist(URI.create(processIds[i] + "/ocr")));
+            }
+        } finally {
+            for (int processId : processIds) {
+                fileService.delete(URI.create(Integer.toString(processId)));
+            }
+        }
+    }
+
     @Test
     public void testCreateDirectory() throws IOException {
         URI testMetaUri = fileService.createDirectory(URI.create("fileServiceTest"), "testMeta");
@@ -519,14 +614,16 @@ public class FileServiceTest {
         assertTrue(fileService.fileExist(URI.create("12/meta.xml.1")));
         assertFalse(fileService.fileExist(URI.create("12/meta.xml.2")));
 
-        fileService.createResource(URI.create("12"), "meta.xml");
+        fileService.writeAtomically(URI.create("12/meta.xml"),
+            String.valueOf(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
         fileService.createBackupFile(process);
 
         assertTrue(fileService.fileExist(URI.create("12/meta.xml.1")));
         assertTrue(fileService.fileExist(URI.create("12/meta.xml.2")));
 
         // No third backup file is created, when numberOfBackups is set to two
-        fileService.createResource(URI.create("12"), "meta.xml");
+        fileService.writeAtomically(URI.create("12/meta.xml"),
+            String.valueOf(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
         fileService.createBackupFile(process);
 
         assertTrue(fileService.fileExist(URI.create("12/meta.xml.1")));
@@ -592,4 +689,60 @@ public class FileServiceTest {
         fileService.delete(symLinkTarget);
     }
 
+    @Test
+    public void shouldSearchForMediaInLargeFolders() throws Exception {
+        final int numberOfFiles = 10000;
+        Process process = new Process();
+        process.setId(9876);
+        process.setProcessBaseUri(URI.create("9876"));
+        Project project = new Project();
+        project.getFolders().add(createFolder("LOCAL", "images", "image/tiff"));
+        project.getFolders().add(createFolder("DEFAULT", "jpgs", "image/jpeg"));
+        process.setProject(project);
+        URI processDirectory = fileService.createDirectory(URI.create(""), "9876");
+        URI images = fileService.createDirectory(processDirectory, "images");
+        URI jpgs = fileService.createDirectory(processDirectory, "jpgs");
+        Workpiece workpiece = new Workpiece();
+        try {
+            for (int i = 1; i <= numberOfFiles; i++) {
+                String canonical = String.format("%08d", i);
+                fileService.createResource(images, canonical + ".tif");
+                fileService.createResource(jpgs, canonical + ".jpg");
+                if (i % 2 == 0) {
+                    MediaUnit mediaUnit = new MediaUnit();
+                    mediaUnit.setType(MediaUnit.TYPE_PAGE);
+                    mediaUnit.setOrder(i / 2);
+                    MediaVariant mediaVariant = new MediaVariant();
+                    mediaVariant.setUse("LOCAL");
+                    mediaVariant.setMimeType("image/tiff");
+                    mediaUnit.getMediaFiles().put(mediaVariant, URI.create("images/" + canonical + ".tif"));
+                    workpiece.getMediaUnit().getChildren().add(mediaUnit);
+                }
+            }
+
+            long begin = System.nanoTime();
+            fileService.searchForMedia(process, workpiece);
+            logger.info("Searching for media in {} files took {} ms", 2 * numberOfFiles,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+
+            List<MediaUnit> mediaUnits = workpiece.getMediaUnit().getChildren();
+            assertEquals("Not all media were added!", numberOfFiles, mediaUnits.size());
+            for (int i = 0; i < numberOfFiles; i++) {
+                MediaUnit mediaUnit = mediaUnits.get(i);
+                assertEquals("Media unit is missing a variant!", 2, mediaUnit.getMediaFiles().size());
+                assertTrue("Media unit is out of order!", mediaUnit.getMediaFiles().values()
+                        .contains(URI.create(String.format("jpgs/%08d.jpg", i + 1))));
+            }
+        } finally {
+            fileService.delete(processDirectory);
+        }
+    }
+
+    private static Folder createFolder(String fileGroup, String path, String mimeType) {
+        Folder folder = new Folder();
+        folder.setFileGroup(fileGroup);
+        folder.setPath(path);
+        folder.setMimeType(mimeType);
+        return folder;
+    }
 }
@@ -13,6 +13,8 @@ package org.kitodo.production.services.security;
 
 import java.util.Collection;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -24,10 +26,14 @@ import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.production.services.ServiceManager;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 public class SecurityAccessServiceIT {
 
+    private static final Logger logger = LogManager.getLogger(SecurityAccessServiceIT.class);
+    private static final int CHECKS = 1_000_000;
+
     @BeforeClass
     public static void setUp() throws Exception {
         MockDatabase.startNode();
@@ -70,4 +76,47 @@ public class SecurityAccessServiceIT {
         Assert.assertTrue("Checking if user has edit project authority for first client returned wrong value",
             ServiceManager.getSecurityAccessService().hasAuthorityForClient("editProject"));
     }
+
+    @Test
+    public void shouldCompileAuthoritiesOnce() throws DAOException {
+        User user = ServiceManager.getUserService().getByLogin("kowal");
+        SecurityTestUtils.addUserDataToSecurityContext(user, 1);
+        SecurityAccessService securityAccessService = ServiceManager.getSecurityAccessService();
+        Assert.assertSame("Compiled authorities were not kept with the authenticated user",
+            securityAccessService.getAuthorityBitSets(), securityAccessService.getAuthorityBitSets());
+    }
+
+    /**
+     * Measures the cost of one check as done by JSF pages, compared to
+     * looking up the authority string in the granted authorities.
+     */
+    @Test
+    public void shouldCheckAuthoritiesFast() throws DAOException {
+        User user = ServiceManager.getUserService().getByLogin("kowal");
+        SecurityTestUtils.addUserDataToSecurityContext(user, 1);
+        SecurityAccessService securityAccessService = ServiceManager.getSecurityAccessService();
+        Collection<? extends GrantedAuthority> authorities = SecurityContextHolder.getContext().getAuthentication()
+                .getAuthorities();
+        int clientId = securityAccessService.getClientId();
+        int granted = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < CHECKS; i++) {
+            if (authorities.contains(new SimpleGrantedAuthority("editProject_CLIENT_" + clientId))) {
+                granted++;
+            }
+        }
+        long stringLookup = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < CHECKS; i++) {
+            if (securityAccessService.hasAuthorityForClient("editProject")) {
+                granted++;
+            }
+        }
+        long bitSetLookup = System.nanoTime() - start;
+
+        Assert.assertEquals("Authority was not granted on every check", 2 * CHECKS, granted);
+        logger.info("Authority check: {} ns with string lookup, {} ns with bit sets", stringLookup / CHECKS,
+            bitSetLookup / CHECKS);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.api.validation.State;
+import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.production.helper.Helper;
+import org.kitodo.production.services.ServiceManager;
+
+public class MetadataValidationServiceIT {
+
+    private static final MetadataValidationService metadataValidationService = ServiceManager
+            .getMetadataValidationService();
+
+    @BeforeClass
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+        SecurityTestUtils.cleanSecurityContext();
+    }
+
+    @After
+    public void resetMetadataValidationThreads() {
+        ConfigCore.getConfig().clearProperty(ParameterCore.METADATA_VALIDATION_THREADS.getName());
+    }
+
+    @Test
+    public void shouldValidateSeveralProcessesConcurrently() throws Exception {
+        ConfigCore.getConfig().setProperty(ParameterCore.METADATA_VALIDATION_THREADS.getName(), 2);
+        Process withMetadata = ServiceManager.getProcessService().getById(2);
+        List<Process> processes = Arrays.asList(ServiceManager.getProcessService().getById(1), withMetadata,
+            ServiceManager.getProcessService().getById(3));
+
+        Map<Process, ValidationResult> results = metadataValidationService.validate(processes);
+
+        assertEquals("Not every process was validated in the order given", processes,
+            new ArrayList<>(results.keySet()));
+        ValidationResult expected = metadataValidationService.validate(
+            ServiceManager.getMetsService().loadWorkpiece(
+                ServiceManager.getProcessService().getMetadataFileUri(withMetadata)),
+            ServiceManager.getRulesetService().openRuleset(withMetadata.getRuleset()));
+        assertEquals("Wrong state of concurrently validated process", expected.getState(),
+            results.get(withMetadata).getState());
+        assertEquals("Wrong messages of concurrently validated process", expected.getResultMessages(),
+            results.get(withMetadata).getResultMessages());
+        assertFalse("Metadata of process should have been read", results.get(withMetadata).getResultMessages()
+                .contains(getReadError(withMetadata)));
+    }
+
+    @Test
+    public void shouldReportReadErrorForMissingMetadataFile() throws Exception {
+        Process withoutMetadata = ServiceManager.getProcessService().getById(1);
+        Process withMetadata = ServiceManager.getProcessService().getById(2);
+
+        Map<Process, ValidationResult> results = metadataValidationService.validate(Arrays.asList(withoutMetadata,
+            withMetadata));
+
+        assertEquals("Processes should be reported in the order given", Arrays.asList(withoutMetadata,
+            withMetadata), new ArrayList<>(results.keySet()));
+        ValidationResult readError = results.get(withoutMetadata);
+        assertEquals("Missing metadata file should be an error", State.ERROR, readError.getState());
+        assertEquals("Missing metadata file should be reported as read error",
+            Collections.singletonList(getReadError(withoutMetadata)), new ArrayList<>(readError.getResultMessages()));
+        assertFalse("Read error of one process should not affect the others", results.get(withMetadata)
+                .getResultMessages().contains(getReadError(withMetadata)));
+    }
+
+    @Test
+    public void shouldValidateNoProcesses() {
+        assertTrue("Nothing should have been validated",
+            metadataValidationService.validate(Collections.emptyList()).isEmpty());
+    }
+
+    private static String getReadError(Process process) {
+        return Helper.getTranslation("metadataReadError", Collections.singletonList(process.getTitle()));
+    }
+}
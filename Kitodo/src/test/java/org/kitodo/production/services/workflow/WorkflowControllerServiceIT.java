@@ -19,6 +19,8 @@ import static org.junit.Assume.assumeTrue;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -38,6 +40,7 @@ import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.WorkflowCondition;
 import org.kitodo.data.database.enums.CommentType;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
@@ -126,6 +129,55 @@ public class WorkflowControllerServiceIT {
         }
     }
 
+    @Test
+    public void shouldSetTaskStatusUpForProcesses() throws Exception {
+        Process process = ServiceManager.getProcessService().getById(1);
+
+        workflowService.setTaskStatusUpForProcesses(Collections.singletonList(process));
+        Task task = taskService.getById(9);
+        assertEquals("Task '" + task.getTitle() + "' status was not set up!", TaskStatus.INWORK,
+            task.getProcessingStatus());
+        task = taskService.getById(10);
+        assertEquals("Task '" + task.getTitle() + "' status should not be set up!", TaskStatus.LOCKED,
+            task.getProcessingStatus());
+        assertEquals("Processes should be indexed after bulk transition!", IndexAction.DONE,
+            ServiceManager.getProcessService().getById(1).getIndexAction());
+    }
+
+    @Test
+    public void shouldNotWriteFailedProcessesOfBulkTransition() throws Exception {
+        Process failingProcess = new Process();
+        failingProcess.setTitle("FailingProcess");
+        failingProcess.setProcessBaseUri(URI.create("missing"));
+        ServiceManager.getProcessService().save(failingProcess);
+        WorkflowCondition workflowCondition = new WorkflowCondition("xpath", "/mets:nothing");
+        ServiceManager.getWorkflowConditionService().saveToDatabase(workflowCondition);
+        Task taskToClose = createAndSaveTask(TaskStatus.INWORK, 1, failingProcess, null);
+        Task taskWithCondition = createAndSaveTask(TaskStatus.LOCKED, 2, failingProcess, workflowCondition);
+        failingProcess.getTasks().add(taskToClose);
+        failingProcess.getTasks().add(taskWithCondition);
+        ServiceManager.getProcessService().save(failingProcess);
+        Process process = ServiceManager.getProcessService().getById(1);
+
+        // the condition of the next task cannot be evaluated without meta.xml
+        workflowService.setTaskStatusUpForProcesses(Arrays.asList(failingProcess, process));
+
+        assertEquals("Task '" + taskToClose.getTitle() + "' of failed process should not have been closed!",
+            TaskStatus.INWORK, taskService.getById(taskToClose.getId()).getProcessingStatus());
+        assertEquals("Task '" + taskToClose.getTitle() + "' of failed process should have been rolled back!",
+            TaskStatus.INWORK, taskToClose.getProcessingStatus());
+        assertEquals("Task '" + taskWithCondition.getTitle() + "' of failed process should not have been changed!",
+            TaskStatus.LOCKED, taskService.getById(taskWithCondition.getId()).getProcessingStatus());
+        Task task = taskService.getById(9);
+        assertEquals("Task '" + task.getTitle() + "' status was not set up!", TaskStatus.INWORK,
+            task.getProcessingStatus());
+        assertEquals("Processes should be indexed after bulk transition!", IndexAction.DONE,
+            ServiceManager.getProcessService().getById(1).getIndexAction());
+
+        failingProcess.getTasks().clear();
+        ServiceManager.getProcessService().remove(failingProcess);
+    }
+
     @Test
     public void shouldSetTasksStatusDown() throws Exception {
         Process process = ServiceManager.getProcessService().getById(1);
@@ -0,0 +1,73 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class XPathConditionEvaluatorTest {
+
+    private static final String TEST_FILE = "src/test/resources/metadata/testmeta.xml";
+
+    private static final List<String> STREAMABLE_XPATHS = Arrays.asList("/mets:mets",
+        "/mets:mets/mets:dmdSec", "/mets:nothing", "//kitodo:metadata[@name='TitleDocMain']",
+        "//kitodo:metadata[@name='NotExisting']", "//mets:xmlData//kitodo:metadata[@name=\"typDisplayForm\"]",
+        "/mets:mets/mets:dmdSec/kitodo:kitodo", "//mets:mdWrap/*/kitodo:kitodo[@version='1.0']",
+        "/kitodo:kitodo", "//mets:fileGrp[@USE='LOCAL']/mets:file");
+
+    @Test
+    public void shouldRecognizeStreamableXPaths() {
+        for (String xpath : STREAMABLE_XPATHS) {
+            assertTrue(xpath, XPathConditionEvaluator.isStreamable(xpath));
+        }
+        assertFalse(XPathConditionEvaluator.isStreamable("count(//mets:file) > 1"));
+        assertFalse(XPathConditionEvaluator.isStreamable("//kitodo:metadata[text()='Test Publisher']"));
+        assertFalse(XPathConditionEvaluator.isStreamable("//unknown:element"));
+    }
+
+    @Test
+    public void shouldEvaluateStreamingLikeDocument() throws IOException {
+        Map<String, Boolean> streamed = evaluate(STREAMABLE_XPATHS);
+        for (String xpath : STREAMABLE_XPATHS) {
+            // the non-streamable expression forces evaluation on the document
+            Map<String, Boolean> parsed = evaluate(Arrays.asList(xpath, "//mets:file[1]"));
+            assertEquals(xpath, parsed.get(xpath), streamed.get(xpath));
+        }
+        assertTrue(streamed.get("//kitodo:metadata[@name='TitleDocMain']"));
+        assertTrue(streamed.get("//mets:mdWrap/*/kitodo:kitodo[@version='1.0']"));
+        assertFalse(streamed.get("/mets:nothing"));
+        assertFalse(streamed.get("/mets:mets/mets:dmdSec/kitodo:kitodo"));
+    }
+
+    @Test
+    public void shouldEvaluateXPathOnDocument() throws IOException {
+        String xpath = "//kitodo:metadata[text()='Test Publisher']";
+        assertTrue(evaluate(Collections.singletonList(xpath)).get(xpath));
+    }
+
+    private Map<String, Boolean> evaluate(List<String> xpaths) throws IOException {
+        try (InputStream inputStream = new FileInputStream(TEST_FILE)) {
+            return XPathConditionEvaluator.evaluate(inputStream, xpaths);
+        }
+    }
+}
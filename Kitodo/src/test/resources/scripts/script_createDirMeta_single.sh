@@ -0,0 +1,20 @@
+#!/bin/sh
+#
+# (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+#
+# This file is part of the Kitodo project.
+#
+# It is licensed under GNU General Public License version 3 or later.
+#
+# For the full copyright and license information, please read the
+# GPL3-License.txt file that was distributed with this source code.
+#
+
+#
+# Note: Ensure that Tomcat has permission to execute the given commands.
+#
+# Creates only the first directory given, like scripts written before
+# several directories could be passed at once.
+#
+
+/bin/mkdir -vm 0775 "$1"